@@ -0,0 +1,39 @@
+package com.knu.ddip.auth.business.service;
+
+import com.knu.ddip.auth.domain.Token;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 수행되는 토큰 검증, 정상/서명 위조/형식 오류 토큰별 측정
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtFactoryBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+
+    @Param({"valid", "tampered", "malformed"})
+    private String tokenKind;
+
+    private JwtFactory jwtFactory;
+    private String tokenValue;
+
+    @Setup
+    public void setUp() {
+        jwtFactory = new JwtFactory(SECRET);
+        String valid = jwtFactory.createAccessToken(UUID.randomUUID()).getValue();
+        tokenValue = switch (tokenKind) {
+            case "valid" -> valid;
+            case "tampered" -> valid.substring(0, valid.length() - 2) + (valid.endsWith("AA") ? "BB" : "AA");
+            default -> "not-a-jwt";
+        };
+    }
+
+    @Benchmark
+    public Optional<Token> parseToken() {
+        return jwtFactory.parseToken(tokenValue);
+    }
+}
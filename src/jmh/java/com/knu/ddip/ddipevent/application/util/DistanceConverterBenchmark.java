@@ -0,0 +1,44 @@
+package com.knu.ddip.ddipevent.application.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 두 지점 사이 거리 계산, 지점 간 대략적인 거리(m)별 측정
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DistanceConverterBenchmark {
+
+    private static final int POINTS = 1024;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    @Param({"10", "1000", "100000"})
+    private double distanceMeters;
+
+    private final DistanceConverter distanceConverter = new DistanceConverter();
+
+    private double[] lats;
+    private double[] lngs;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        double spread = distanceMeters / METERS_PER_DEGREE;
+        lats = new double[POINTS];
+        lngs = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            lats[i] = 35.8886597 + (random.nextDouble() - 0.5) * spread;
+            lngs[i] = 128.612138 + (random.nextDouble() - 0.5) * spread;
+        }
+    }
+
+    @Benchmark
+    public double haversineMeters() {
+        int i = index;
+        index = (index + 1) & (POINTS - 1);
+        return distanceConverter.haversineMeters(lats[i], lngs[i], lats[index], lngs[index]);
+    }
+}
@@ -0,0 +1,69 @@
+package com.knu.ddip.ddipevent.infrastructure;
+
+import com.knu.ddip.ddipevent.domain.*;
+import com.knu.ddip.ddipevent.infrastructure.entity.DdipEventEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 띱 도메인 <-> 엔티티 변환, 사진/지원자 개수별 측정 (진행 기록은 애그리거트에서 분리됨)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DdipMapperBenchmark {
+
+    @Param({"0", "5", "20"})
+    private int childCount;
+
+    private final DdipMapper ddipMapper = new DdipMapper();
+
+    private DdipEvent domain;
+    private DdipEventEntity entity;
+
+    @Setup
+    public void setUp() {
+        List<Photo> photos = new ArrayList<>();
+        List<UUID> applicants = new ArrayList<>();
+        for (int i = 0; i < childCount; i++) {
+            photos.add(Photo.builder()
+                    .photoId(UUID.randomUUID())
+                    .photoUrl("https://example.com/photo/" + i + ".jpg")
+                    .latitude(35.8886597)
+                    .longitude(128.612138)
+                    .timestamp(Instant.now())
+                    .status(PhotoStatus.PENDING)
+                    .build());
+            applicants.add(UUID.randomUUID());
+        }
+
+        domain = DdipEvent.builder()
+                .id(UUID.randomUUID())
+                .title("title")
+                .content("content")
+                .requesterId(UUID.randomUUID())
+                .reward(1000)
+                .latitude(35.8886597)
+                .longitude(128.612138)
+                .createdAt(Instant.now())
+                .status(DdipStatus.OPEN)
+                .applicants(applicants)
+                .photos(photos)
+                .difficulty(1)
+                .build();
+        entity = ddipMapper.toEntity(domain);
+    }
+
+    @Benchmark
+    public DdipEventEntity toEntity() {
+        return ddipMapper.toEntity(domain);
+    }
+
+    @Benchmark
+    public DdipEvent toDomain() {
+        return ddipMapper.toDomain(entity);
+    }
+}
@@ -0,0 +1,61 @@
+package com.knu.ddip.location.application.util;
+
+import com.google.common.geometry.S2CellId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 위경도 -> 레벨 17 셀 변환, 좌표가 퍼진 범위(위경도)별 측정
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class S2ConverterBenchmark {
+
+    private static final int POINTS = 1024;
+
+    @Param({"0.001", "0.01", "1.0"})
+    private double spread;
+
+    private final S2Converter s2Converter = new S2Converter();
+
+    private double[] lats;
+    private double[] lngs;
+    private String[] tokens;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        lats = new double[POINTS];
+        lngs = new double[POINTS];
+        tokens = new String[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            lats[i] = 35.8886597 + (random.nextDouble() - 0.5) * spread;
+            lngs[i] = 128.612138 + (random.nextDouble() - 0.5) * spread;
+            tokens[i] = s2Converter.toCellIdString(lats[i], lngs[i]);
+        }
+    }
+
+    @Benchmark
+    public S2CellId toCellId() {
+        int i = next();
+        return s2Converter.toCellId(lats[i], lngs[i]);
+    }
+
+    @Benchmark
+    public String toCellIdString() {
+        int i = next();
+        return s2Converter.toCellIdString(lats[i], lngs[i]);
+    }
+
+    @Benchmark
+    public String toParentCellIdString() {
+        return s2Converter.toParentCellIdString(tokens[next()], 13);
+    }
+
+    private int next() {
+        index = (index + 1) & (POINTS - 1);
+        return index;
+    }
+}
@@ -0,0 +1,72 @@
+package com.knu.ddip.location.application.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 유저 id 인코딩/디코딩, batchSize는 한 번의 셀 조회에서 처리하는 유저 수
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UuidBase64UtilsBenchmark {
+
+    @Param({"1", "64"})
+    private int batchSize;
+
+    private UUID[] uuids;
+    private String[] encoded;
+    private byte[][] encodedBytes;
+    private byte[][] rawBytes;
+
+    @Setup
+    public void setUp() {
+        uuids = new UUID[batchSize];
+        encoded = new String[batchSize];
+        encodedBytes = new byte[batchSize][];
+        rawBytes = new byte[batchSize][];
+        for (int i = 0; i < batchSize; i++) {
+            uuids[i] = UUID.randomUUID();
+            encoded[i] = UuidBase64Utils.uuidToBase64String(uuids[i]);
+            encodedBytes[i] = encoded[i].getBytes(StandardCharsets.UTF_8);
+            rawBytes[i] = UuidBase64Utils.uuidToBytes(uuids[i]);
+        }
+    }
+
+    @Benchmark
+    public void uuidToBase64String(Blackhole bh) {
+        for (UUID uuid : uuids) {
+            bh.consume(UuidBase64Utils.uuidToBase64String(uuid));
+        }
+    }
+
+    @Benchmark
+    public void base64StringToUuid(Blackhole bh) {
+        for (String value : encoded) {
+            bh.consume(UuidBase64Utils.base64StringToUuid(value));
+        }
+    }
+
+    @Benchmark
+    public void base64BytesToUuid(Blackhole bh) {
+        for (byte[] value : encodedBytes) {
+            bh.consume(UuidBase64Utils.base64BytesToUuid(value));
+        }
+    }
+
+    @Benchmark
+    public void uuidToBytes(Blackhole bh) {
+        for (UUID uuid : uuids) {
+            bh.consume(UuidBase64Utils.uuidToBytes(uuid));
+        }
+    }
+
+    @Benchmark
+    public void bytesToUuid(Blackhole bh) {
+        for (byte[] value : rawBytes) {
+            bh.consume(UuidBase64Utils.bytesToUuid(value));
+        }
+    }
+}
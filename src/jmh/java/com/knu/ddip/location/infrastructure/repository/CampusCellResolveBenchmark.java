@@ -0,0 +1,92 @@
+package com.knu.ddip.location.infrastructure.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.geometry.*;
+import com.knu.ddip.location.infrastructure.registry.CampusCellRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.knu.ddip.location.application.service.LocationService.KNU_GEOJSON_FEATURE_FILENAME;
+import static com.knu.ddip.location.application.util.S2Constants.LEVEL;
+
+// 화면 범위 -> 경북대 레벨 17 셀 조회: 자식 셀 전개(기존) vs id 구간 이진 탐색
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CampusCellResolveBenchmark {
+
+    // 일청담 중심 화면 한 변의 길이 (위경도)
+    @Param({"0.002", "0.01", "0.05"})
+    private double span;
+
+    private CampusCellRegistry registry;
+    private LocationReaderImpl locationReader;
+    private S2LatLngRect rect;
+
+    @Setup
+    public void setUp() throws IOException {
+        registry = new CampusCellRegistry();
+        registry.replaceAll(loadCampusCellIds());
+        locationReader = new LocationReaderImpl(null, null, registry, null);
+
+        double lat = 35.8886597;
+        double lng = 128.612138;
+        rect = S2LatLngRect.fromPointPair(
+                S2LatLng.fromDegrees(lat - span / 2, lng - span / 2),
+                S2LatLng.fromDegrees(lat + span / 2, lng + span / 2)
+        );
+    }
+
+    @Benchmark
+    public List<String> expandChildren() {
+        S2RegionCoverer coverer = S2RegionCoverer.builder()
+                .setMinLevel(LEVEL)
+                .setMaxLevel(LEVEL)
+                .build();
+
+        S2CellUnion union = new S2CellUnion();
+        coverer.getCovering(rect, union);
+
+        List<String> cellIds = new ArrayList<>();
+        for (S2CellId cid : union.cellIds()) {
+            if (cid.level() == LEVEL) {
+                cellIds.add(cid.toToken());
+            } else if (cid.level() < LEVEL) {
+                S2CellId end = cid.childEnd(LEVEL);
+                for (S2CellId it = cid.childBegin(LEVEL); !it.equals(end); it = it.next()) {
+                    cellIds.add(it.toToken());
+                }
+            } else {
+                cellIds.add(cid.parent(LEVEL).toToken());
+            }
+        }
+
+        List<String> result = new ArrayList<>();
+        for (String cellId : cellIds) {
+            if (registry.contains(cellId)) {
+                result.add(cellId);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> rangeSearch() {
+        return locationReader.findCampusCellIdsInRect(rect, LEVEL);
+    }
+
+    private List<String> loadCampusCellIds() throws IOException {
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream(KNU_GEOJSON_FEATURE_FILENAME)) {
+            JsonNode features = new ObjectMapper().readTree(is).get("features");
+            List<String> cellIds = new ArrayList<>();
+            features.forEach(feature -> cellIds.add(feature.get("properties").get("id").asText()));
+            return cellIds;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.knu.ddip.common.exception;
 import com.knu.ddip.auth.exception.*;
 import com.knu.ddip.common.file.FileStorageException;
 import com.knu.ddip.ddipevent.exception.DdipBadRequestException;
+import com.knu.ddip.ddipevent.exception.DdipConflictException;
 import com.knu.ddip.ddipevent.exception.DdipForbiddenException;
 import com.knu.ddip.ddipevent.exception.DdipNotFoundException;
 import com.knu.ddip.location.exception.LocationNotFoundException;
@@ -106,6 +107,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(problemDetail);
     }
 
+    @ExceptionHandler(DdipConflictException.class)
+    public ResponseEntity<ProblemDetail> handleDdipConflictException(DdipConflictException e) {
+
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+        problemDetail.setTitle("DDIP event Conflict");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problemDetail);
+    }
+
     @ExceptionHandler(UserEmailDuplicateException.class)
     public ResponseEntity<ProblemDetail> handleUserEmailDuplicateException(UserEmailDuplicateException e) {
 
@@ -2,11 +2,30 @@ package com.knu.ddip.common.file;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Optional;
+
 public interface FileStorageService {
 
     String uploadFile(MultipartFile file, String directory);
 
+    // 요청 본문을 그대로 흘려보내는 업로드, 파일 전체를 메모리나 임시 파일에 담지 않음
+    String uploadStream(InputStream inputStream, String contentType, String directory);
+
+    // 이미 메모리에 있는 작은 파일, 크기를 알고 있어서 스트리밍용 파트 버퍼 없이 한 번에 전송
+    String uploadBytes(byte[] bytes, String contentType, String directory);
+
     void deleteFile(String fileUrl);
 
+    // 저장된 파일 내용, 호출한 쪽에서 닫아야 함
+    InputStream openFile(String fileUrl);
+
     boolean exists(String fileUrl);
+
+    // 클라이언트가 저장소에 직접 올릴 PUT URL, contentType과 contentLength가 서명에 포함되어 다른 값으로는 올릴 수 없음
+    PresignedUpload createPresignedUpload(String key, String contentType, long contentLength, Duration expiresIn);
+
+    // 저장된 파일의 메타데이터, 없으면 empty
+    Optional<StoredFile> findFile(String key);
 }
@@ -0,0 +1,12 @@
+package com.knu.ddip.common.file;
+
+import java.time.Instant;
+
+// uploadUrl로 PUT 하면 key에 저장되고, 저장된 파일은 fileUrl로 접근
+public record PresignedUpload(
+        String uploadUrl,
+        String key,
+        String fileUrl,
+        Instant expiresAt
+) {
+}
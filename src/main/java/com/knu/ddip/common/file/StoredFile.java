@@ -0,0 +1,9 @@
+package com.knu.ddip.common.file;
+
+public record StoredFile(
+        String key,
+        String fileUrl,
+        long contentLength,
+        String contentType
+) {
+}
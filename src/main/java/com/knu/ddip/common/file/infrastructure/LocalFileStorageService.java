@@ -0,0 +1,146 @@
+package com.knu.ddip.common.file.infrastructure;
+
+import com.knu.ddip.common.file.FileStorageException;
+import com.knu.ddip.common.file.FileStorageService;
+import com.knu.ddip.common.file.PresignedUpload;
+import com.knu.ddip.common.file.StoredFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+// 로컬 실행과 테스트용 S3 대용, rootDir 아래에 key 경로 그대로 저장
+// presigned URL은 저장될 파일의 file: URI (서명 없음), 여기에 직접 쓰면 업로드된 것으로 봄
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local")
+public class LocalFileStorageService implements FileStorageService {
+
+    private final Path rootDir;
+
+    public LocalFileStorageService(@Value("${file.storage.local.root-dir:${java.io.tmpdir}/ddip-files}") String rootDir) {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String directory) {
+        String key = directory + "/" + UUID.randomUUID() + extensionOf(file.getOriginalFilename());
+        Path path = pathOf(key);
+        try (InputStream in = file.getInputStream()) {
+            Files.createDirectories(path.getParent());
+            Files.copy(in, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new FileStorageException("파일 업로드에 실패했습니다: " + e.getMessage());
+        }
+        return path.toUri().toString();
+    }
+
+    @Override
+    public String uploadStream(InputStream inputStream, String contentType, String directory) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new FileStorageException("이미지 파일만 업로드 가능합니다.");
+        }
+        String key = directory + "/" + UUID.randomUUID() + "." + contentType.substring("image/".length());
+        Path path = pathOf(key);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new FileStorageException("파일 업로드에 실패했습니다: " + e.getMessage());
+        }
+        return path.toUri().toString();
+    }
+
+    @Override
+    public String uploadBytes(byte[] bytes, String contentType, String directory) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new FileStorageException("이미지 파일만 업로드 가능합니다.");
+        }
+        String key = directory + "/" + UUID.randomUUID() + "." + contentType.substring("image/".length());
+        Path path = pathOf(key);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(path, bytes);
+        } catch (IOException e) {
+            throw new FileStorageException("파일 업로드에 실패했습니다: " + e.getMessage());
+        }
+        return path.toUri().toString();
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        try {
+            Files.deleteIfExists(Path.of(URI.create(fileUrl)));
+        } catch (IOException e) {
+            throw new FileStorageException("파일 삭제에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public InputStream openFile(String fileUrl) {
+        try {
+            return Files.newInputStream(Path.of(URI.create(fileUrl)));
+        } catch (IOException e) {
+            throw new FileStorageException("파일 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean exists(String fileUrl) {
+        return Files.exists(Path.of(URI.create(fileUrl)));
+    }
+
+    @Override
+    public PresignedUpload createPresignedUpload(String key, String contentType, long contentLength, Duration expiresIn) {
+        Path path = pathOf(key);
+        try {
+            Files.createDirectories(path.getParent());
+        } catch (IOException e) {
+            throw new FileStorageException("업로드 경로를 만들 수 없습니다: " + e.getMessage());
+        }
+        String url = path.toUri().toString();
+        return new PresignedUpload(url, key, url, Instant.now().plus(expiresIn));
+    }
+
+    @Override
+    public Optional<StoredFile> findFile(String key) {
+        Path path = pathOf(key);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new StoredFile(key, path.toUri().toString(), Files.size(path), Files.probeContentType(path)));
+        } catch (IOException e) {
+            throw new FileStorageException("파일 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // key에 ..이 섞여도 rootDir 밖으로 나가지 않도록
+    private Path pathOf(String key) {
+        Path path = rootDir.resolve(key).normalize();
+        if (!path.startsWith(rootDir)) {
+            throw new FileStorageException("올바르지 않은 파일 경로입니다: " + key);
+        }
+        return path;
+    }
+
+    private String extensionOf(String filename) {
+        if (filename == null) {
+            return "";
+        }
+        int lastDotIndex = filename.lastIndexOf('.');
+        return lastDotIndex == -1 ? "" : filename.substring(lastDotIndex);
+    }
+}
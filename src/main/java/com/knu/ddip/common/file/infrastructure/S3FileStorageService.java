@@ -2,26 +2,40 @@ package com.knu.ddip.common.file.infrastructure;
 
 import com.knu.ddip.common.file.FileStorageException;
 import com.knu.ddip.common.file.FileStorageService;
+import com.knu.ddip.common.file.PresignedUpload;
+import com.knu.ddip.common.file.StoredFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3FileStorageService implements FileStorageService {
 
+    private static final long MAX_FILE_SIZE = 50L * 1024 * 1024;
+
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3MultipartUploader s3MultipartUploader;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -31,9 +45,7 @@ public class S3FileStorageService implements FileStorageService {
         validateFile(file);
 
         try {
-            String fileName = generateUniqueFileName(file.getOriginalFilename());
-            String dateDir = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
-            String key = String.format("%s/%s/%s", directory, dateDir, fileName);
+            String key = generateKey(directory, getFileExtension(file.getOriginalFilename()));
 
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucketName)
@@ -45,7 +57,7 @@ public class S3FileStorageService implements FileStorageService {
             s3Client.putObject(putObjectRequest,
                     RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
 
-            String fileUrl = String.format("https://%s.s3.amazonaws.com/%s", bucketName, key);
+            String fileUrl = fileUrlOf(key);
 
             log.info("S3 파일 업로드 완료: {} -> {}", file.getOriginalFilename(), fileUrl);
             return fileUrl;
@@ -59,6 +71,47 @@ public class S3FileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public String uploadStream(InputStream inputStream, String contentType, String directory) {
+        validateContentType(contentType);
+
+        String key = generateKey(directory, extensionOf(contentType));
+        long size = s3MultipartUploader.upload(bucketName, key, contentType, inputStream, MAX_FILE_SIZE);
+
+        String fileUrl = fileUrlOf(key);
+        log.info("S3 스트리밍 업로드 완료: {} bytes -> {}", size, fileUrl);
+        return fileUrl;
+    }
+
+    @Override
+    public String uploadBytes(byte[] bytes, String contentType, String directory) {
+        validateContentType(contentType);
+        if (bytes.length == 0) {
+            throw new FileStorageException("빈 파일은 업로드할 수 없습니다.");
+        }
+        if (bytes.length > MAX_FILE_SIZE) {
+            throw new FileStorageException("파일 크기는 50MB를 초과할 수 없습니다.");
+        }
+
+        String key = generateKey(directory, extensionOf(contentType));
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .contentType(contentType)
+                            .contentLength((long) bytes.length)
+                            .build(),
+                    RequestBody.fromBytes(bytes));
+        } catch (S3Exception e) {
+            log.error("S3 서비스 오류: {}", e.awsErrorDetails().errorMessage());
+            throw new FileStorageException("S3 업로드 중 오류가 발생했습니다: " + e.getMessage());
+        }
+
+        String fileUrl = fileUrlOf(key);
+        log.info("S3 업로드 완료: {} bytes -> {}", bytes.length, fileUrl);
+        return fileUrl;
+    }
+
     @Override
     public void deleteFile(String fileUrl) {
         try {
@@ -78,6 +131,20 @@ public class S3FileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public InputStream openFile(String fileUrl) {
+        String key = extractS3Key(fileUrl);
+        try {
+            return s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (S3Exception e) {
+            log.error("S3 파일 조회 실패: {}", key, e);
+            throw new FileStorageException("파일 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
     @Override
     public boolean exists(String fileUrl) {
         try {
@@ -99,11 +166,54 @@ public class S3FileStorageService implements FileStorageService {
         }
     }
 
-    private String generateUniqueFileName(String originalFilename) {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss"));
+    @Override
+    public PresignedUpload createPresignedUpload(String key, String contentType, long contentLength, Duration expiresIn) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(expiresIn)
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        return new PresignedUpload(presigned.url().toString(), key, fileUrlOf(key), presigned.expiration());
+    }
+
+    @Override
+    public Optional<StoredFile> findFile(String key) {
+        try {
+            HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            return Optional.of(new StoredFile(key, fileUrlOf(key), response.contentLength(), response.contentType()));
+
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            // HEAD 응답은 본문이 없어서 NoSuchKey 대신 404 S3Exception으로 오기도 함
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            log.error("S3 파일 조회 실패: {}", key, e);
+            throw new FileStorageException("파일 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    private String fileUrlOf(String key) {
+        return String.format("https://%s.s3.amazonaws.com/%s", bucketName, key);
+    }
+
+    private String generateKey(String directory, String extension) {
+        LocalDateTime now = LocalDateTime.now();
+        String dateDir = now.format(DateTimeFormatter.ofPattern("yyyy/MM/dd"));
+        String timestamp = now.format(DateTimeFormatter.ofPattern("HHmmss"));
         String uuid = UUID.randomUUID().toString().substring(0, 8);
-        String extension = getFileExtension(originalFilename);
-        return String.format("%s_%s%s", timestamp, uuid, extension);
+        return String.format("%s/%s/%s_%s%s", directory, dateDir, timestamp, uuid, extension);
     }
 
     private String getFileExtension(String filename) {
@@ -114,6 +224,15 @@ public class S3FileStorageService implements FileStorageService {
         return (lastDotIndex == -1) ? "" : filename.substring(lastDotIndex);
     }
 
+    // 스트리밍 업로드는 파일명이 없어서 contentType으로 확장자를 정함
+    private String extensionOf(String contentType) {
+        String subtype = contentType.substring("image/".length()).toLowerCase();
+        if (subtype.equals("jpeg")) {
+            return ".jpg";
+        }
+        return subtype.matches("[a-z0-9]+") ? "." + subtype : "";
+    }
+
     private String extractS3Key(String fileUrl) {
         if (fileUrl.contains(".s3.amazonaws.com/")) {
             return fileUrl.substring(fileUrl.indexOf(".s3.amazonaws.com/") + 18);
@@ -128,13 +247,15 @@ public class S3FileStorageService implements FileStorageService {
         }
 
         // 파일 크기 제한 (50MB)
-        long maxSize = 50 * 1024 * 1024;
-        if (file.getSize() > maxSize) {
+        if (file.getSize() > MAX_FILE_SIZE) {
             throw new FileStorageException("파일 크기는 50MB를 초과할 수 없습니다.");
         }
 
-        // 이미지 파일만 허용
-        String contentType = file.getContentType();
+        validateContentType(file.getContentType());
+    }
+
+    // 이미지 파일만 허용
+    private void validateContentType(String contentType) {
         if (contentType == null || !contentType.startsWith("image/")) {
             throw new FileStorageException("이미지 파일만 업로드 가능합니다.");
         }
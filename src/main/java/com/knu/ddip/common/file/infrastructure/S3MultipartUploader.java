@@ -0,0 +1,271 @@
+package com.knu.ddip.common.file.infrastructure;
+
+import com.knu.ddip.common.file.FileStorageException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32C;
+
+// 입력 스트림을 고정 크기 파트로 잘라 S3 multipart upload로 병렬 전송
+// 한 업로드가 동시에 들고 있는 파트 버퍼는 maxPartsInFlight 개로 제한되어 힙 사용량이 partSize * maxPartsInFlight 이하
+// 파트마다 CRC32C를 계산해서 함께 보내고 S3가 수신한 바이트와 대조
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3MultipartUploader {
+
+    // S3는 마지막 파트를 제외하고 5MB 미만 파트를 거부
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${file.upload.part-size:8388608}")
+    private int partSize = 8 * 1024 * 1024;
+
+    @Value("${file.upload.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${file.upload.max-parts-in-flight:2}")
+    private int maxPartsInFlight = 2;
+
+    private ExecutorService partUploader;
+
+    private Counter partCounter;
+    private Counter bytesCounter;
+    private Counter abortedCounter;
+    private Timer uploadTimer;
+
+    @PostConstruct
+    public void init() {
+        partSize = Math.max(partSize, MIN_PART_SIZE);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        partUploader = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "s3-part-upload-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        partCounter = meterRegistry.counter("file.upload.parts");
+        bytesCounter = meterRegistry.counter("file.upload.bytes");
+        abortedCounter = meterRegistry.counter("file.upload.aborted");
+        uploadTimer = meterRegistry.timer("file.upload");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partUploader.shutdown();
+        try {
+            partUploader.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 업로드한 바이트 수 반환, maxSize를 넘는 스트림은 중단하고 FileStorageException
+    public long upload(String bucket, String key, String contentType, InputStream in, long maxSize) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            byte[] first = new byte[partSize];
+            int firstLength = readPart(in, first);
+            if (firstLength < partSize) {
+                checkSize(firstLength, maxSize);
+                putSingle(bucket, key, contentType, first, firstLength);
+                return firstLength;
+            }
+            return uploadMultipart(bucket, key, contentType, in, first, maxSize);
+        } finally {
+            sample.stop(uploadTimer);
+        }
+    }
+
+    // 파트 하나에 다 들어가면 multipart 없이 한 번에 전송
+    private void putSingle(String bucket, String key, String contentType, byte[] buffer, int length) {
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .contentLength((long) length)
+                            .checksumCRC32C(crc32c(buffer, length))
+                            .build(),
+                    RequestBody.fromByteBuffer(ByteBuffer.wrap(buffer, 0, length)));
+        } catch (S3Exception e) {
+            throw new FileStorageException("S3 업로드 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        partCounter.increment();
+        bytesCounter.increment(length);
+    }
+
+    private long uploadMultipart(String bucket, String key, String contentType, InputStream in, byte[] first, long maxSize) {
+        String uploadId;
+        try {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .checksumAlgorithm(ChecksumAlgorithm.CRC32_C)
+                    .build()).uploadId();
+        } catch (S3Exception e) {
+            throw new FileStorageException("S3 업로드 중 오류가 발생했습니다: " + e.getMessage());
+        }
+
+        Semaphore buffers = new Semaphore(maxPartsInFlight - 1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        long total = 0;
+
+        try {
+            byte[] buffer = first;
+            int length = first.length;
+            int partNumber = 1;
+            while (length > 0) {
+                total += length;
+                checkSize(total, maxSize);
+
+                byte[] part = buffer;
+                int partLength = length;
+                int number = partNumber++;
+                parts.add(CompletableFuture
+                        .supplyAsync(() -> uploadPart(bucket, key, uploadId, number, part, partLength), partUploader)
+                        .whenComplete((completed, e) -> {
+                            buffers.release();
+                            if (e != null) {
+                                failure.compareAndSet(null, e);
+                            }
+                        }));
+
+                // 앞선 파트가 실패했으면 남은 스트림은 읽지 않음
+                buffers.acquire();
+                if (failure.get() != null) {
+                    break;
+                }
+                buffer = new byte[partSize];
+                length = readPart(in, buffer);
+            }
+
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).join();
+            List<CompletedPart> completedParts = parts.stream()
+                    .map(CompletableFuture::join)
+                    .sorted(Comparator.comparing(CompletedPart::partNumber))
+                    .toList();
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+            return total;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort(bucket, key, uploadId, parts);
+            throw new FileStorageException("파일 업로드가 중단되었습니다.");
+        } catch (RuntimeException e) {
+            abort(bucket, key, uploadId, parts);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof FileStorageException fileStorageException) {
+                throw fileStorageException;
+            }
+            log.error("S3 multipart 업로드 실패: {}", key, cause);
+            throw new FileStorageException("S3 업로드 중 오류가 발생했습니다: " + cause.getMessage());
+        }
+    }
+
+    private CompletedPart uploadPart(String bucket, String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        String checksum = crc32c(buffer, length);
+        UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .checksumCRC32C(checksum)
+                        .build(),
+                RequestBody.fromByteBuffer(ByteBuffer.wrap(buffer, 0, length)));
+
+        partCounter.increment();
+        bytesCounter.increment(length);
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .checksumCRC32C(checksum)
+                .build();
+    }
+
+    // 진행 중인 파트가 끝난 뒤 abort 해야 S3에 남는 조각이 없음
+    private void abort(String bucket, String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+        abortedCounter.increment();
+        try {
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("S3 multipart 업로드 취소 실패: {} ({})", key, uploadId, e);
+        }
+    }
+
+    // 버퍼가 찰 때까지 읽음, 스트림이 끝나면 읽은 만큼만 반환
+    private int readPart(InputStream in, byte[] buffer) {
+        int offset = 0;
+        try {
+            while (offset < buffer.length) {
+                int read = in.read(buffer, offset, buffer.length - offset);
+                if (read == -1) {
+                    break;
+                }
+                offset += read;
+            }
+        } catch (IOException e) {
+            throw new FileStorageException("파일을 읽는 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return offset;
+    }
+
+    private void checkSize(long size, long maxSize) {
+        if (size > maxSize) {
+            throw new FileStorageException("파일 크기는 " + (maxSize / 1024 / 1024) + "MB를 초과할 수 없습니다.");
+        }
+        if (size == 0) {
+            throw new FileStorageException("빈 파일은 업로드할 수 없습니다.");
+        }
+    }
+
+    private String crc32c(byte[] buffer, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer, 0, length);
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(4).putInt((int) crc.getValue()).array());
+    }
+}
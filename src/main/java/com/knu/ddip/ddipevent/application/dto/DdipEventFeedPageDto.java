@@ -0,0 +1,10 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+import java.util.List;
+
+public record DdipEventFeedPageDto(
+        List<DdipEventSummaryDto> events,
+        String nextCursor,
+        boolean hasNext
+) {
+}
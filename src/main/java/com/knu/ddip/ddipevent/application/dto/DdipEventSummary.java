@@ -0,0 +1,49 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+import com.knu.ddip.ddipevent.domain.DdipEvent;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// 피드 한 행에 필요한 컬럼만 담은 읽기 모델, 본문은 앞부분만 포함
+public record DdipEventSummary(
+        UUID id,
+        String title,
+        Integer reward,
+        Double latitude,
+        Double longitude,
+        DdipStatus status,
+        UUID requesterId,
+        Instant createdAt,
+        int applicantCount,
+        String contentPreview,
+        Integer difficulty
+) {
+    // 피드 쿼리의 LEFT(content, 100)과 같은 길이 (문자 단위)
+    public static final int PREVIEW_LENGTH = 100;
+
+    // 저장한 애그리거트로 만든 요약, 지원자를 읽지 않았으면 0명
+    public static DdipEventSummary from(DdipEvent event) {
+        return new DdipEventSummary(
+                event.getId(),
+                event.getTitle(),
+                event.getReward(),
+                event.getLatitude(),
+                event.getLongitude(),
+                event.getStatus(),
+                event.getRequesterId(),
+                event.getCreatedAt(),
+                event.getApplicants() != null ? event.getApplicants().size() : 0,
+                previewOf(event.getContent()),
+                event.getDifficulty()
+        );
+    }
+
+    private static String previewOf(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_LENGTH));
+    }
+}
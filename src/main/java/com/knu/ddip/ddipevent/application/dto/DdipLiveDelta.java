@@ -0,0 +1,10 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+import com.knu.ddip.ddipevent.application.event.DdipChangeType;
+
+// 실시간 피드로 보내는 띱 생성, 상태 변경 한 건
+public record DdipLiveDelta(
+        DdipChangeType type,
+        DdipEventSummary ddip
+) {
+}
@@ -0,0 +1,41 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+import com.knu.ddip.ddipevent.exception.DdipBadRequestException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+// 마지막으로 내려준 띱의 (정렬 키, id), 클라이언트에는 base64url 문자열로만 노출
+// 정렬 키는 DB가 계산한 값을 그대로 담아야 다음 페이지 조건과 정확히 이어짐
+public record FeedCursor(
+        FeedSort sort,
+        String key,
+        UUID id
+) {
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = sort.name() + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decode(String cursor, FeedSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || FeedSort.valueOf(parts[0]) != sort) {
+                throw new DdipBadRequestException("잘못된 커서입니다.");
+            }
+            // 정렬 키 형식 검증
+            switch (sort) {
+                case REWARD, DIFFICULTY -> Integer.parseInt(parts[1]);
+                default -> new BigDecimal(parts[1]);
+            }
+            return new FeedCursor(sort, parts[1], UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new DdipBadRequestException("잘못된 커서입니다.");
+        }
+    }
+}
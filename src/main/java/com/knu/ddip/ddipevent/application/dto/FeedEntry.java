@@ -0,0 +1,13 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+import java.util.UUID;
+
+// 피드 정렬 순서대로 조회한 띱 요약과 DB가 계산한 정렬 키
+public record FeedEntry(
+        DdipEventSummary summary,
+        String sortKey
+) {
+    public UUID id() {
+        return summary.id();
+    }
+}
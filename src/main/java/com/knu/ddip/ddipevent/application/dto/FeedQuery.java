@@ -0,0 +1,18 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+
+// cursor가 null이면 첫 페이지, limit은 다음 페이지 유무 확인용으로 페이지 크기 + 1
+public record FeedQuery(
+        double swLat,
+        double swLon,
+        double neLat,
+        double neLon,
+        double originLat,
+        double originLon,
+        DdipStatus status,
+        FeedSort sort,
+        FeedCursor cursor,
+        int limit
+) {
+}
@@ -1,5 +1,7 @@
 package com.knu.ddip.ddipevent.application.dto;
 
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+
 public record FeedRequestDto(
         Double sw_lat,
         Double sw_lon,
@@ -7,6 +9,9 @@ public record FeedRequestDto(
         Double ne_lon,
         String sort,
         Double user_lat,
-        Double user_lon
+        Double user_lon,
+        DdipStatus status,
+        String cursor,
+        Integer size
 ) {
 }
@@ -0,0 +1,23 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+public enum FeedSort {
+    DISTANCE,
+    NEWEST,
+    REWARD,
+    DIFFICULTY,
+    BLENDED;
+
+    // 알 수 없는 값이면 거리순
+    public static FeedSort from(String value) {
+        if (value == null) {
+            return DISTANCE;
+        }
+        return switch (value.trim().toLowerCase()) {
+            case "newest", "latest", "createdat" -> NEWEST;
+            case "reward", "highest_reward" -> REWARD;
+            case "difficulty", "easiest" -> DIFFICULTY;
+            case "blended", "recommended" -> BLENDED;
+            default -> DISTANCE;
+        };
+    }
+}
@@ -6,6 +6,7 @@ import com.knu.ddip.ddipevent.domain.Interaction;
 
 public record InteractionDto(
         String interactionId,
+        Long seq,
         String actorId,
         ActorRole actorRole,
         ActionType actionType,
@@ -16,6 +17,7 @@ public record InteractionDto(
     public static InteractionDto fromEntity(Interaction interaction) {
         return new InteractionDto(
                 interaction.getInteractionId().toString(),
+                interaction.getSeq(),
                 interaction.getActorId().toString(),
                 interaction.getActorRole(),
                 interaction.getActionType(),
@@ -0,0 +1,11 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+import java.util.List;
+
+// 최신순 기록 페이지, nextCursor는 마지막 기록의 seq
+public record InteractionPageDto(
+        List<InteractionDto> interactions,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
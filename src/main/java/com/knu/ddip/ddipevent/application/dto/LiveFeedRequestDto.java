@@ -0,0 +1,11 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+// 화면 범위(sw, ne) 또는 쉼표로 구분한 S2 셀 토큰 목록 중 하나로 구독
+public record LiveFeedRequestDto(
+        Double sw_lat,
+        Double sw_lon,
+        Double ne_lat,
+        Double ne_lon,
+        String cells
+) {
+}
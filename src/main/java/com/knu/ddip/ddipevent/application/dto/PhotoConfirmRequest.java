@@ -0,0 +1,9 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+public record PhotoConfirmRequest(
+        String key,
+        double latitude,
+        double longitude,
+        String responderComment
+) {
+}
@@ -6,6 +6,8 @@ import com.knu.ddip.ddipevent.domain.PhotoStatus;
 public record PhotoDto(
         String photoId,
         String photoUrl,
+        String thumbnailUrl,
+        String mediumUrl,
         Double latitude,
         Double longitude,
         String timestamp,
@@ -19,6 +21,8 @@ public record PhotoDto(
         return new PhotoDto(
                 photo.getPhotoId().toString(),
                 photo.getPhotoUrl(),
+                photo.getThumbnailUrl(),
+                photo.getMediumUrl(),
                 photo.getLatitude(),
                 photo.getLongitude(),
                 photo.getTimestamp().toString(),
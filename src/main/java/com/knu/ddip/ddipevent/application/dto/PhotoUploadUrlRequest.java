@@ -0,0 +1,7 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+public record PhotoUploadUrlRequest(
+        String contentType,
+        Long contentLength
+) {
+}
@@ -0,0 +1,10 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+import java.time.Instant;
+
+public record PhotoUploadUrlResponse(
+        String uploadUrl,
+        String key,
+        Instant expiresAt
+) {
+}
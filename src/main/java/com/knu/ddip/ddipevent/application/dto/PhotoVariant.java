@@ -0,0 +1,23 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+// 원본에서 만드는 축소본 종류, 긴 변 기준 최대 크기(px)
+public enum PhotoVariant {
+    THUMBNAIL(320, "photos/thumbnail"),
+    MEDIUM(1080, "photos/medium");
+
+    private final int maxDimension;
+    private final String directory;
+
+    PhotoVariant(int maxDimension, String directory) {
+        this.maxDimension = maxDimension;
+        this.directory = directory;
+    }
+
+    public int maxDimension() {
+        return maxDimension;
+    }
+
+    public String directory() {
+        return directory;
+    }
+}
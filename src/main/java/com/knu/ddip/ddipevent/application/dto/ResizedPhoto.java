@@ -0,0 +1,10 @@
+package com.knu.ddip.ddipevent.application.dto;
+
+public record ResizedPhoto(
+        PhotoVariant variant,
+        byte[] bytes,
+        String contentType,
+        int width,
+        int height
+) {
+}
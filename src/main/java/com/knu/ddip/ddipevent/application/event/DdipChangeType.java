@@ -0,0 +1,10 @@
+package com.knu.ddip.ddipevent.application.event;
+
+// 피드에 보이는 띱 목록이나 요약 값이 바뀌는 상태 전이
+public enum DdipChangeType {
+    CREATED,
+    APPLIED,
+    RESPONDER_SELECTED,
+    COMPLETED,
+    CANCELED;
+}
@@ -0,0 +1,25 @@
+package com.knu.ddip.ddipevent.application.event;
+
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+
+import java.util.UUID;
+
+// DdipService가 상태 전이를 저장한 뒤 발행, 커밋 이후 피드 인덱스, 셀 캐시와 다른 서버에 반영
+// summary는 애그리거트를 읽지 않는 지원(APPLIED)을 빼고 모두 담음, 캐시는 summary의 위치로 셀을 찾아 무효화 (지원은 커밋 후 조회)
+public record DdipChangedEvent(
+        UUID ddipEventId,
+        DdipChangeType type,
+        DdipEventSummary summary
+) {
+    public static DdipChangedEvent created(DdipEventSummary summary) {
+        return new DdipChangedEvent(summary.id(), DdipChangeType.CREATED, summary);
+    }
+
+    public static DdipChangedEvent of(DdipChangeType type, DdipEventSummary summary) {
+        return new DdipChangedEvent(summary.id(), type, summary);
+    }
+
+    public static DdipChangedEvent of(UUID ddipEventId, DdipChangeType type) {
+        return new DdipChangedEvent(ddipEventId, type, null);
+    }
+}
@@ -0,0 +1,11 @@
+package com.knu.ddip.ddipevent.application.event;
+
+import java.util.UUID;
+
+// 사진 업로드가 커밋된 뒤 축소본 생성에 사용
+public record PhotoUploadedEvent(
+        UUID ddipEventId,
+        UUID photoId,
+        String photoUrl
+) {
+}
@@ -1,6 +1,11 @@
 package com.knu.ddip.ddipevent.application.service;
 
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.dto.FeedEntry;
+import com.knu.ddip.ddipevent.application.dto.FeedQuery;
 import com.knu.ddip.ddipevent.domain.DdipEvent;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import com.knu.ddip.ddipevent.domain.Interaction;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,5 +16,19 @@ public interface DdipEventRepository {
 
     Optional<DdipEvent> findById(UUID id);
 
-    List<DdipEvent> findWithinBounds(double swLat, double swLon, double neLat, double neLon, String sort, Double userLat, Double userLon);
+    // 지원 가능하면 지원자와 지원 기록을 추가하고 true, 마감/본인 띱/중복 지원이면 아무것도 쓰지 않고 false
+    boolean addApplicant(UUID ddipEventId, UUID applicantId, Interaction applyInteraction);
+
+    // 피드 한 페이지를 정렬 순서대로 요약만 조회
+    List<FeedEntry> findFeedPage(FeedQuery query);
+
+    Optional<DdipEventSummary> findSummaryById(UUID id);
+
+    List<DdipEventSummary> findSummariesByStatus(DdipStatus status);
+
+    // 레벨 17 cell_id가 [minCellId, maxCellId] 구간인 띱 요약, 최대 limit 개
+    List<DdipEventSummary> findSummariesByStatusInCellRange(DdipStatus status, long minCellId, long maxCellId, int limit);
+
+    // 사진 축소본 URL 기록, 사진이 없으면 false
+    boolean updatePhotoDerivatives(UUID photoId, String thumbnailUrl, String mediumUrl);
 }
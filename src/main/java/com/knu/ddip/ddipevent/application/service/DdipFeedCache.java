@@ -0,0 +1,13 @@
+package com.knu.ddip.ddipevent.application.service;
+
+import com.knu.ddip.ddipevent.application.dto.FeedEntry;
+import com.knu.ddip.ddipevent.application.dto.FeedQuery;
+
+import java.util.List;
+import java.util.Optional;
+
+// 화면을 덮는 S2 셀별로 띱 요약을 캐시해 두고 피드 한 페이지를 계산
+// 화면이 너무 넓거나 셀 하나에 띱이 너무 많으면 empty, 호출하는 쪽에서 DB로 조회
+public interface DdipFeedCache {
+    Optional<List<FeedEntry>> findFeedPage(FeedQuery query);
+}
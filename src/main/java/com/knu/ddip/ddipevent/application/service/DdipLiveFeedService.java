@@ -0,0 +1,80 @@
+package com.knu.ddip.ddipevent.application.service;
+
+import com.google.common.geometry.S2Cell;
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2LatLng;
+import com.google.common.geometry.S2LatLngRect;
+import com.google.common.geometry.S2RegionCoverer;
+import com.knu.ddip.ddipevent.application.dto.LiveFeedRequestDto;
+import com.knu.ddip.ddipevent.exception.DdipBadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.knu.ddip.ddipevent.application.service.LiveFeedSubscriptions.MIN_LEVEL;
+import static com.knu.ddip.location.application.util.S2Constants.LEVEL;
+
+// 실시간 피드 구독 요청을 S2 셀 집합으로 바꿔 구독
+@Service
+@RequiredArgsConstructor
+public class DdipLiveFeedService {
+
+    // 구독 하나가 가질 수 있는 최대 셀 수
+    public static final int MAX_CELLS = 64;
+
+    private final LiveFeedSubscriptions liveFeedSubscriptions;
+
+    public SseEmitter subscribe(LiveFeedRequestDto dto) {
+        return liveFeedSubscriptions.subscribe(cellsOf(dto));
+    }
+
+    private List<S2CellId> cellsOf(LiveFeedRequestDto dto) {
+        if (dto.cells() != null && !dto.cells().isBlank()) {
+            return parseCells(dto.cells());
+        }
+        if (dto.sw_lat() == null || dto.sw_lon() == null || dto.ne_lat() == null || dto.ne_lon() == null) {
+            throw new DdipBadRequestException("구독할 화면 범위나 셀 목록이 필요합니다.");
+        }
+        return coverViewport(dto.sw_lat(), dto.sw_lon(), dto.ne_lat(), dto.ne_lon());
+    }
+
+    private List<S2CellId> parseCells(String cells) {
+        List<S2CellId> cellIds = new ArrayList<>();
+        for (String token : cells.split(",")) {
+            S2CellId cellId = S2CellId.fromToken(token.trim());
+            if (!cellId.isValid() || cellId.level() < MIN_LEVEL) {
+                throw new DdipBadRequestException("구독할 수 없는 셀입니다: " + token.trim());
+            }
+            cellIds.add(cellId);
+        }
+        if (cellIds.size() > MAX_CELLS) {
+            throw new DdipBadRequestException("한 번에 구독할 수 있는 셀은 최대 " + MAX_CELLS + "개입니다.");
+        }
+        return cellIds;
+    }
+
+    private List<S2CellId> coverViewport(double swLat, double swLon, double neLat, double neLon) {
+        S2LatLngRect rect = S2LatLngRect.fromPointPair(
+                S2LatLng.fromDegrees(swLat, swLon),
+                S2LatLng.fromDegrees(neLat, neLon));
+        // 최소 레벨 아래로는 합쳐지지 않아 커버링 크기가 면적에 비례하므로 커버링을 만들기 전에 면적으로 거름
+        if (rect.area() / S2Cell.averageArea(MIN_LEVEL) > MAX_CELLS) {
+            throw new DdipBadRequestException("구독할 화면 범위가 너무 넓습니다.");
+        }
+        S2RegionCoverer coverer = S2RegionCoverer.builder()
+                .setMinLevel(MIN_LEVEL)
+                .setMaxLevel(LEVEL)
+                .setMaxCells(MAX_CELLS / 4)
+                .build();
+        ArrayList<S2CellId> cellIds = new ArrayList<>();
+        coverer.getCovering(rect, cellIds);
+        // 면적은 한도 이내지만 경계에 걸친 셀 때문에 셀 수가 늘어난 경우
+        if (cellIds.size() > MAX_CELLS) {
+            throw new DdipBadRequestException("구독할 화면 범위가 너무 넓습니다.");
+        }
+        return cellIds;
+    }
+}
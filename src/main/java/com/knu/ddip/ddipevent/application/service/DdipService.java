@@ -1,16 +1,29 @@
 package com.knu.ddip.ddipevent.application.service;
 
 import com.knu.ddip.common.file.FileStorageService;
+import com.knu.ddip.common.file.PresignedUpload;
+import com.knu.ddip.common.file.StoredFile;
 import com.knu.ddip.ddipevent.application.dto.*;
+import com.knu.ddip.ddipevent.application.event.DdipChangeType;
+import com.knu.ddip.ddipevent.application.event.DdipChangedEvent;
+import com.knu.ddip.ddipevent.application.event.PhotoUploadedEvent;
 import com.knu.ddip.ddipevent.application.util.DistanceConverter;
 import com.knu.ddip.ddipevent.domain.DdipEvent;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import com.knu.ddip.ddipevent.domain.Interaction;
+import com.knu.ddip.ddipevent.domain.Photo;
+import com.knu.ddip.ddipevent.exception.DdipBadRequestException;
 import com.knu.ddip.ddipevent.exception.DdipNotFoundException;
 import com.knu.ddip.user.business.dto.UserEntityDto;
 import com.knu.ddip.user.business.service.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,9 +33,21 @@ import java.util.UUID;
 public class DdipService {
 
     private final DdipEventRepository ddipEventRepository;
+    private final InteractionRepository interactionRepository;
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
     private final DistanceConverter distanceConverter;
+    private final DdipTransitionExecutor ddipTransitionExecutor;
+    private final OpenDdipFeedIndex openDdipFeedIndex;
+    private final DdipFeedCache ddipFeedCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static final int FEED_DEFAULT_PAGE_SIZE = 20;
+    public static final int FEED_MAX_PAGE_SIZE = 50;
+    public static final int INTERACTION_DEFAULT_PAGE_SIZE = 20;
+    public static final int INTERACTION_MAX_PAGE_SIZE = 100;
+    public static final long PHOTO_MAX_SIZE = 50L * 1024 * 1024;
+    public static final Duration PHOTO_UPLOAD_URL_TTL = Duration.ofMinutes(10);
 
     @Transactional
     public DdipEventDetailDto createDdipEvent(CreateDdipRequestDto dto, UUID requesterId) {
@@ -31,16 +56,42 @@ public class DdipService {
                 dto.reward(), dto.latitude(), dto.longitude(), dto.difficulty(), requester.getId());
 
         DdipEvent savedDdip = ddipEventRepository.save(newDdipEvent);
+        eventPublisher.publishEvent(DdipChangedEvent.created(DdipEventSummary.from(savedDdip)));
         return convertToDetailDto(savedDdip);
     }
 
-    public List<DdipEventSummaryDto> getDdipEventFeed(FeedRequestDto dto) {
-        List<DdipEvent> events = ddipEventRepository.findWithinBounds(
-                dto.sw_lat(), dto.sw_lon(), dto.ne_lat(), dto.ne_lon(), dto.sort(), dto.user_lat(), dto.user_lon());
+    // 화면 영역 안의 띱을 커서 기반으로 한 페이지씩 조회, 상태를 지정하지 않으면 OPEN만
+    // OPEN 피드는 메모리 인덱스, 그 외에는 셀 캐시로 응답하고 둘 다 안 될 때만 DB 트랜잭션을 엶
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DdipEventFeedPageDto getDdipEventFeed(FeedRequestDto dto) {
+        FeedSort sort = FeedSort.from(dto.sort());
+        FeedCursor cursor = dto.cursor() != null && !dto.cursor().isBlank() ? FeedCursor.decode(dto.cursor(), sort) : null;
+        DdipStatus status = dto.status() != null ? dto.status() : DdipStatus.OPEN;
+        int size = pageSizeOf(dto.size(), FEED_DEFAULT_PAGE_SIZE, FEED_MAX_PAGE_SIZE);
+
+        // 내 위치가 없으면 화면 중심 기준 거리
+        double originLat = dto.user_lat() != null ? dto.user_lat() : (dto.sw_lat() + dto.ne_lat()) / 2;
+        double originLon = dto.user_lon() != null ? dto.user_lon() : (dto.sw_lon() + dto.ne_lon()) / 2;
+
+        FeedQuery query = new FeedQuery(dto.sw_lat(), dto.sw_lon(), dto.ne_lat(), dto.ne_lon(),
+                originLat, originLon, status, sort, cursor, size + 1);
+        List<FeedEntry> entries = openDdipFeedIndex.findFeedPage(query)
+                .or(() -> ddipFeedCache.findFeedPage(query))
+                .orElseGet(() -> ddipEventRepository.findFeedPage(query));
+
+        boolean hasNext = entries.size() > size;
+        List<FeedEntry> page = hasNext ? entries.subList(0, size) : entries;
 
-        return events.stream()
-                .map(event -> convertToSummaryDto(event, dto.user_lat(), dto.user_lon()))
+        List<DdipEventSummaryDto> events = page.stream()
+                .map(entry -> convertToSummaryDto(entry.summary(), originLat, originLon))
                 .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            FeedEntry last = page.get(page.size() - 1);
+            nextCursor = new FeedCursor(sort, last.sortKey(), last.id()).encode();
+        }
+        return new DdipEventFeedPageDto(events, nextCursor, hasNext);
     }
 
     public DdipEventDetailDto getDdipEventDetail(UUID eventId) {
@@ -48,56 +99,163 @@ public class DdipService {
         return convertToDetailDto(event);
     }
 
+    // 진행 기록을 최신순으로 한 페이지씩, cursor는 이전 페이지 마지막 기록의 seq
+    public InteractionPageDto getDdipEventInteractions(UUID eventId, Long cursor, Integer size) {
+        int pageSize = pageSizeOf(size, INTERACTION_DEFAULT_PAGE_SIZE, INTERACTION_MAX_PAGE_SIZE);
+        List<Interaction> interactions = interactionRepository.findHistory(eventId, cursor, pageSize + 1);
+
+        boolean hasNext = interactions.size() > pageSize;
+        List<Interaction> page = hasNext ? interactions.subList(0, pageSize) : interactions;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getSeq() : null;
+        return new InteractionPageDto(page.stream().map(InteractionDto::fromEntity).toList(), nextCursor, hasNext);
+    }
+
+    // 지원자 추가는 조건부 insert 한 번으로 원자적으로 처리하고, 실패했을 때만 애그리거트를 읽어 사유를 판단
     @Transactional
     public void applyDdipEvent(UUID eventId, UUID responderId) {
         UserEntityDto responder = userRepository.getById(responderId);
+        if (ddipEventRepository.addApplicant(eventId, responder.getId(), Interaction.apply(responder.getId()))) {
+            eventPublisher.publishEvent(DdipChangedEvent.of(eventId, DdipChangeType.APPLIED));
+            return;
+        }
         DdipEvent event = getDdipEvent(eventId);
-        DdipEvent updatedEvent = event.apply(responder.getId());
-        ddipEventRepository.save(updatedEvent);
+        event.apply(responder.getId());
+        // 사유를 확인하는 사이 상태가 바뀐 경우
+        throw new DdipBadRequestException("지원할 수 없는 띱입니다.");
     }
 
-    @Transactional
+    // 상태 전이는 DdipTransitionExecutor가 시도마다 트랜잭션을 열고 버전 충돌 시 다시 조회해서 재시도
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void selectApplicantForDdipEvent(UUID eventId, SelectApplicantRequest selectApplicantRequest, UUID requesterId) {
         UserEntityDto requester = userRepository.getById(requesterId);
         UserEntityDto responder = userRepository.getById(selectApplicantRequest.applicantId());
-        DdipEvent event = getDdipEvent(eventId);
-        DdipEvent updatedEvent = event.selectResponder(requester.getId(), responder.getId());
-        ddipEventRepository.save(updatedEvent);
+        ddipTransitionExecutor.execute("select_responder", () -> {
+            DdipEvent updatedEvent = ddipEventRepository.save(getDdipEvent(eventId).selectResponder(requester.getId(), responder.getId()));
+            eventPublisher.publishEvent(DdipChangedEvent.of(DdipChangeType.RESPONDER_SELECTED, DdipEventSummary.from(updatedEvent)));
+            return null;
+        });
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DdipEventDetailDto uploadPhotoForDdipEvent(UUID eventId, PhotoUploadRequest photoUploadRequest, UUID responderId) {
         UserEntityDto responder = userRepository.getById(responderId);
-        DdipEvent event = getDdipEvent(eventId);
 
+        // 파일 업로드는 재시도 대상에서 제외
         String photoUrl = fileStorageService.uploadFile(photoUploadRequest.photo(), "photos");
 
-        DdipEvent updatedEvent = event.uploadPhoto(responder.getId(), photoUrl, photoUploadRequest.latitude(), photoUploadRequest.longitude(), photoUploadRequest.responderComment());
-        return convertToDetailDto(ddipEventRepository.save(updatedEvent));
+        return addPhoto(eventId, responder.getId(), photoUrl,
+                photoUploadRequest.latitude(), photoUploadRequest.longitude(), photoUploadRequest.responderComment());
     }
 
-    @Transactional
+    // multipart 없이 요청 본문을 저장소로 바로 흘려보내는 업로드, 수행자 확인을 먼저 해서 권한 없는 업로드는 읽지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DdipEventDetailDto uploadPhotoStreamForDdipEvent(UUID eventId, InputStream photo, String contentType,
+                                                           double latitude, double longitude, String responderComment, UUID responderId) {
+        UserEntityDto responder = userRepository.getById(responderId);
+        getDdipEvent(eventId).validatePhotoUploader(responder.getId());
+
+        // 파일 업로드는 재시도 대상에서 제외
+        String photoUrl = fileStorageService.uploadStream(photo, contentType, "photos");
+
+        return addPhoto(eventId, responder.getId(), photoUrl, latitude, longitude, responderComment);
+    }
+
+    // 수행자가 저장소에 직접 PUT 할 URL 발급, 서버는 파일 바이트를 받지 않음
+    public PhotoUploadUrlResponse issuePhotoUploadUrl(UUID eventId, PhotoUploadUrlRequest request, UUID responderId) {
+        UserEntityDto responder = userRepository.getById(responderId);
+        getDdipEvent(eventId).validatePhotoUploader(responder.getId());
+        validatePhotoFile(request.contentType(), request.contentLength());
+
+        String key = photoKeyPrefix(eventId, responder.getId()) + UUID.randomUUID() + extensionOf(request.contentType());
+        PresignedUpload upload = fileStorageService.createPresignedUpload(key, request.contentType(),
+                request.contentLength(), PHOTO_UPLOAD_URL_TTL);
+        return new PhotoUploadUrlResponse(upload.uploadUrl(), upload.key(), upload.expiresAt());
+    }
+
+    // 직접 업로드가 끝난 뒤 호출, 저장소에서 파일을 확인하고 사진으로 등록
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DdipEventDetailDto confirmPhotoUpload(UUID eventId, PhotoConfirmRequest request, UUID responderId) {
+        UserEntityDto responder = userRepository.getById(responderId);
+
+        // 다른 띱이나 다른 유저에게 발급된 key로는 등록할 수 없음
+        if (request.key() == null || !request.key().startsWith(photoKeyPrefix(eventId, responder.getId()))) {
+            throw new DdipBadRequestException("업로드 URL 발급 시 받은 key가 아닙니다.");
+        }
+
+        // 저장소 조회는 재시도 대상에서 제외
+        StoredFile storedFile = fileStorageService.findFile(request.key())
+                .orElseThrow(() -> new DdipBadRequestException("업로드된 사진이 없습니다."));
+        validatePhotoFile(storedFile.contentType(), storedFile.contentLength());
+
+        return addPhoto(eventId, responder.getId(), storedFile.fileUrl(),
+                request.latitude(), request.longitude(), request.responderComment());
+    }
+
+    // 저장된 파일을 사진으로 등록, 커밋 이후 축소본 생성이 시작됨
+    private DdipEventDetailDto addPhoto(UUID eventId, UUID responderId, String photoUrl,
+                                        double latitude, double longitude, String responderComment) {
+        return ddipTransitionExecutor.execute("upload_photo", () -> {
+            DdipEvent updatedEvent = getDdipEvent(eventId).uploadPhoto(responderId, photoUrl,
+                    latitude, longitude, responderComment);
+            Photo photo = updatedEvent.getPhotos().getLast();
+            DdipEventDetailDto detail = convertToDetailDto(ddipEventRepository.save(updatedEvent));
+            eventPublisher.publishEvent(new PhotoUploadedEvent(eventId, photo.getPhotoId(), photoUrl));
+            return detail;
+        });
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DdipEventDetailDto updatePhotoFeedback(UUID eventId, UUID photoId, PhotoFeedbackRequest photoFeedbackRequest, UUID requesterOrResponderId) {
         UserEntityDto requesterOrResponder = userRepository.getById(requesterOrResponderId);
-        DdipEvent event = getDdipEvent(eventId);
-        DdipEvent updatedEvent = event.updatePhotoFeedback(requesterOrResponder.getId(), photoId, photoFeedbackRequest.status(), photoFeedbackRequest.feedback());
-        return convertToDetailDto(ddipEventRepository.save(updatedEvent));
+        return ddipTransitionExecutor.execute("photo_feedback", () -> {
+            DdipEvent updatedEvent = getDdipEvent(eventId).updatePhotoFeedback(requesterOrResponder.getId(), photoId,
+                    photoFeedbackRequest.status(), photoFeedbackRequest.feedback());
+            return convertToDetailDto(ddipEventRepository.save(updatedEvent));
+        });
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DdipEventDetailDto completeDdipEventMission(UUID eventId, UUID requesterId) {
         UserEntityDto requester = userRepository.getById(requesterId);
-        DdipEvent event = getDdipEvent(eventId);
-        DdipEvent updatedEvent = event.complete(requester.getId());
-        return convertToDetailDto(ddipEventRepository.save(updatedEvent));
+        return ddipTransitionExecutor.execute("complete", () -> {
+            DdipEvent updatedEvent = ddipEventRepository.save(getDdipEvent(eventId).complete(requester.getId()));
+            eventPublisher.publishEvent(DdipChangedEvent.of(DdipChangeType.COMPLETED, DdipEventSummary.from(updatedEvent)));
+            return convertToDetailDto(updatedEvent);
+        });
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DdipEventDetailDto cancelDdipEventMission(UUID eventId, UUID requesterOrResponderId) {
         UserEntityDto requesterOrResponder = userRepository.getById(requesterOrResponderId);
-        DdipEvent event = getDdipEvent(eventId);
-        DdipEvent updatedEvent = event.cancel(requesterOrResponder.getId());
-        return convertToDetailDto(ddipEventRepository.save(updatedEvent));
+        return ddipTransitionExecutor.execute("cancel", () -> {
+            DdipEvent updatedEvent = ddipEventRepository.save(getDdipEvent(eventId).cancel(requesterOrResponder.getId()));
+            eventPublisher.publishEvent(DdipChangedEvent.of(DdipChangeType.CANCELED, DdipEventSummary.from(updatedEvent)));
+            return convertToDetailDto(updatedEvent);
+        });
+    }
+
+    private String photoKeyPrefix(UUID eventId, UUID responderId) {
+        return "photos/" + eventId + "/" + responderId + "/";
+    }
+
+    private void validatePhotoFile(String contentType, Long contentLength) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new DdipBadRequestException("이미지 파일만 업로드 가능합니다.");
+        }
+        if (contentLength == null || contentLength <= 0) {
+            throw new DdipBadRequestException("빈 파일은 업로드할 수 없습니다.");
+        }
+        if (contentLength > PHOTO_MAX_SIZE) {
+            throw new DdipBadRequestException("파일 크기는 50MB를 초과할 수 없습니다.");
+        }
+    }
+
+    private String extensionOf(String contentType) {
+        String subtype = contentType.substring("image/".length()).toLowerCase();
+        if (subtype.equals("jpeg")) {
+            return ".jpg";
+        }
+        return subtype.matches("[a-z0-9]+") ? "." + subtype : "";
     }
 
     private DdipEvent getDdipEvent(UUID eventId) {
@@ -105,21 +263,29 @@ public class DdipService {
                 .orElseThrow(() -> new DdipNotFoundException("Ddip event를 찾을 수 없습니다."));
     }
 
-    private DdipEventSummaryDto convertToSummaryDto(DdipEvent event, Double userLat, Double userLon) {
-        double dist = distanceConverter.haversineMeters(event.getLatitude(), event.getLongitude(), userLat, userLon);
+    private int pageSizeOf(Integer size, int defaultSize, int maxSize) {
+        if (size == null || size <= 0) {
+            return defaultSize;
+        }
+        return Math.min(size, maxSize);
+    }
+
+    // 피드 목록의 content는 본문 앞부분 미리보기
+    private DdipEventSummaryDto convertToSummaryDto(DdipEventSummary summary, Double userLat, Double userLon) {
+        double dist = distanceConverter.haversineMeters(summary.latitude(), summary.longitude(), userLat, userLon);
         return new DdipEventSummaryDto(
-                event.getId().toString(),
-                event.getTitle(),
-                event.getReward(),
-                event.getLatitude(),
-                event.getLongitude(),
-                event.getStatus(),
-                event.getRequesterId().toString(),
-                event.getCreatedAt().toString(),
-                event.getApplicants().size(),
-                event.getContent(),
+                summary.id().toString(),
+                summary.title(),
+                summary.reward(),
+                summary.latitude(),
+                summary.longitude(),
+                summary.status(),
+                summary.requesterId().toString(),
+                summary.createdAt().toString(),
+                summary.applicantCount(),
+                summary.contentPreview(),
                 dist,
-                event.getDifficulty()
+                summary.difficulty()
         );
     }
 
@@ -140,7 +306,8 @@ public class DdipService {
                 event.getPhotos().stream()
                         .map(PhotoDto::fromEntity)
                         .toList(),
-                event.getInteractions().stream()
+                // 전체 기록 대신 최신순 첫 페이지만
+                interactionRepository.findHistory(event.getId(), null, INTERACTION_DEFAULT_PAGE_SIZE).stream()
                         .map(InteractionDto::fromEntity)
                         .toList()
         );
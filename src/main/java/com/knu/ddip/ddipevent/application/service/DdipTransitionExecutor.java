@@ -0,0 +1,62 @@
+package com.knu.ddip.ddipevent.application.service;
+
+import com.knu.ddip.ddipevent.exception.DdipConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+// 띱 상태 전이를 시도마다 새 트랜잭션으로 실행하고, 버전 충돌이면 다시 조회해서 도메인 로직부터 재시도
+// 요청을 DB 행 잠금으로 줄 세우지 않고, 충돌한 쪽만 최신 상태 기준으로 다시 판단
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DdipTransitionExecutor {
+
+    private final TransactionOperations transactionOperations;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ddip.transition.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${ddip.transition.backoff-ms:10}")
+    private long backoffMs = 10;
+
+    // action은 띱 조회부터 저장까지 포함해야 재시도 시 최신 상태로 다시 판단함
+    public <T> T execute(String transition, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionOperations.execute(status -> action.get());
+            } catch (ConcurrencyFailureException e) {
+                // 버전 충돌 외에 데드락 희생자로 롤백된 경우도 같은 방식으로 재시도
+                meterRegistry.counter("ddip.transition.conflict", "transition", transition).increment();
+                if (attempt >= maxAttempts) {
+                    meterRegistry.counter("ddip.transition.exhausted", "transition", transition).increment();
+                    log.warn("ddip transition {} gave up after {} attempts", transition, attempt, e);
+                    throw new DdipConflictException("다른 요청과 동시에 처리되어 반영하지 못했습니다. 다시 시도해주세요.");
+                }
+                meterRegistry.counter("ddip.transition.retry", "transition", transition).increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    // 같은 띱을 두고 경합한 요청끼리 다시 부딪히지 않도록 시도 횟수에 비례한 무작위 대기
+    private void backoff(int attempt) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs * attempt) + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DdipConflictException("다른 요청과 동시에 처리되어 반영하지 못했습니다. 다시 시도해주세요.");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.knu.ddip.ddipevent.application.service;
+
+import com.knu.ddip.ddipevent.domain.Interaction;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface InteractionRepository {
+    // 최신순, beforeSeq가 있으면 그보다 앞선 기록만
+    List<Interaction> findHistory(UUID ddipEventId, Long beforeSeq, int limit);
+}
@@ -0,0 +1,18 @@
+package com.knu.ddip.ddipevent.application.service;
+
+import com.google.common.geometry.S2CellId;
+import com.knu.ddip.ddipevent.application.dto.DdipLiveDelta;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+// 셀 단위 실시간 피드 구독과 전달
+public interface LiveFeedSubscriptions {
+
+    // 구독 셀은 모두 이 레벨 이상이어야 함 (이 레벨 부모 셀로 구독자를 찾음)
+    int MIN_LEVEL = 13;
+
+    SseEmitter subscribe(List<S2CellId> cells);
+
+    void dispatch(DdipLiveDelta delta);
+}
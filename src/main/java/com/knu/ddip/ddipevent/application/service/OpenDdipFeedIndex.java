@@ -0,0 +1,13 @@
+package com.knu.ddip.ddipevent.application.service;
+
+import com.knu.ddip.ddipevent.application.dto.FeedEntry;
+import com.knu.ddip.ddipevent.application.dto.FeedQuery;
+
+import java.util.List;
+import java.util.Optional;
+
+// 메모리에 올려 둔 OPEN 띱으로 피드 한 페이지를 계산
+// 아직 적재 전이거나 OPEN 외 상태를 조회하면 empty, 호출하는 쪽에서 DB로 조회
+public interface OpenDdipFeedIndex {
+    Optional<List<FeedEntry>> findFeedPage(FeedQuery query);
+}
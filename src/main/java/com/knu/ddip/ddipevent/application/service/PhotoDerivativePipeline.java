@@ -0,0 +1,122 @@
+package com.knu.ddip.ddipevent.application.service;
+
+import com.knu.ddip.common.file.FileStorageService;
+import com.knu.ddip.ddipevent.application.dto.PhotoVariant;
+import com.knu.ddip.ddipevent.application.dto.ResizedPhoto;
+import com.knu.ddip.ddipevent.application.event.PhotoUploadedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 사진 업로드가 커밋된 뒤 원본을 한 번 디코딩해서 썸네일, 중간 크기 축소본을 만들고 URL을 기록
+// 디코딩은 CPU를 많이 쓰므로 concurrency 개의 전용 스레드에서만 진행하고, 대기열이 가득 차면 버림 (축소본 없이 원본만 제공)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PhotoDerivativePipeline {
+
+    private static final List<PhotoVariant> VARIANTS = List.of(PhotoVariant.values());
+
+    private final FileStorageService fileStorageService;
+    private final PhotoResizer photoResizer;
+    private final DdipEventRepository ddipEventRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${photo.derivative.concurrency:2}")
+    private int concurrency = 2;
+
+    @Value("${photo.derivative.max-pending:100}")
+    private int maxPending = 100;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxPending), r -> {
+            Thread thread = new Thread(r, "photo-derivative-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        });
+        meterRegistry.gauge("photo.derivative.pending", executor, e -> e.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPhotoUploaded(PhotoUploadedEvent event) {
+        try {
+            executor.execute(() -> {
+                try {
+                    process(event);
+                } catch (Exception e) {
+                    meterRegistry.counter("photo.derivative.failed").increment();
+                    log.error("photo derivative error: {}", event.photoId(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("photo.derivative.rejected").increment();
+            log.warn("photo derivative rejected: {}", event.photoId());
+        }
+    }
+
+    void process(PhotoUploadedEvent event) throws IOException {
+        // 실패한 처리도 소요 시간에 포함
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            byte[] original;
+            try (InputStream in = fileStorageService.openFile(event.photoUrl())) {
+                original = in.readAllBytes();
+            }
+
+            Map<PhotoVariant, String> urls = new EnumMap<>(PhotoVariant.class);
+            for (ResizedPhoto resized : photoResizer.resize(original, VARIANTS)) {
+                long saved = original.length - resized.bytes().length;
+                // 원본이 이미 작아서 축소본이 더 크면 원본을 그대로 사용
+                if (saved <= 0) {
+                    urls.put(resized.variant(), event.photoUrl());
+                    continue;
+                }
+                // 축소본은 수십 KB라 스트리밍 업로드의 파트 버퍼 없이 크기를 지정해서 바로 전송
+                String url = fileStorageService.uploadBytes(resized.bytes(), resized.contentType(), resized.variant().directory());
+                urls.put(resized.variant(), url);
+                meterRegistry.summary("photo.derivative.bytes.saved").record(saved);
+            }
+
+            if (!ddipEventRepository.updatePhotoDerivatives(event.photoId(),
+                    urls.get(PhotoVariant.THUMBNAIL), urls.get(PhotoVariant.MEDIUM))) {
+                log.warn("photo derivative target not found: {}", event.photoId());
+            }
+            meterRegistry.counter("photo.derivative.completed").increment();
+        } finally {
+            sample.stop(meterRegistry.timer("photo.derivative"));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.knu.ddip.ddipevent.application.service;
+
+import com.knu.ddip.ddipevent.application.dto.PhotoVariant;
+import com.knu.ddip.ddipevent.application.dto.ResizedPhoto;
+
+import java.util.List;
+
+public interface PhotoResizer {
+
+    // 원본은 한 번만 디코딩해서 variants 크기로 줄여 인코딩, 지원하지 않는 형식이면 IllegalArgumentException
+    List<ResizedPhoto> resize(byte[] original, List<PhotoVariant> variants);
+}
@@ -0,0 +1,26 @@
+package com.knu.ddip.ddipevent.application.util;
+
+// 추천순 점수, 높을수록 앞
+// 시간 항은 현재 시각이 아닌 created_at 자체에 비례해서 페이지를 넘기는 동안 점수가 바뀌지 않음
+public abstract class FeedScore {
+
+    // 1시간 최신 = +1
+    private static final double RECENCY_SCALE_SECONDS = 3600.0;
+    // 200m 멀어짐 = -1
+    private static final double DISTANCE_SCALE_METERS = 200.0;
+    // 보상 2배 = +1
+    private static final double REWARD_UNIT = 1000.0;
+    // 난이도 1단계 = -0.5
+    private static final double DIFFICULTY_WEIGHT = 0.5;
+
+    public static double blended(double distanceMeters, double createdAtSeconds, int reward, int difficulty) {
+        return createdAtSeconds / RECENCY_SCALE_SECONDS
+                + log2(1 + Math.max(reward, 0) / REWARD_UNIT)
+                - distanceMeters / DISTANCE_SCALE_METERS
+                - difficulty * DIFFICULTY_WEIGHT;
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+}
@@ -0,0 +1,46 @@
+package com.knu.ddip.ddipevent.application.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// comparator 순서 기준 앞쪽 k개만 유지, 후보 n개에 O(n log k) 시간과 O(k) 메모리
+public class TopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    // 루트가 현재 k개 중 가장 뒤 순서
+    private final PriorityQueue<T> heap;
+
+    public TopK(int k, Comparator<? super T> order) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k는 0 이상이어야 합니다: " + k);
+        }
+        this.k = k;
+        this.order = order;
+        this.heap = new PriorityQueue<>(Math.max(k, 1), order.reversed());
+    }
+
+    public void offer(T value) {
+        if (k == 0) {
+            return;
+        }
+        if (heap.size() < k) {
+            heap.add(value);
+        } else if (order.compare(value, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(value);
+        }
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    public List<T> toSortedList() {
+        List<T> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+}
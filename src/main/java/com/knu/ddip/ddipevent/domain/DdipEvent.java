@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -26,8 +27,13 @@ public class DdipEvent {
     private UUID selectedResponderId;
     private List<UUID> applicants;
     private List<Photo> photos;
+    // 조회 이후 추가된 기록만 보관, 전체 기록은 InteractionRepository로 페이지 조회
     private List<Interaction> interactions;
     private Integer difficulty;
+    // 조회 시점의 버전, 저장 시 이 버전일 때만 반영
+    private Long version;
+    @Builder.Default
+    private final DdipEventChanges changes = new DdipEventChanges();
 
     public static DdipEvent create(String title, String content, Integer reward, Double latitude, Double longitude, Integer difficulty, UUID requesterId) {
         return DdipEvent.builder()
@@ -38,7 +44,8 @@ public class DdipEvent {
                 .longitude(longitude)
                 .difficulty(difficulty)
                 .requesterId(requesterId)
-                .createdAt(Instant.now())
+                // DB(datetime(6))에 저장되는 값과 같도록 마이크로초까지만
+                .createdAt(Instant.now().truncatedTo(ChronoUnit.MICROS))
                 .status(DdipStatus.OPEN)
                 .build();
     }
@@ -52,12 +59,8 @@ public class DdipEvent {
         }
         if (!this.applicants.contains(applicantId)) {
             this.applicants.add(applicantId);
-            this.interactions.add(Interaction.builder()
-                    .actorId(applicantId)
-                    .actorRole(ActorRole.RESPONDER)
-                    .actionType(ActionType.APPLY)
-                    .timestamp(Instant.now())
-                    .build());
+            this.changes.addApplicant(applicantId);
+            addInteraction(Interaction.apply(applicantId));
             return this;
         } else throw new DdipBadRequestException("이미 지원한 띱입니다.");
     }
@@ -74,7 +77,9 @@ public class DdipEvent {
         }
         this.selectedResponderId = responderId;
         this.status = DdipStatus.IN_PROGRESS;
-        this.interactions.add(Interaction.builder()
+        this.changes.markStateChanged();
+        addInteraction(Interaction.builder()
+                .interactionId(UUID.randomUUID())
                 .actorId(requesterId)
                 .actorRole(ActorRole.REQUESTER)
                 .actionType(ActionType.SELECT_RESPONDER)
@@ -83,25 +88,34 @@ public class DdipEvent {
         return this;
     }
 
-    public DdipEvent uploadPhoto(UUID responderId, String photoUrl, Double latitude, Double longitude, String responderComment) {
-        if (!this.selectedResponderId.equals(responderId)) {
+    // 업로드 URL 발급 시에도 같은 조건을 먼저 확인
+    public void validatePhotoUploader(UUID responderId) {
+        if (!Objects.equals(this.selectedResponderId, responderId)) {
             throw new DdipForbiddenException("띱의 선택된 수행자만 사진을 업로드할 수 있습니다.");
         }
         if (this.status != DdipStatus.IN_PROGRESS) {
             throw new DdipBadRequestException("진행중인 띱에만 사진을 업로드할 수 있습니다.");
         }
+    }
+
+    public DdipEvent uploadPhoto(UUID responderId, String photoUrl, Double latitude, Double longitude, String responderComment) {
+        validatePhotoUploader(responderId);
         if (photoUrl == null || photoUrl.isBlank()) {
             throw new DdipBadRequestException("photoUrl 값이 없습니다.");
         }
-        this.photos.add(Photo.builder()
+        Photo photo = Photo.builder()
+                .photoId(UUID.randomUUID())
                 .photoUrl(photoUrl)
                 .latitude(latitude)
                 .longitude(longitude)
                 .timestamp(Instant.now())
                 .status(PhotoStatus.PENDING)
                 .responderComment(responderComment)
-                .build());
-        this.interactions.add(Interaction.builder()
+                .build();
+        this.photos.add(photo);
+        this.changes.addPhoto(photo);
+        addInteraction(Interaction.builder()
+                .interactionId(UUID.randomUUID())
                 .actorId(responderId)
                 .actorRole(ActorRole.RESPONDER)
                 .actionType(ActionType.SUBMIT_PHOTO)
@@ -115,13 +129,15 @@ public class DdipEvent {
             throw new DdipForbiddenException("Pending 상태로 변경할수는 없습니다.");
         }
         Photo targetPhoto = findPhotoOrThrow(photoId);
+        this.changes.updatePhoto(targetPhoto);
         if (Objects.equals(requesterOrResponderId, this.requesterId)) { // 주체가 요청자
             if (status.equals(PhotoStatus.APPROVED)) {
                 targetPhoto.approve();
             } else {
                 boolean isQuestion = targetPhoto.feedbackByRequester(feedback);
                 if (isQuestion) {
-                    this.interactions.add(Interaction.builder()
+                    addInteraction(Interaction.builder()
+                            .interactionId(UUID.randomUUID())
                             .actorId(this.requesterId)
                             .actorRole(ActorRole.REQUESTER)
                             .actionType(ActionType.ASK_QUESTION)
@@ -130,7 +146,8 @@ public class DdipEvent {
                             .timestamp(Instant.now())
                             .build());
                 } else {
-                    this.interactions.add(Interaction.builder()
+                    addInteraction(Interaction.builder()
+                            .interactionId(UUID.randomUUID())
                             .actorId(this.requesterId)
                             .actorRole(ActorRole.REQUESTER)
                             .actionType(ActionType.REQUEST_REVISION)
@@ -143,7 +160,8 @@ public class DdipEvent {
             return this;
         } else if (Objects.equals(requesterOrResponderId, this.selectedResponderId)) { // 주체가 수행자
             targetPhoto.feedbackByResponder(feedback);
-            this.interactions.add(Interaction.builder()
+            addInteraction(Interaction.builder()
+                    .interactionId(UUID.randomUUID())
                     .actorId(this.selectedResponderId)
                     .actorRole(ActorRole.RESPONDER)
                     .actionType(ActionType.ANSWER_QUESTION)
@@ -160,6 +178,7 @@ public class DdipEvent {
         if (!Objects.equals(this.requesterId, requesterId)) {
             throw new DdipForbiddenException("띱을 등록한 사용자만 완료할 수 있습니다.");
         }
+        checkNotFinished();
         if (photos.isEmpty()) {
             throw new DdipBadRequestException("업로드된 사진이 없습니다.");
         }
@@ -168,7 +187,9 @@ public class DdipEvent {
             throw new DdipForbiddenException("최종 사진의 Status가 Approved가 아닙니다.");
         }
         this.status = DdipStatus.COMPLETED;
-        this.interactions.add(Interaction.builder()
+        this.changes.markStateChanged();
+        addInteraction(Interaction.builder()
+                .interactionId(UUID.randomUUID())
                 .actorId(requesterId)
                 .actorRole(ActorRole.RESPONDER)
                 .actionType(ActionType.APPROVE)
@@ -178,9 +199,12 @@ public class DdipEvent {
     }
 
     public DdipEvent cancel(UUID requesterOrResponderId) {
+        checkNotFinished();
         if (Objects.equals(requesterOrResponderId, this.requesterId)) { // 주체가 요청자
             this.status = DdipStatus.CANCELED;
-            this.interactions.add(Interaction.builder()
+            this.changes.markStateChanged();
+            addInteraction(Interaction.builder()
+                    .interactionId(UUID.randomUUID())
                     .actorId(this.requesterId)
                     .actorRole(ActorRole.REQUESTER)
                     .actionType(ActionType.CANCEL_BY_REQUESTER)
@@ -189,7 +213,9 @@ public class DdipEvent {
             return this;
         } else if (Objects.equals(requesterOrResponderId, this.selectedResponderId)) { // 주체가 수행자
             this.status = DdipStatus.CANCELED;
-            this.interactions.add(Interaction.builder()
+            this.changes.markStateChanged();
+            addInteraction(Interaction.builder()
+                    .interactionId(UUID.randomUUID())
                     .actorId(this.selectedResponderId)
                     .actorRole(ActorRole.RESPONDER)
                     .actionType(ActionType.GIVE_UP_BY_RESPONDER)
@@ -200,6 +226,23 @@ public class DdipEvent {
             throw new DdipBadRequestException("띱의 수행자 또는 요청자만 취소할 수 있습니다.");
     }
 
+    // 저장소가 버전 비교 후 반영에 성공했을 때 호출
+    public void increaseVersion() {
+        this.version = this.version + 1;
+    }
+
+    // 완료와 취소가 경합하면 나중에 반영되는 쪽이 다시 조회한 상태로 여기서 거절됨
+    private void checkNotFinished() {
+        if (this.status != null && this.status.isFinished()) {
+            throw new DdipBadRequestException("이미 완료되었거나 취소된 띱입니다.");
+        }
+    }
+
+    private void addInteraction(Interaction interaction) {
+        this.interactions.add(interaction);
+        this.changes.addInteraction(interaction);
+    }
+
     private Photo findPhotoOrThrow(UUID photoId) {
         return this.photos.stream()
                 .filter(photo -> photo.getPhotoId().equals(photoId))
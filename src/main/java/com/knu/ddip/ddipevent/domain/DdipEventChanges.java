@@ -0,0 +1,61 @@
+package com.knu.ddip.ddipevent.domain;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 조회 이후 애그리거트에서 바뀐 부분, 저장소는 전체 그래프 대신 이 내용만 반영
+@Getter
+public class DdipEventChanges {
+    // status, selectedResponderId
+    private boolean stateChanged;
+    private final List<UUID> addedApplicants = new ArrayList<>();
+    private final List<Photo> addedPhotos = new ArrayList<>();
+    private final Map<UUID, Photo> updatedPhotos = new LinkedHashMap<>();
+    private final List<Interaction> addedInteractions = new ArrayList<>();
+
+    void markStateChanged() {
+        this.stateChanged = true;
+    }
+
+    void addApplicant(UUID applicantId) {
+        addedApplicants.add(applicantId);
+    }
+
+    void addPhoto(Photo photo) {
+        addedPhotos.add(photo);
+    }
+
+    void updatePhoto(Photo photo) {
+        // 아직 저장 전인 사진은 insert 시 현재 값이 그대로 들어감
+        if (!addedPhotos.contains(photo)) {
+            updatedPhotos.put(photo.getPhotoId(), photo);
+        }
+    }
+
+    void addInteraction(Interaction interaction) {
+        addedInteractions.add(interaction);
+    }
+
+    public Collection<Photo> getUpdatedPhotos() {
+        return updatedPhotos.values();
+    }
+
+    public boolean isEmpty() {
+        return !stateChanged && addedApplicants.isEmpty() && addedPhotos.isEmpty()
+                && updatedPhotos.isEmpty() && addedInteractions.isEmpty();
+    }
+
+    public void clear() {
+        stateChanged = false;
+        addedApplicants.clear();
+        addedPhotos.clear();
+        updatedPhotos.clear();
+        addedInteractions.clear();
+    }
+}
@@ -7,4 +7,9 @@ public enum DdipStatus {
     FAILED,
     EXPIRED,
     CANCELED;
+
+    // 더 이상 상태 전이가 없는 상태
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == EXPIRED || this == CANCELED;
+    }
 }
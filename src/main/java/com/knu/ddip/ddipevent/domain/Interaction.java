@@ -10,10 +10,22 @@ import java.util.UUID;
 @Builder
 public class Interaction {
     private final UUID interactionId;
+    // 저장 후 부여되는 기록 순서, 저장 전에는 null
+    private final Long seq;
     private final UUID actorId;
     private final ActorRole actorRole;
     private final ActionType actionType;
     private final String comment;
     private final UUID relatedPhotoId;
     private final Instant timestamp;
+
+    public static Interaction apply(UUID applicantId) {
+        return Interaction.builder()
+                .interactionId(UUID.randomUUID())
+                .actorId(applicantId)
+                .actorRole(ActorRole.RESPONDER)
+                .actionType(ActionType.APPLY)
+                .timestamp(Instant.now())
+                .build();
+    }
 }
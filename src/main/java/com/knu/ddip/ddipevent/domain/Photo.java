@@ -13,6 +13,9 @@ import java.util.UUID;
 public class Photo {
     private final UUID photoId;
     private final String photoUrl;
+    // 업로드 이후 백그라운드에서 만들어지는 축소본, 만들어지기 전에는 null
+    private final String thumbnailUrl;
+    private final String mediumUrl;
     private final Double latitude;
     private final Double longitude;
     private final Instant timestamp;
@@ -0,0 +1,7 @@
+package com.knu.ddip.ddipevent.exception;
+
+public class DdipConflictException extends RuntimeException {
+    public DdipConflictException(String message) {
+        super(message);
+    }
+}
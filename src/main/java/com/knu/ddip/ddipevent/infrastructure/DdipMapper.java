@@ -1,5 +1,7 @@
 package com.knu.ddip.ddipevent.infrastructure;
 
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2LatLng;
 import com.knu.ddip.ddipevent.domain.DdipEvent;
 import com.knu.ddip.ddipevent.domain.Interaction;
 import com.knu.ddip.ddipevent.domain.Photo;
@@ -13,8 +15,11 @@ import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static com.knu.ddip.location.application.util.S2Constants.LEVEL;
+
 @Component
 public class DdipMapper {
 
@@ -24,7 +29,6 @@ public class DdipMapper {
     public DdipEventEntity toEntity(DdipEvent domain) {
         DdipEventEntity entity = buildDdipEventEntity(domain);
         entity.setPhotos(mapPhotos(domain.getPhotos(), entity));
-        entity.setInteractions(mapInteractions(domain.getInteractions(), entity));
         entity.setLocalPoint(geometryFactory.createPoint(new Coordinate(domain.getLongitude(), domain.getLatitude())));
         return entity;
     }
@@ -38,14 +42,22 @@ public class DdipMapper {
                 .reward(domain.getReward())
                 .latitude(domain.getLatitude())
                 .longitude(domain.getLongitude())
+                .cellId(toCellId(domain.getLatitude(), domain.getLongitude()))
                 .createdAt(domain.getCreatedAt())
                 .status(domain.getStatus())
                 .selectedResponderId(domain.getSelectedResponderId())
                 .applicants(domain.getApplicants() != null ? domain.getApplicants() : new ArrayList<>())
                 .difficulty(domain.getDifficulty())
+                .version(domain.getVersion())
                 .build();
     }
 
+    // 띱 위치의 레벨 17 셀 id, cell_id 컬럼과 피드 인덱스, 셀 캐시 무효화가 모두 이 값을 기준으로 함
+    public static Long toCellId(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) return null;
+        return S2CellId.fromLatLng(S2LatLng.fromDegrees(latitude, longitude)).parent(LEVEL).id();
+    }
+
     private List<PhotoEntity> mapPhotos(List<Photo> photos, DdipEventEntity ddipEvent) {
         if (photos == null) return new ArrayList<>();
         return photos.stream()
@@ -53,6 +65,8 @@ public class DdipMapper {
                         .id(photo.getPhotoId())
                         .ddipEvent(ddipEvent)
                         .photoUrl(photo.getPhotoUrl())
+                        .thumbnailUrl(photo.getThumbnailUrl())
+                        .mediumUrl(photo.getMediumUrl())
                         .latitude(photo.getLatitude())
                         .longitude(photo.getLongitude())
                         .timestamp(photo.getTimestamp())
@@ -65,20 +79,17 @@ public class DdipMapper {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    private List<InteractionEntity> mapInteractions(List<Interaction> interactions, DdipEventEntity ddipEvent) {
-        if (interactions == null) return new ArrayList<>();
-        return interactions.stream()
-                .map(interaction -> InteractionEntity.builder()
-                        .id(interaction.getInteractionId())
-                        .ddipEvent(ddipEvent)
-                        .actorId(interaction.getActorId())
-                        .actorRole(interaction.getActorRole())
-                        .actionType(interaction.getActionType())
-                        .content(interaction.getComment())
-                        .relatedPhotoId(interaction.getRelatedPhotoId())
-                        .timestamp(interaction.getTimestamp())
-                        .build())
-                .collect(Collectors.toCollection(ArrayList::new));
+    public InteractionEntity toInteractionEntity(Interaction interaction, UUID ddipEventId) {
+        return InteractionEntity.builder()
+                .id(interaction.getInteractionId())
+                .ddipEventId(ddipEventId)
+                .actorId(interaction.getActorId())
+                .actorRole(interaction.getActorRole())
+                .actionType(interaction.getActionType())
+                .content(interaction.getComment())
+                .relatedPhotoId(interaction.getRelatedPhotoId())
+                .timestamp(interaction.getTimestamp())
+                .build();
     }
 
     public DdipEvent toDomain(DdipEventEntity entity) {
@@ -93,10 +104,13 @@ public class DdipMapper {
                 .createdAt(entity.getCreatedAt())
                 .status(entity.getStatus())
                 .selectedResponderId(entity.getSelectedResponderId())
-                .applicants(entity.getApplicants())
+                // 영속 컬렉션을 그대로 넘기면 도메인 변경이 컬렉션 전체 재작성으로 이어지므로 복사
+                .applicants(entity.getApplicants() != null ? new ArrayList<>(entity.getApplicants()) : new ArrayList<>())
                 .photos(mapPhotoDomain(entity.getPhotos()))
-                .interactions(mapInteractionDomain(entity.getInteractions()))
+                // 기록은 append-only 저장소에서 따로 조회
+                .interactions(new ArrayList<>())
                 .difficulty(entity.getDifficulty())
+                .version(entity.getVersion())
                 .build();
     }
 
@@ -106,6 +120,8 @@ public class DdipMapper {
                 .map(pe -> Photo.builder()
                         .photoId(pe.getId())
                         .photoUrl(pe.getPhotoUrl())
+                        .thumbnailUrl(pe.getThumbnailUrl())
+                        .mediumUrl(pe.getMediumUrl())
                         .latitude(pe.getLatitude())
                         .longitude(pe.getLongitude())
                         .timestamp(pe.getTimestamp())
@@ -118,18 +134,16 @@ public class DdipMapper {
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
-    private List<Interaction> mapInteractionDomain(List<InteractionEntity> interactionEntities) {
-        if (interactionEntities == null) return new ArrayList<>();
-        return interactionEntities.stream()
-                .map(ie -> Interaction.builder()
-                        .interactionId(ie.getId())
-                        .actorId(ie.getActorId())
-                        .actorRole(ie.getActorRole())
-                        .actionType(ie.getActionType())
-                        .comment(ie.getContent())
-                        .relatedPhotoId(ie.getRelatedPhotoId())
-                        .timestamp(ie.getTimestamp())
-                        .build())
-                .collect(Collectors.toCollection(ArrayList::new));
+    public Interaction toInteraction(InteractionEntity ie) {
+        return Interaction.builder()
+                .interactionId(ie.getId())
+                .seq(ie.getSeq())
+                .actorId(ie.getActorId())
+                .actorRole(ie.getActorRole())
+                .actionType(ie.getActionType())
+                .comment(ie.getContent())
+                .relatedPhotoId(ie.getRelatedPhotoId())
+                .timestamp(ie.getTimestamp())
+                .build();
     }
 }
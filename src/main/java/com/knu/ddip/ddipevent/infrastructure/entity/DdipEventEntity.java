@@ -13,7 +13,12 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "ddip_event")
+@Table(name = "ddip_event", indexes = {
+        @Index(name = "idx_ddip_event_status_cell_id", columnList = "status, cell_id"),
+        @Index(name = "idx_ddip_event_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_ddip_event_status_reward", columnList = "status, reward"),
+        @Index(name = "idx_ddip_event_status_difficulty", columnList = "status, difficulty")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -49,6 +54,10 @@ public class DdipEventEntity {
     @Setter
     private Point localPoint;
 
+    // 레벨 17 S2 셀 id, 상위 레벨 집계 시 cell_id >> shift 로 묶음 (컬럼 추가 이전 행은 DdipCellIdBackfiller가 채움)
+    @Column(name = "cell_id")
+    private Long cellId;
+
     @Column(nullable = false)
     private Instant createdAt;
 
@@ -61,7 +70,10 @@ public class DdipEventEntity {
     private UUID selectedResponderId;
 
     @ElementCollection(fetch = FetchType.LAZY)
-    @CollectionTable(name = "ddip_applicant", joinColumns = @JoinColumn(name = "ddip_event_id"))
+    // 같은 띱에 같은 사용자는 한 번만 지원, 동시 지원 중복 제거를 DB 유니크 키로 보장
+    @CollectionTable(name = "ddip_applicant", joinColumns = @JoinColumn(name = "ddip_event_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_ddip_applicant_event_applicant",
+                    columnNames = {"ddip_event_id", "applicant_id"}))
     @Column(name = "applicant_id", columnDefinition = "char(36)")
     @JdbcTypeCode(SqlTypes.CHAR)
     private List<UUID> applicants;
@@ -70,10 +82,11 @@ public class DdipEventEntity {
     @OneToMany(mappedBy = "ddipEvent", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<PhotoEntity> photos;
 
-    @Setter
-    @OneToMany(mappedBy = "ddipEvent", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
-    private List<InteractionEntity> interactions;
-
     @Column(nullable = false)
     private Integer difficulty;
+
+    // 상태 전이 낙관적 락, 기존 행은 0부터 시작
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint not null default 0")
+    private Long version;
 }
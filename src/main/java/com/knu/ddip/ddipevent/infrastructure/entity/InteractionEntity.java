@@ -7,29 +7,37 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
 import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
 import java.time.Instant;
 import java.util.UUID;
 
+// 띱 진행 기록, insert만 하고 수정하지 않는 append-only 테이블
+// 띱 애그리거트와 연관관계 없이 ddip_event_id로만 묶고 (ddip_event_id, seq) 인덱스로 시간순 페이지 조회
 @Entity
-@Table(name = "interaction")
+@Immutable
+@Table(name = "ddip_interaction",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ddip_interaction_id", columnNames = "id"),
+        indexes = @Index(name = "idx_ddip_interaction_event_seq", columnList = "ddip_event_id, seq"))
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class InteractionEntity {
+    // AUTO_INCREMENT라 전체에서 단조 증가하므로 한 띱 안에서도 기록 순서와 같음 (연속된 값은 아님)
     @Id
-    @UuidGenerator
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
     @Column(columnDefinition = "char(36)", updatable = false, nullable = false)
     @JdbcTypeCode(SqlTypes.CHAR)
     private UUID id;
 
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "ddip_event_id")
-    private DdipEventEntity ddipEvent;
+    @Column(name = "ddip_event_id", columnDefinition = "char(36)", updatable = false, nullable = false)
+    @JdbcTypeCode(SqlTypes.CHAR)
+    private UUID ddipEventId;
 
     @Column(columnDefinition = "char(36)")
     @JdbcTypeCode(SqlTypes.CHAR)
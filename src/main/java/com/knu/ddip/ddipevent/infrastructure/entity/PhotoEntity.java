@@ -33,6 +33,10 @@ public class PhotoEntity {
     @Column(nullable = false)
     private String photoUrl;
 
+    private String thumbnailUrl;
+
+    private String mediumUrl;
+
     @Column(nullable = false)
     private Double latitude;
 
@@ -0,0 +1,128 @@
+package com.knu.ddip.ddipevent.infrastructure.image;
+
+import com.knu.ddip.ddipevent.application.dto.PhotoVariant;
+import com.knu.ddip.ddipevent.application.dto.ResizedPhoto;
+import com.knu.ddip.ddipevent.application.service.PhotoResizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+// JDK ImageIO로 디코딩, 축소, JPEG 인코딩
+// 카메라 원본은 가장 큰 축소본의 2배 이상만 남기도록 디코딩 단계에서 서브샘플링해서 래스터 메모리를 줄임
+// 축소본은 큰 것부터 만들고 작은 것은 직전 결과에서 다시 줄임
+@Component
+public class ImageIoPhotoResizer implements PhotoResizer {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    @Value("${photo.derivative.jpeg-quality:0.8}")
+    private float jpegQuality = 0.8f;
+
+    @Override
+    public List<ResizedPhoto> resize(byte[] original, List<PhotoVariant> variants) {
+        List<PhotoVariant> largestFirst = variants.stream()
+                .sorted(Comparator.comparingInt(PhotoVariant::maxDimension).reversed())
+                .toList();
+
+        BufferedImage current = decode(original, largestFirst.get(0).maxDimension());
+        List<ResizedPhoto> resized = new ArrayList<>(variants.size());
+        for (PhotoVariant variant : largestFirst) {
+            current = scale(current, variant.maxDimension());
+            resized.add(new ResizedPhoto(variant, encode(current), CONTENT_TYPE, current.getWidth(), current.getHeight()));
+        }
+        return resized;
+    }
+
+    private BufferedImage decode(byte[] original, int targetDimension) {
+        // ImageIO 기본 캐시는 임시 파일을 쓰므로 메모리 캐시 스트림을 직접 사용
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longest / (targetDimension * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 긴 변이 maxDimension 이하가 되도록 비율 유지 축소, 한 번에 절반 넘게 줄이면 화질이 떨어져서 절반씩 나눠 줄임
+    private BufferedImage scale(BufferedImage source, int maxDimension) {
+        int longest = Math.max(source.getWidth(), source.getHeight());
+        double ratio = Math.min(1.0, (double) maxDimension / longest);
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage current = source;
+        do {
+            int width = Math.max(targetWidth, current.getWidth() / 2);
+            int height = Math.max(targetHeight, current.getHeight() / 2);
+            current = draw(current, width, height);
+        } while (current.getWidth() > targetWidth || current.getHeight() > targetHeight);
+        return current;
+    }
+
+    // JPEG은 알파 채널이 없어서 투명한 부분은 흰 배경으로 채움
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(output)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+}
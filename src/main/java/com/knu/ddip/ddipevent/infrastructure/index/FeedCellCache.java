@@ -0,0 +1,189 @@
+package com.knu.ddip.ddipevent.infrastructure.index;
+
+import com.google.common.geometry.S2Cell;
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2LatLng;
+import com.google.common.geometry.S2LatLngRect;
+import com.google.common.geometry.S2RegionCoverer;
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.dto.FeedEntry;
+import com.knu.ddip.ddipevent.application.dto.FeedQuery;
+import com.knu.ddip.ddipevent.application.service.DdipEventRepository;
+import com.knu.ddip.ddipevent.application.service.DdipFeedCache;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.knu.ddip.location.application.util.S2Constants.ROLLUP_LEVELS;
+
+// 화면을 고정 레벨(13, 15, 17 중 하나) S2 셀로 덮고 (상태, 셀) 별 띱 요약 목록을 캐시
+// 레벨이 고정이라 지도를 조금 움직여도 같은 셀이 다시 쓰이고, 페이지 계산은 FeedPageRanker로 DB 쿼리와 같은 커서 사용
+// 크기(LRU)와 TTL로 만료, 띱 생성, 지원, 상태 변경 시 그 띱이 속한 셀의 항목만 무효화
+// 셀 목록은 cell_id로만 조회하므로 cell_id가 비어 있는 이전 띱은 DdipCellIdBackfiller가 기동 시 먼저 채움
+@Component
+public class FeedCellCache implements DdipFeedCache {
+
+    // 한 화면에서 캐시로 처리할 최대 셀 수
+    private static final int MAX_CELLS_PER_QUERY = 32;
+
+    private final DdipEventRepository ddipEventRepository;
+    private final FeedPageRanker feedPageRanker;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final Counter bypassCounter;
+
+    @Value("${ddip.feed-cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${ddip.feed-cache.max-entries:2000}")
+    private int maxEntries = 2000;
+
+    @Value("${ddip.feed-cache.ttl-ms:30000}")
+    private long ttlMs = 30000;
+
+    // 셀 하나에 이보다 많은 띱이 있으면 캐시하지 않고 DB로 조회
+    @Value("${ddip.feed-cache.max-rows-per-cell:500}")
+    private int maxRowsPerCell = 500;
+
+    // 접근 순서 LinkedHashMap으로 LRU, 모든 접근은 entries 잠금 안에서
+    private final Map<CellKey, CachedCell> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // DB 조회 도중 무효화가 일어났으면 조회한 값을 넣지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public FeedCellCache(DdipEventRepository ddipEventRepository, FeedPageRanker feedPageRanker, MeterRegistry meterRegistry) {
+        this.ddipEventRepository = ddipEventRepository;
+        this.feedPageRanker = feedPageRanker;
+        this.hitCounter = meterRegistry.counter("ddip.feed.cache.hit");
+        this.missCounter = meterRegistry.counter("ddip.feed.cache.miss");
+        this.evictionCounter = meterRegistry.counter("ddip.feed.cache.eviction");
+        this.bypassCounter = meterRegistry.counter("ddip.feed.cache.bypass");
+        meterRegistry.gauge("ddip.feed.cache.size", this, FeedCellCache::size);
+    }
+
+    @Override
+    public Optional<List<FeedEntry>> findFeedPage(FeedQuery query) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        List<S2CellId> cells = coveringOf(query);
+        if (cells.isEmpty()) {
+            bypassCounter.increment();
+            return Optional.empty();
+        }
+
+        FeedPageRanker.Page page = feedPageRanker.newPage(query);
+        for (S2CellId cell : cells) {
+            Optional<List<DdipEventSummary>> summaries = summariesOf(query.status(), cell);
+            if (summaries.isEmpty()) {
+                bypassCounter.increment();
+                return Optional.empty();
+            }
+            summaries.get().forEach(page::offer);
+        }
+        return Optional.of(page.entries());
+    }
+
+    // 띱이 속한 레벨 17 셀을 포함하는 모든 캐시 레벨의 셀을 상태와 상관없이 무효화
+    public void invalidate(long cellId) {
+        invalidations.incrementAndGet();
+        S2CellId leaf = new S2CellId(cellId);
+        synchronized (entries) {
+            for (int level : ROLLUP_LEVELS) {
+                long parentId = leaf.parent(level).id();
+                for (DdipStatus status : DdipStatus.values()) {
+                    entries.remove(new CellKey(status, parentId));
+                }
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Optional<List<DdipEventSummary>> summariesOf(DdipStatus status, S2CellId cell) {
+        CellKey key = new CellKey(status, cell.id());
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedCell cached = entries.get(key);
+            if (cached != null && cached.expiresAt() > now) {
+                hitCounter.increment();
+                return Optional.of(cached.summaries());
+            }
+            if (cached != null) {
+                entries.remove(key);
+            }
+        }
+
+        missCounter.increment();
+        long invalidationsBefore = invalidations.get();
+        List<DdipEventSummary> summaries = ddipEventRepository.findSummariesByStatusInCellRange(
+                status, cell.rangeMin().id(), cell.rangeMax().id(), maxRowsPerCell + 1);
+        if (summaries.size() > maxRowsPerCell) {
+            return Optional.empty();
+        }
+
+        synchronized (entries) {
+            if (invalidations.get() == invalidationsBefore) {
+                entries.put(key, new CachedCell(List.copyOf(summaries), now + ttlMs));
+                evictOverflow();
+            }
+        }
+        return Optional.of(summaries);
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<CellKey, CachedCell>> it = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictionCounter.increment();
+        }
+    }
+
+    // 셀 수가 MAX_CELLS_PER_QUERY 이하가 되는 가장 세밀한 레벨로 덮음, 모두 넘으면 empty
+    private List<S2CellId> coveringOf(FeedQuery query) {
+        S2LatLngRect rect = S2LatLngRect.fromPointPair(
+                S2LatLng.fromDegrees(query.swLat(), query.swLon()),
+                S2LatLng.fromDegrees(query.neLat(), query.neLon()));
+        double area = rect.area();
+        for (int i = ROLLUP_LEVELS.length - 1; i >= 0; i--) {
+            int level = ROLLUP_LEVELS[i];
+            if (area / S2Cell.averageArea(level) > MAX_CELLS_PER_QUERY) {
+                continue;
+            }
+            S2RegionCoverer coverer = S2RegionCoverer.builder()
+                    .setMinLevel(level)
+                    .setMaxLevel(level)
+                    .setMaxCells(MAX_CELLS_PER_QUERY)
+                    .build();
+            // ArrayList로 받아야 정규화로 부모 셀에 합쳐지지 않고 모두 같은 레벨
+            ArrayList<S2CellId> cells = new ArrayList<>();
+            coverer.getCovering(rect, cells);
+            if (cells.size() <= MAX_CELLS_PER_QUERY) {
+                return cells;
+            }
+        }
+        return List.of();
+    }
+
+    private record CellKey(DdipStatus status, long cellId) {
+    }
+
+    private record CachedCell(List<DdipEventSummary> summaries, long expiresAt) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.knu.ddip.ddipevent.infrastructure.index;
+
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.dto.FeedCursor;
+import com.knu.ddip.ddipevent.application.dto.FeedEntry;
+import com.knu.ddip.ddipevent.application.dto.FeedQuery;
+import com.knu.ddip.ddipevent.application.dto.FeedSort;
+import com.knu.ddip.ddipevent.application.util.DistanceConverter;
+import com.knu.ddip.ddipevent.application.util.FeedScore;
+import com.knu.ddip.ddipevent.application.util.TopK;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+
+// 메모리에 있는 띱 요약으로 DB 피드 쿼리와 같은 페이지를 계산 (OpenDdipIndex, FeedCellCache 공용)
+// 정렬 키와 순서는 DB 피드 쿼리와 같은 형식이라 커서를 그대로 주고받을 수 있음
+// (거리는 ST_Distance_Sphere와 반지름이 달라 소스가 바뀌는 순간에만 경계의 한두 건이 어긋날 수 있음)
+@Component
+@RequiredArgsConstructor
+public class FeedPageRanker {
+
+    private final DistanceConverter distanceConverter;
+
+    public Page newPage(FeedQuery query) {
+        return new Page(query);
+    }
+
+    public class Page {
+
+        private final FeedQuery query;
+        private final Comparator<Ranked> order;
+        private final Ranked after;
+        private final TopK<Ranked> topK;
+
+        private Page(FeedQuery query) {
+            this.query = query;
+            this.order = orderOf(query.sort());
+            FeedCursor cursor = query.cursor();
+            this.after = cursor != null ? new Ranked(null, cursor.id().toString(), cursor.key(), new BigDecimal(cursor.key())) : null;
+            this.topK = new TopK<>(query.limit(), order);
+        }
+
+        // 화면 영역 밖이거나 커서 이전이면 버림
+        public void offer(DdipEventSummary summary) {
+            if (!covers(summary)) {
+                return;
+            }
+            Ranked ranked = rank(summary);
+            if (after == null || order.compare(ranked, after) > 0) {
+                topK.offer(ranked);
+            }
+        }
+
+        public List<FeedEntry> entries() {
+            return topK.toSortedList().stream()
+                    .map(ranked -> new FeedEntry(ranked.summary(), ranked.sortKey()))
+                    .toList();
+        }
+
+        // MBRCovers와 같이 경계 위의 점 포함
+        private boolean covers(DdipEventSummary summary) {
+            return summary.latitude() >= query.swLat() && summary.latitude() <= query.neLat()
+                    && summary.longitude() >= query.swLon() && summary.longitude() <= query.neLon();
+        }
+
+        // DB 쿼리가 돌려주는 sortKey 문자열과 같은 형식으로 만들고, 비교는 그 문자열 값으로
+        private Ranked rank(DdipEventSummary summary) {
+            String sortKey = switch (query.sort()) {
+                case DISTANCE -> Double.toString(distanceOf(summary));
+                case NEWEST -> epochSecondsOf(summary.createdAt()).toPlainString();
+                case REWARD -> summary.reward().toString();
+                case DIFFICULTY -> summary.difficulty().toString();
+                case BLENDED -> Double.toString(FeedScore.blended(distanceOf(summary),
+                        epochSecondsOf(summary.createdAt()).doubleValue(), summary.reward(), summary.difficulty()));
+            };
+            return new Ranked(summary, summary.id().toString(), sortKey, new BigDecimal(sortKey));
+        }
+
+        private double distanceOf(DdipEventSummary summary) {
+            return distanceConverter.haversineMeters(query.originLat(), query.originLon(), summary.latitude(), summary.longitude());
+        }
+    }
+
+    // UNIX_TIMESTAMP(created_at)과 같은 소수점 6자리 초
+    private static BigDecimal epochSecondsOf(Instant instant) {
+        return BigDecimal.valueOf(instant.getEpochSecond()).add(BigDecimal.valueOf(instant.getNano() / 1000, 6));
+    }
+
+    // 피드 쿼리의 ORDER BY와 같은 순서
+    private static Comparator<Ranked> orderOf(FeedSort sort) {
+        Comparator<Ranked> byKey = Comparator.comparing(Ranked::key);
+        Comparator<Ranked> byId = Comparator.comparing(Ranked::id);
+        return switch (sort) {
+            case DISTANCE, DIFFICULTY -> byKey.thenComparing(byId);
+            case NEWEST -> byKey.reversed().thenComparing(byId.reversed());
+            case REWARD, BLENDED -> byKey.reversed().thenComparing(byId);
+        };
+    }
+
+    private record Ranked(DdipEventSummary summary, String id, String sortKey, BigDecimal key) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.knu.ddip.ddipevent.infrastructure.index;
+
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2CellUnion;
+import com.google.common.geometry.S2LatLng;
+import com.google.common.geometry.S2LatLngRect;
+import com.google.common.geometry.S2RegionCoverer;
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.dto.FeedEntry;
+import com.knu.ddip.ddipevent.application.dto.FeedQuery;
+import com.knu.ddip.ddipevent.application.service.OpenDdipFeedIndex;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import com.knu.ddip.ddipevent.infrastructure.DdipMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.knu.ddip.location.application.util.S2Constants.LEVEL;
+
+// OPEN 띱 요약을 레벨 17 S2 셀 id별 버킷으로 보관하는 메모리 인덱스
+// 버킷 값은 불변 리스트로 통째로 교체하므로 조회는 잠금 없이 진행, 쓰기는 OpenDdipIndexSynchronizer 한 스레드에서만
+// 페이지 계산은 FeedPageRanker로 DB 피드 쿼리와 같은 정렬 키, 순서를 사용
+@Component
+public class OpenDdipIndex implements OpenDdipFeedIndex {
+
+    private static final int MAX_COVERING_CELLS = 8;
+
+    private final FeedPageRanker feedPageRanker;
+    private final Counter servedCounter;
+    private final Counter fallbackCounter;
+
+    private volatile ConcurrentSkipListMap<Long, List<DdipEventSummary>> buckets = new ConcurrentSkipListMap<>();
+    private volatile Map<UUID, Long> cellIdsById = new HashMap<>();
+    private volatile boolean ready;
+    private final Object writeLock = new Object();
+
+    public OpenDdipIndex(FeedPageRanker feedPageRanker, MeterRegistry meterRegistry) {
+        this.feedPageRanker = feedPageRanker;
+        this.servedCounter = meterRegistry.counter("ddip.feed.index.served");
+        this.fallbackCounter = meterRegistry.counter("ddip.feed.index.fallback");
+        meterRegistry.gauge("ddip.feed.index.size", this, OpenDdipIndex::size);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        synchronized (writeLock) {
+            return cellIdsById.size();
+        }
+    }
+
+    // 전체 재적재, 새 버킷을 만든 뒤 한 번에 교체
+    public void replaceAll(Collection<DdipEventSummary> summaries) {
+        ConcurrentSkipListMap<Long, List<DdipEventSummary>> newBuckets = new ConcurrentSkipListMap<>();
+        Map<UUID, Long> newCellIds = new HashMap<>();
+        Map<Long, List<DdipEventSummary>> grouped = new HashMap<>();
+        for (DdipEventSummary summary : summaries) {
+            if (summary.status() != DdipStatus.OPEN) {
+                continue;
+            }
+            long cellId = DdipMapper.toCellId(summary.latitude(), summary.longitude());
+            grouped.computeIfAbsent(cellId, key -> new ArrayList<>()).add(summary);
+            newCellIds.put(summary.id(), cellId);
+        }
+        grouped.forEach((cellId, bucket) -> newBuckets.put(cellId, List.copyOf(bucket)));
+
+        synchronized (writeLock) {
+            this.buckets = newBuckets;
+            this.cellIdsById = newCellIds;
+            this.ready = true;
+        }
+    }
+
+    // 추가 또는 교체, OPEN이 아니면 제거
+    public void put(DdipEventSummary summary) {
+        synchronized (writeLock) {
+            removeFromBucket(summary.id());
+            if (summary.status() != DdipStatus.OPEN) {
+                return;
+            }
+            long cellId = DdipMapper.toCellId(summary.latitude(), summary.longitude());
+            List<DdipEventSummary> bucket = new ArrayList<>(buckets.getOrDefault(cellId, List.of()));
+            bucket.add(summary);
+            buckets.put(cellId, List.copyOf(bucket));
+            cellIdsById.put(summary.id(), cellId);
+        }
+    }
+
+    public void remove(UUID id) {
+        synchronized (writeLock) {
+            removeFromBucket(id);
+        }
+    }
+
+    @Override
+    public Optional<List<FeedEntry>> findFeedPage(FeedQuery query) {
+        if (!ready || query.status() != DdipStatus.OPEN) {
+            fallbackCounter.increment();
+            return Optional.empty();
+        }
+
+        NavigableMap<Long, List<DdipEventSummary>> snapshot = buckets;
+        FeedPageRanker.Page page = feedPageRanker.newPage(query);
+        // 한 셀의 range는 같은 face 안에 있어서 signed 정렬 순서로 잘라도 unsigned 순서와 같음
+        for (S2CellId cell : coveringOf(query)) {
+            for (List<DdipEventSummary> bucket : snapshot.subMap(cell.rangeMin().id(), true, cell.rangeMax().id(), true).values()) {
+                bucket.forEach(page::offer);
+            }
+        }
+
+        servedCounter.increment();
+        return Optional.of(page.entries());
+    }
+
+    private void removeFromBucket(UUID id) {
+        Long cellId = cellIdsById.remove(id);
+        if (cellId == null) {
+            return;
+        }
+        List<DdipEventSummary> bucket = buckets.getOrDefault(cellId, List.of()).stream()
+                .filter(summary -> !summary.id().equals(id))
+                .toList();
+        if (bucket.isEmpty()) {
+            buckets.remove(cellId);
+        } else {
+            buckets.put(cellId, bucket);
+        }
+    }
+
+    private List<S2CellId> coveringOf(FeedQuery query) {
+        S2LatLngRect rect = S2LatLngRect.fromPointPair(
+                S2LatLng.fromDegrees(query.swLat(), query.swLon()),
+                S2LatLng.fromDegrees(query.neLat(), query.neLon()));
+        S2RegionCoverer coverer = S2RegionCoverer.builder()
+                .setMaxLevel(LEVEL)
+                .setMaxCells(MAX_COVERING_CELLS)
+                .build();
+        S2CellUnion union = new S2CellUnion();
+        coverer.getCovering(rect, union);
+        return union.cellIds();
+    }
+}
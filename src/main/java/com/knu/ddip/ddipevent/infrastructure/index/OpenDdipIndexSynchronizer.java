@@ -0,0 +1,189 @@
+package com.knu.ddip.ddipevent.infrastructure.index;
+
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.event.DdipChangedEvent;
+import com.knu.ddip.ddipevent.application.service.DdipEventRepository;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import com.knu.ddip.ddipevent.infrastructure.DdipMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+
+// OpenDdipIndex를 시작 시 적재하고 이후 세 가지 경로로 갱신
+// 1. 이 서버의 DdipService가 발행한 DdipChangedEvent (커밋 이후)
+// 2. 다른 서버가 Redis pub/sub으로 보낸 무효화 메시지 (띱 id를 DB에서 다시 조회)
+// 3. 놓친 메시지를 메우기 위한 주기적 전체 재적재
+// 인덱스 쓰기는 모두 한 스레드에서 도착 순서대로 처리해서 먼저 읽은 오래된 값이 나중 값을 덮지 않도록 함
+// FeedCellCache는 1, 2 경로에서 띱의 셀만 바로 무효화 (인덱스를 끈 경우에도 동작, 지원 이벤트 포함)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenDdipIndexSynchronizer implements ApplicationRunner, MessageListener {
+
+    public static final String CHANNEL = "ddip:feed:invalidate";
+    private static final String DELIMITER = "|";
+
+    private final OpenDdipIndex openDdipIndex;
+    private final FeedCellCache feedCellCache;
+    private final DdipEventRepository ddipEventRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${ddip.feed-index.enabled:true}")
+    private boolean enabled;
+
+    // 자기가 보낸 무효화 메시지는 무시
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private ExecutorService writer;
+
+    @PostConstruct
+    public void init() {
+        if (enabled) {
+            writer = Executors.newSingleThreadExecutor(r -> {
+                Thread thread = new Thread(r, "ddip-feed-index");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            writer.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            submit(this::reload);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ddip.feed-index.resync-interval-ms:60000}",
+            initialDelayString = "${ddip.feed-index.resync-interval-ms:60000}")
+    public void resync() {
+        if (enabled) {
+            submit(this::reload);
+        }
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트도 바로 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDdipChanged(DdipChangedEvent event) {
+        DdipEventSummary summary = event.summary();
+        if (summary == null) {
+            // 지원 이벤트는 위치가 없어서 커밋된 띱을 한 번 조회해 인덱스 갱신, 셀 캐시 무효화, 메시지 발행에 함께 사용
+            // 인덱스를 켠 경우 조회는 쓰기 스레드에서 해서 지원 요청은 기다리지 않음
+            if (enabled) {
+                submit(() -> refreshApplied(event.ddipEventId()));
+            } else {
+                refreshApplied(event.ddipEventId());
+            }
+            return;
+        }
+        long cellId = DdipMapper.toCellId(summary.latitude(), summary.longitude());
+        feedCellCache.invalidate(cellId);
+        if (enabled) {
+            submit(() -> {
+                switch (event.type()) {
+                    case CREATED -> openDdipIndex.put(summary);
+                    default -> openDdipIndex.remove(event.ddipEventId());
+                }
+            });
+        }
+        publish(event.ddipEventId(), cellId);
+    }
+
+    // "노드|띱 id|레벨 17 셀 id", 셀을 모르면 (삭제된 띱) 셀 id는 빈 문자열
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", -1);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            UUID ddipEventId = UUID.fromString(parts[1]);
+            if (!parts[2].isEmpty()) {
+                feedCellCache.invalidate(Long.parseLong(parts[2]));
+            }
+            if (enabled) {
+                submit(() -> refresh(ddipEventId));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("invalid ddip feed invalidation message: {}", parts[1]);
+        }
+    }
+
+    private void reload() {
+        openDdipIndex.replaceAll(ddipEventRepository.findSummariesByStatus(DdipStatus.OPEN));
+        log.debug("open ddip index reloaded: {} ddips", openDdipIndex.size());
+    }
+
+    // 커밋 이후에 조회하므로 항상 이벤트 시점 이후의 값
+    private void refresh(UUID ddipEventId) {
+        ddipEventRepository.findSummaryById(ddipEventId)
+                .ifPresentOrElse(openDdipIndex::put, () -> openDdipIndex.remove(ddipEventId));
+    }
+
+    private void publish(UUID ddipEventId, Long cellId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + ddipEventId + DELIMITER + (cellId != null ? cellId : ""));
+        } catch (Exception e) {
+            // 다른 서버는 주기적 재적재로 따라잡음
+            log.warn("ddip feed invalidation publish failed: {}", e.getMessage());
+        }
+    }
+
+    private void refreshApplied(UUID ddipEventId) {
+        Optional<DdipEventSummary> summary = ddipEventRepository.findSummaryById(ddipEventId);
+        Long cellId = summary.map(found -> DdipMapper.toCellId(found.latitude(), found.longitude())).orElse(null);
+        if (cellId != null) {
+            feedCellCache.invalidate(cellId);
+        }
+        if (enabled) {
+            summary.ifPresentOrElse(openDdipIndex::put, () -> openDdipIndex.remove(ddipEventId));
+        }
+        publish(ddipEventId, cellId);
+    }
+
+
+    private void submit(Runnable task) {
+        writer.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("open ddip index update error", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.knu.ddip.ddipevent.infrastructure.init;
+
+import com.knu.ddip.ddipevent.infrastructure.DdipMapper;
+import com.knu.ddip.location.application.init.OneTimeRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// cell_id 컬럼 추가 이전에 만들어진 띱의 레벨 17 셀 id를 위경도로 채움
+// 셀 단위 OPEN 개수와 피드 셀 캐시는 cell_id로만 조회하므로 다른 초기화보다 먼저, 모든 인스턴스가 락을 차례로 잡고 실행
+// 비어 있는 행만 갱신해서 여러 번 실행해도 결과가 같음
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class DdipCellIdBackfiller implements ApplicationRunner {
+
+    public static final String CELL_ID_BACKFILL_LOCK_KEY = "lock:ddip-cell-id:backfill";
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OneTimeRunner oneTimeRunner;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        oneTimeRunner.runExclusively(CELL_ID_BACKFILL_LOCK_KEY, this::backfill);
+    }
+
+    private void backfill() {
+        int total = 0;
+        List<Row> rows;
+        do {
+            rows = jdbcTemplate.query("""
+                            SELECT id, latitude, longitude FROM ddip_event
+                            WHERE cell_id IS NULL AND latitude IS NOT NULL AND longitude IS NOT NULL
+                            LIMIT ?
+                            """,
+                    (rs, rowNum) -> new Row(rs.getString("id"), rs.getDouble("latitude"), rs.getDouble("longitude")),
+                    BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            jdbcTemplate.batchUpdate("UPDATE ddip_event SET cell_id = ? WHERE id = ? AND cell_id IS NULL",
+                    rows.stream()
+                            .map(row -> new Object[]{DdipMapper.toCellId(row.latitude(), row.longitude()), row.id()})
+                            .toList());
+            total += rows.size();
+        } while (rows.size() == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("ddip cell_id backfilled: {} rows", total);
+        }
+    }
+
+    private record Row(String id, double latitude, double longitude) {
+    }
+}
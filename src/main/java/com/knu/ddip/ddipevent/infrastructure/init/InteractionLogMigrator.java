@@ -0,0 +1,61 @@
+package com.knu.ddip.ddipevent.infrastructure.init;
+
+import com.knu.ddip.location.application.init.OneTimeRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+// 이전 interaction 테이블의 기록을 append-only ddip_interaction 테이블로 시간순 복사, 이전 테이블은 그대로 둠
+// 아직 옮기지 않은 id만 복사하므로 중간에 실패했거나 여러 번 실행해도 빠지거나 중복되는 행이 없음
+// 모든 인스턴스가 락을 차례로 잡고 실행해서 동시에 복사하지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InteractionLogMigrator implements ApplicationRunner {
+
+    public static final String LEGACY_TABLE_NAME = "interaction";
+    public static final String MIGRATION_SQL = "sql/interaction_log_migration.sql";
+    public static final String INTERACTION_MIGRATION_LOCK_KEY = "lock:interaction-log:migration";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OneTimeRunner oneTimeRunner;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!legacyTableExists()) {
+            return;
+        }
+        oneTimeRunner.runExclusively(INTERACTION_MIGRATION_LOCK_KEY, this::migrate);
+    }
+
+    private void migrate() {
+        int count = jdbcTemplate.update(readSql());
+        if (count > 0) {
+            log.info("interaction log migrated: {} rows", count);
+        }
+    }
+
+    private boolean legacyTableExists() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = ?
+                """, Integer.class, LEGACY_TABLE_NAME);
+        return count != null && count > 0;
+    }
+
+    private String readSql() {
+        try (InputStream is = new ClassPathResource(MIGRATION_SQL).getInputStream()) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.knu.ddip.ddipevent.infrastructure.init;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+// ddl-auto로는 SPATIAL 인덱스를 만들 수 없어서 기동 시 없으면 sql/spatial_index.sql 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SpatialIndexInitializer implements ApplicationRunner {
+
+    public static final String SPATIAL_INDEX_NAME = "idx_ddip_event_local_point";
+    public static final String SPATIAL_INDEX_SQL = "sql/spatial_index.sql";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (exists()) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute(readSql());
+            log.info("spatial index created: {}", SPATIAL_INDEX_NAME);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 먼저 만든 경우
+            log.warn("spatial index creation skipped: {}", e.getMessage());
+        }
+    }
+
+    private boolean exists() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'ddip_event' AND index_name = ?
+                """, Integer.class, SPATIAL_INDEX_NAME);
+        return count != null && count > 0;
+    }
+
+    private String readSql() {
+        try (InputStream is = new ClassPathResource(SPATIAL_INDEX_SQL).getInputStream()) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.knu.ddip.ddipevent.infrastructure.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.ddip.ddipevent.application.dto.DdipLiveDelta;
+import com.knu.ddip.ddipevent.application.event.DdipChangedEvent;
+import com.knu.ddip.ddipevent.application.service.LiveFeedSubscriptions;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+// 띱 생성, 상태 변경을 이 서버의 구독자에게 바로 전달하고 Redis pub/sub으로 다른 서버에도 전달
+// 지원(APPLIED)은 상태 변경이 아니고 요약도 없어서 보내지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DdipLiveFeedRelay implements MessageListener {
+
+    public static final String CHANNEL = "ddip:live";
+    private static final char DELIMITER = '|';
+
+    private final LiveFeedSubscriptions liveFeedSubscriptions;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+
+    // 자기가 보낸 메시지는 무시
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDdipChanged(DdipChangedEvent event) {
+        if (event.summary() == null) {
+            return;
+        }
+        DdipLiveDelta delta = new DdipLiveDelta(event.type(), event.summary());
+        liveFeedSubscriptions.dispatch(delta);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + DELIMITER + objectMapper.writeValueAsString(delta));
+        } catch (Exception e) {
+            // 다른 서버의 구독자는 이번 변경을 놓치고, 다시 연결하면서 피드를 다시 조회
+            log.warn("ddip live feed publish failed: {}", e.getMessage());
+        }
+    }
+
+    // "노드|DdipLiveDelta JSON"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiter = body.indexOf(DELIMITER);
+        if (delimiter < 0 || nodeId.equals(body.substring(0, delimiter))) {
+            return;
+        }
+        try {
+            liveFeedSubscriptions.dispatch(objectMapper.readValue(body.substring(delimiter + 1), DdipLiveDelta.class));
+        } catch (JsonProcessingException e) {
+            log.warn("invalid ddip live feed message: {}", e.getMessage());
+        }
+    }
+}
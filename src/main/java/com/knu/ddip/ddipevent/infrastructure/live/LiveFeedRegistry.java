@@ -0,0 +1,196 @@
+package com.knu.ddip.ddipevent.infrastructure.live;
+
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2LatLng;
+import com.knu.ddip.ddipevent.application.dto.DdipLiveDelta;
+import com.knu.ddip.ddipevent.application.service.LiveFeedSubscriptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 레벨 13 셀 -> 구독자 집합, 구독자는 자기 셀 목록으로 한 번 더 걸러서 받음
+// 전달은 잠금 없이 구독자별 고정 크기 버퍼에 넣기만 하고, 실제 전송은 구독자마다 하나인 가상 스레드가 담당
+// 버퍼가 가득 찬 느린 구독자는 끊음 (클라이언트는 다시 연결한 뒤 피드를 다시 조회)
+@Slf4j
+@Component
+public class LiveFeedRegistry implements LiveFeedSubscriptions {
+
+    private final Map<Long, Set<Subscriber>> subscribersByCell = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter deliveredCounter;
+    private final Counter droppedCounter;
+
+    @Value("${ddip.live.buffer-size:64}")
+    private int bufferSize = 64;
+
+    @Value("${ddip.live.heartbeat-ms:15000}")
+    private long heartbeatMs = 15000;
+
+    @Value("${ddip.live.timeout-ms:1800000}")
+    private long timeoutMs = 1800000;
+
+    public LiveFeedRegistry(MeterRegistry meterRegistry) {
+        this.deliveredCounter = meterRegistry.counter("ddip.live.delivered");
+        this.droppedCounter = meterRegistry.counter("ddip.live.dropped");
+        meterRegistry.gauge("ddip.live.subscribers", subscriberCount);
+    }
+
+    @Override
+    public SseEmitter subscribe(List<S2CellId> cells) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscription subscription = register(cells, new SseEmitterSink(emitter));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        return emitter;
+    }
+
+    public Subscription register(List<S2CellId> cells, LiveFeedSink sink) {
+        Subscriber subscriber = new Subscriber(List.copyOf(cells), routingKeysOf(cells), sink, new ArrayBlockingQueue<>(bufferSize));
+        subscriberCount.incrementAndGet();
+        // 빈 집합 제거(unregister)와 겹쳐도 추가가 사라지지 않도록 키 단위 compute 안에서 추가
+        // 먼저 취소된 구독자는 추가하지 않음, 추가 뒤의 취소는 같은 키의 unregister가 제거
+        for (long key : subscriber.routingKeys) {
+            subscribersByCell.compute(key, (k, subscribers) -> {
+                if (subscriber.closed.get()) {
+                    return subscribers;
+                }
+                Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+                target.add(subscriber);
+                return target;
+            });
+        }
+        // 전송 스레드는 라우팅 키를 모두 추가한 뒤 시작, 이미 취소됐으면 바로 sink만 닫고 끝남
+        subscriber.start();
+        return subscriber;
+    }
+
+    @Override
+    public void dispatch(DdipLiveDelta delta) {
+        S2CellId leaf = S2CellId.fromLatLng(S2LatLng.fromDegrees(delta.ddip().latitude(), delta.ddip().longitude()));
+        Set<Subscriber> subscribers = subscribersByCell.get(leaf.parent(MIN_LEVEL).id());
+        if (subscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.covers(leaf)) {
+                continue;
+            }
+            if (!subscriber.offer(delta)) {
+                droppedCounter.increment();
+                log.debug("slow live feed subscriber dropped");
+                subscriber.cancel();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void unregister(Subscriber subscriber) {
+        for (long key : subscriber.routingKeys) {
+            subscribersByCell.computeIfPresent(key, (k, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
+
+    private static Set<Long> routingKeysOf(List<S2CellId> cells) {
+        Set<Long> keys = new HashSet<>();
+        for (S2CellId cell : cells) {
+            keys.add(cell.parent(MIN_LEVEL).id());
+        }
+        return keys;
+    }
+
+    public interface Subscription {
+        void cancel();
+    }
+
+    private final class Subscriber implements Subscription {
+
+        private final List<S2CellId> cells;
+        private final Set<Long> routingKeys;
+        private final LiveFeedSink sink;
+        private final BlockingQueue<DdipLiveDelta> buffer;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private volatile Thread sender;
+
+        private Subscriber(List<S2CellId> cells, Set<Long> routingKeys, LiveFeedSink sink, BlockingQueue<DdipLiveDelta> buffer) {
+            this.cells = new ArrayList<>(cells);
+            this.routingKeys = routingKeys;
+            this.sink = sink;
+            this.buffer = buffer;
+        }
+
+        private void start() {
+            sender = Thread.ofVirtual().name("ddip-live-sender").start(this::drain);
+        }
+
+        private boolean covers(S2CellId leaf) {
+            for (S2CellId cell : cells) {
+                if (cell.contains(leaf)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean offer(DdipLiveDelta delta) {
+            return !closed.get() && buffer.offer(delta);
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    DdipLiveDelta delta = buffer.poll(heartbeatMs, TimeUnit.MILLISECONDS);
+                    if (delta == null) {
+                        sink.heartbeat();
+                    } else {
+                        sink.send(delta);
+                        deliveredCounter.increment();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.debug("live feed connection closed: {}", e.getMessage());
+            } finally {
+                cancel();
+                // 전송 중인 emitter와 경합하지 않도록 닫기도 전송 스레드에서만
+                sink.close();
+            }
+        }
+
+        // 전달하는 쪽에서 불려도 막히지 않음, 전송 스레드를 깨워서 정리를 맡김
+        @Override
+        public void cancel() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            unregister(this);
+            subscriberCount.decrementAndGet();
+            Thread current = sender;
+            if (current != null && current != Thread.currentThread()) {
+                current.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.knu.ddip.ddipevent.infrastructure.live;
+
+import com.knu.ddip.ddipevent.application.dto.DdipLiveDelta;
+
+import java.io.IOException;
+
+// 구독 연결 하나로 보내는 통로, 구독자 전용 전송 스레드에서만 호출
+public interface LiveFeedSink {
+
+    void send(DdipLiveDelta delta) throws IOException;
+
+    // 끊긴 연결을 찾기 위한 빈 메시지
+    void heartbeat() throws IOException;
+
+    void close();
+}
@@ -0,0 +1,33 @@
+package com.knu.ddip.ddipevent.infrastructure.live;
+
+import com.knu.ddip.ddipevent.application.dto.DdipLiveDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+// event 이름은 변경 종류, id는 띱 id, data는 DdipLiveDelta JSON
+@RequiredArgsConstructor
+public class SseEmitterSink implements LiveFeedSink {
+
+    private final SseEmitter emitter;
+
+    @Override
+    public void send(DdipLiveDelta delta) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name(delta.type().name())
+                .id(delta.ddip().id().toString())
+                .data(delta, MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void heartbeat() throws IOException {
+        emitter.send(SseEmitter.event().comment("ping"));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
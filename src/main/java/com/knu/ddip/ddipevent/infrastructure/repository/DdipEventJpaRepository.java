@@ -1,18 +1,248 @@
 package com.knu.ddip.ddipevent.infrastructure.repository;
 
+import com.knu.ddip.ddipevent.domain.DdipStatus;
 import com.knu.ddip.ddipevent.infrastructure.entity.DdipEventEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface DdipEventJpaRepository extends JpaRepository<DdipEventEntity, UUID> {
+    // 상태 전이로 바뀌는 컬럼만 갱신, 조회한 버전일 때만 반영하고 버전을 올림
+    @Modifying
+    @Query("""
+                UPDATE DdipEventEntity e
+                SET e.status = :status, e.selectedResponderId = :selectedResponderId, e.version = e.version + 1
+                WHERE e.id = :id AND e.version = :version
+            """)
+    int updateState(@Param("id") UUID id, @Param("status") DdipStatus status,
+                    @Param("selectedResponderId") UUID selectedResponderId, @Param("version") Long version);
+
+    // 상태 컬럼은 그대로 두고 버전만 비교 후 증가 (사진, 피드백 등 하위 항목만 바뀐 경우)
+    @Modifying
+    @Query("""
+                UPDATE DdipEventEntity e
+                SET e.version = e.version + 1
+                WHERE e.id = :id AND e.version = :version
+            """)
+    int increaseVersion(@Param("id") UUID id, @Param("version") Long version);
+
+    // 지원자 한 명만 추가, 기존 지원자 목록을 지우고 다시 쓰지 않음
+    @Modifying
+    @Query(value = "INSERT INTO ddip_applicant (ddip_event_id, applicant_id) VALUES (:ddipEventId, :applicantId)",
+            nativeQuery = true)
+    int insertApplicant(@Param("ddipEventId") String ddipEventId, @Param("applicantId") String applicantId);
+
+    // 모집 중이고 본인 띱이 아닐 때만 지원자 추가, 이미 지원했으면 유니크 키 중복을 무시하고 0 반환
+    // 애그리거트를 읽거나 행을 배타 잠금하지 않으므로 동시 지원끼리 서로 막지 않음
+    @Modifying
+    @Query(value = """
+                INSERT IGNORE INTO ddip_applicant (ddip_event_id, applicant_id)
+                SELECT id, :applicantId FROM ddip_event
+                WHERE id = :ddipEventId AND status = 'OPEN' AND requester_id <> :applicantId
+            """, nativeQuery = true)
+    int insertApplicantIfOpen(@Param("ddipEventId") String ddipEventId, @Param("applicantId") String applicantId);
+
+    // 피드 keyset 조회는 안쪽 쿼리로 페이지의 id, 정렬 키만 구한 뒤 그 행들만 요약 컬럼과 조인
+    // 본문(LOB)은 앞 100자만, 지원자 수는 ddip_applicant(ddip_event_id) 인덱스로 행마다 센 값을 함께 가져와
+    // 엔티티와 지연 로딩 컬렉션 없이 쿼리 한 번으로 피드 한 페이지를 만듦
+    // 화면 영역(MBR)은 spatial 인덱스 범위 검색, MBRContains는 경계 위의 점을 제외하므로 경계를 포함하는 MBRCovers 사용
+    // POINT(x, y)는 (경도, 위도) 순서로 local_point와 같은 축 순서
+
+    // 피드 거리순 keyset 조회, 커서 이후 (거리, id) 순서로 limit 개
+    @Query(value = """
+                SELECT e.id AS id, e.title AS title, e.reward AS reward,
+                       e.latitude AS latitude, e.longitude AS longitude, e.status AS status,
+                       e.requester_id AS requesterId, e.created_at AS createdAt, e.difficulty AS difficulty,
+                       LEFT(e.content, 100) AS contentPreview,
+                       (SELECT COUNT(*) FROM ddip_applicant a WHERE a.ddip_event_id = e.id) AS applicantCount,
+                       page.sort_key AS sortKey
+                FROM (
+                    SELECT id, sort_key FROM (
+                        SELECT id, ST_Distance_Sphere(ST_SRID(POINT(:lng, :lat), 4326), local_point) AS sort_key
+                        FROM ddip_event
+                        WHERE MBRCovers(
+                                ST_SRID(ST_MakeEnvelope(POINT(:swLon, :swLat), POINT(:neLon, :neLat)), 4326),
+                                local_point)
+                          AND status = :status
+                    ) candidate
+                    WHERE :cursorKey IS NULL
+                       OR sort_key > :cursorKey
+                       OR (sort_key = :cursorKey AND id > :cursorId)
+                    ORDER BY sort_key, id
+                    LIMIT :limit
+                ) page
+                JOIN ddip_event e ON e.id = page.id
+                ORDER BY page.sort_key, page.id
+            """, nativeQuery = true)
+    List<DdipEventSummaryView> findFeedPageByDistance(@Param("swLat") double swLat, @Param("swLon") double swLon,
+                                                      @Param("neLat") double neLat, @Param("neLon") double neLon,
+                                                      @Param("lat") double lat, @Param("lng") double lng,
+                                                      @Param("status") String status,
+                                                      @Param("cursorKey") Double cursorKey, @Param("cursorId") String cursorId,
+                                                      @Param("limit") int limit);
+
+    // 피드 최신순 keyset 조회, 정렬 키는 소수점 6자리까지 정확한 UNIX_TIMESTAMP(created_at)
+    @Query(value = """
+                SELECT e.id AS id, e.title AS title, e.reward AS reward,
+                       e.latitude AS latitude, e.longitude AS longitude, e.status AS status,
+                       e.requester_id AS requesterId, e.created_at AS createdAt, e.difficulty AS difficulty,
+                       LEFT(e.content, 100) AS contentPreview,
+                       (SELECT COUNT(*) FROM ddip_applicant a WHERE a.ddip_event_id = e.id) AS applicantCount,
+                       page.sort_key AS sortKey
+                FROM (
+                    SELECT id, UNIX_TIMESTAMP(created_at) AS sort_key
+                    FROM ddip_event
+                    WHERE MBRCovers(
+                            ST_SRID(ST_MakeEnvelope(POINT(:swLon, :swLat), POINT(:neLon, :neLat)), 4326),
+                            local_point)
+                      AND status = :status
+                      AND (:cursorKey IS NULL
+                           OR created_at < FROM_UNIXTIME(:cursorKey)
+                           OR (created_at = FROM_UNIXTIME(:cursorKey) AND id < :cursorId))
+                    ORDER BY created_at DESC, id DESC
+                    LIMIT :limit
+                ) page
+                JOIN ddip_event e ON e.id = page.id
+                ORDER BY page.sort_key DESC, page.id DESC
+            """, nativeQuery = true)
+    List<DdipEventSummaryView> findFeedPageByCreatedAt(@Param("swLat") double swLat, @Param("swLon") double swLon,
+                                                       @Param("neLat") double neLat, @Param("neLon") double neLon,
+                                                       @Param("status") String status,
+                                                       @Param("cursorKey") BigDecimal cursorKey, @Param("cursorId") String cursorId,
+                                                       @Param("limit") int limit);
+
+    // 피드 보상 높은순 keyset 조회, (status, reward) 인덱스 순서
+    @Query(value = """
+                SELECT e.id AS id, e.title AS title, e.reward AS reward,
+                       e.latitude AS latitude, e.longitude AS longitude, e.status AS status,
+                       e.requester_id AS requesterId, e.created_at AS createdAt, e.difficulty AS difficulty,
+                       LEFT(e.content, 100) AS contentPreview,
+                       (SELECT COUNT(*) FROM ddip_applicant a WHERE a.ddip_event_id = e.id) AS applicantCount,
+                       page.sort_key AS sortKey
+                FROM (
+                    SELECT id, reward AS sort_key
+                    FROM ddip_event
+                    WHERE MBRCovers(
+                            ST_SRID(ST_MakeEnvelope(POINT(:swLon, :swLat), POINT(:neLon, :neLat)), 4326),
+                            local_point)
+                      AND status = :status
+                      AND (:cursorKey IS NULL
+                           OR reward < :cursorKey
+                           OR (reward = :cursorKey AND id > :cursorId))
+                    ORDER BY reward DESC, id
+                    LIMIT :limit
+                ) page
+                JOIN ddip_event e ON e.id = page.id
+                ORDER BY page.sort_key DESC, page.id
+            """, nativeQuery = true)
+    List<DdipEventSummaryView> findFeedPageByReward(@Param("swLat") double swLat, @Param("swLon") double swLon,
+                                                    @Param("neLat") double neLat, @Param("neLon") double neLon,
+                                                    @Param("status") String status,
+                                                    @Param("cursorKey") Integer cursorKey, @Param("cursorId") String cursorId,
+                                                    @Param("limit") int limit);
+
+    // 피드 난이도 쉬운순 keyset 조회, (status, difficulty) 인덱스 순서
+    @Query(value = """
+                SELECT e.id AS id, e.title AS title, e.reward AS reward,
+                       e.latitude AS latitude, e.longitude AS longitude, e.status AS status,
+                       e.requester_id AS requesterId, e.created_at AS createdAt, e.difficulty AS difficulty,
+                       LEFT(e.content, 100) AS contentPreview,
+                       (SELECT COUNT(*) FROM ddip_applicant a WHERE a.ddip_event_id = e.id) AS applicantCount,
+                       page.sort_key AS sortKey
+                FROM (
+                    SELECT id, difficulty AS sort_key
+                    FROM ddip_event
+                    WHERE MBRCovers(
+                            ST_SRID(ST_MakeEnvelope(POINT(:swLon, :swLat), POINT(:neLon, :neLat)), 4326),
+                            local_point)
+                      AND status = :status
+                      AND (:cursorKey IS NULL
+                           OR difficulty > :cursorKey
+                           OR (difficulty = :cursorKey AND id > :cursorId))
+                    ORDER BY difficulty, id
+                    LIMIT :limit
+                ) page
+                JOIN ddip_event e ON e.id = page.id
+                ORDER BY page.sort_key, page.id
+            """, nativeQuery = true)
+    List<DdipEventSummaryView> findFeedPageByDifficulty(@Param("swLat") double swLat, @Param("swLon") double swLon,
+                                                        @Param("neLat") double neLat, @Param("neLon") double neLon,
+                                                        @Param("status") String status,
+                                                        @Param("cursorKey") Integer cursorKey, @Param("cursorId") String cursorId,
+                                                        @Param("limit") int limit);
+
+    // 추천순 상위 id의 요약, 순서는 호출하는 쪽에서 맞춤
+    @Query(value = """
+                SELECT e.id AS id, e.title AS title, e.reward AS reward,
+                       e.latitude AS latitude, e.longitude AS longitude, e.status AS status,
+                       e.requester_id AS requesterId, e.created_at AS createdAt, e.difficulty AS difficulty,
+                       LEFT(e.content, 100) AS contentPreview,
+                       (SELECT COUNT(*) FROM ddip_applicant a WHERE a.ddip_event_id = e.id) AS applicantCount,
+                       NULL AS sortKey
+                FROM ddip_event e
+                WHERE e.id IN (:ids)
+            """, nativeQuery = true)
+    List<DdipEventSummaryView> findSummariesByIdIn(@Param("ids") List<String> ids);
+
+    // 피드 인덱스 적재용, 상태별 전체 요약
+    @Query(value = """
+                SELECT e.id AS id, e.title AS title, e.reward AS reward,
+                       e.latitude AS latitude, e.longitude AS longitude, e.status AS status,
+                       e.requester_id AS requesterId, e.created_at AS createdAt, e.difficulty AS difficulty,
+                       LEFT(e.content, 100) AS contentPreview,
+                       (SELECT COUNT(*) FROM ddip_applicant a WHERE a.ddip_event_id = e.id) AS applicantCount,
+                       NULL AS sortKey
+                FROM ddip_event e
+                WHERE e.status = :status
+            """, nativeQuery = true)
+    List<DdipEventSummaryView> findSummariesByStatus(@Param("status") String status);
+
+    // 피드 셀 캐시 적재용, (status, cell_id) 인덱스로 셀 하나의 구간만 읽음
+    @Query(value = """
+                SELECT e.id AS id, e.title AS title, e.reward AS reward,
+                       e.latitude AS latitude, e.longitude AS longitude, e.status AS status,
+                       e.requester_id AS requesterId, e.created_at AS createdAt, e.difficulty AS difficulty,
+                       LEFT(e.content, 100) AS contentPreview,
+                       (SELECT COUNT(*) FROM ddip_applicant a WHERE a.ddip_event_id = e.id) AS applicantCount,
+                       NULL AS sortKey
+                FROM ddip_event e
+                WHERE e.status = :status AND e.cell_id BETWEEN :minCellId AND :maxCellId
+                LIMIT :limit
+            """, nativeQuery = true)
+    List<DdipEventSummaryView> findSummariesByStatusInCellRange(@Param("status") String status,
+                                                                @Param("minCellId") long minCellId,
+                                                                @Param("maxCellId") long maxCellId,
+                                                                @Param("limit") int limit);
+
+    // 추천순 점수 계산용 후보, 점수에 필요한 컬럼만 한 행씩 스트리밍 (MySQL은 fetch size MIN_VALUE일 때 스트리밍)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(value = """
+                SELECT id, latitude, longitude, UNIX_TIMESTAMP(created_at), reward, difficulty
+                FROM ddip_event
+                WHERE MBRCovers(
+                        ST_SRID(ST_MakeEnvelope(POINT(:swLon, :swLat), POINT(:neLon, :neLat)), 4326),
+                        local_point)
+                  AND status = :status
+            """, nativeQuery = true)
+    Stream<Object[]> streamFeedCandidates(@Param("swLat") double swLat, @Param("swLon") double swLon,
+                                          @Param("neLat") double neLat, @Param("neLon") double neLon,
+                                          @Param("status") String status);
+
+    // 상위 레벨 셀별 OPEN 띱 수, parent_key = cell_id >> shift
     @Query(value = """
-                SELECT * FROM ddip_event
-                WHERE ST_CONTAINS(ST_Buffer(ST_SRID(POINT(:lng, :lat), 4326), :dist), local_point)
-                ORDER BY ST_Distance_Sphere(ST_SRID(POINT(:lng, :lat), 4326), local_point)
+                SELECT cell_id >> :shift AS parent_key, COUNT(*) AS cnt FROM ddip_event
+                WHERE status = 'OPEN' AND cell_id BETWEEN :minCellId AND :maxCellId
+                GROUP BY parent_key
             """, nativeQuery = true)
-    List<DdipEventEntity> findAllByDistance(@Param("lng") Double lng, @Param("lat") Double lat, @Param("dist") Double dist);
+    List<Object[]> countOpenByParentCell(@Param("shift") int shift, @Param("minCellId") long minCellId, @Param("maxCellId") long maxCellId);
 }
@@ -1,17 +1,37 @@
 package com.knu.ddip.ddipevent.infrastructure.repository;
 
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.dto.FeedCursor;
+import com.knu.ddip.ddipevent.application.dto.FeedEntry;
+import com.knu.ddip.ddipevent.application.dto.FeedQuery;
 import com.knu.ddip.ddipevent.application.service.DdipEventRepository;
 import com.knu.ddip.ddipevent.application.util.DistanceConverter;
+import com.knu.ddip.ddipevent.application.util.FeedScore;
+import com.knu.ddip.ddipevent.application.util.TopK;
 import com.knu.ddip.ddipevent.domain.DdipEvent;
+import com.knu.ddip.ddipevent.domain.DdipEventChanges;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import com.knu.ddip.ddipevent.domain.Interaction;
+import com.knu.ddip.ddipevent.domain.Photo;
 import com.knu.ddip.ddipevent.infrastructure.DdipMapper;
 import com.knu.ddip.ddipevent.infrastructure.entity.DdipEventEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 
 @Transactional(readOnly = true)
@@ -20,15 +40,65 @@ import java.util.UUID;
 public class DdipEventRepositoryImpl implements DdipEventRepository {
 
     private final DdipEventJpaRepository ddipEventJpaRepository;
+    private final PhotoJpaRepository photoJpaRepository;
+    private final InteractionJpaRepository interactionJpaRepository;
     private final DdipMapper ddipMapper;
     private final DistanceConverter distanceConverter;
 
+    // 점수 높은순, 같으면 id 순
+    private static final Comparator<ScoredKey> BY_SCORE = Comparator.comparingDouble(ScoredKey::score).reversed()
+            .thenComparing(ScoredKey::id, Comparator.comparing(UUID::toString));
+
+    // 새 띱은 전체를 저장하고, 기존 띱은 조회 이후 바뀐 부분만 insert/update
+    // 지원, 사진 업로드 등 한 번의 상태 전이에 드는 쿼리 수는 기존 기록 수와 무관
+    // 조회 시점 버전과 비교해서 그 사이 다른 요청이 먼저 반영했으면 OptimisticLockingFailureException
     @Transactional
     @Override
     public DdipEvent save(DdipEvent ddipEvent) {
-        DdipEventEntity entity = ddipMapper.toEntity(ddipEvent);
-        DdipEventEntity savedEntity = ddipEventJpaRepository.save(entity);
-        return ddipMapper.toDomain(savedEntity);
+        if (ddipEvent.getId() == null) {
+            DdipEventEntity entity = ddipMapper.toEntity(ddipEvent);
+            DdipEventEntity savedEntity = ddipEventJpaRepository.save(entity);
+            return ddipMapper.toDomain(savedEntity);
+        }
+
+        DdipEventChanges changes = ddipEvent.getChanges();
+        if (changes.isEmpty()) {
+            return ddipEvent;
+        }
+        String ddipEventId = ddipEvent.getId().toString();
+        // 버전 비교를 먼저 해서 하위 테이블 insert의 외래 키 검사(띱 행 공유 잠금)와 교착되지 않도록 함
+        int updated = changes.isStateChanged()
+                ? ddipEventJpaRepository.updateState(ddipEvent.getId(), ddipEvent.getStatus(),
+                ddipEvent.getSelectedResponderId(), ddipEvent.getVersion())
+                : ddipEventJpaRepository.increaseVersion(ddipEvent.getId(), ddipEvent.getVersion());
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("다른 요청이 먼저 띱을 변경했습니다: " + ddipEventId);
+        }
+        ddipEvent.increaseVersion();
+        for (UUID applicantId : changes.getAddedApplicants()) {
+            ddipEventJpaRepository.insertApplicant(ddipEventId, applicantId.toString());
+        }
+        for (Photo photo : changes.getAddedPhotos()) {
+            photoJpaRepository.insert(photo.getPhotoId().toString(), ddipEventId, photo.getPhotoUrl(),
+                    photo.getLatitude(), photo.getLongitude(), photo.getTimestamp(), photo.getStatus().name(),
+                    photo.getResponderComment(), photo.getRequesterQuestion(), photo.getResponderAnswer(), photo.getRejectionReason());
+        }
+        for (Photo photo : changes.getUpdatedPhotos()) {
+            photoJpaRepository.updateFeedback(photo.getPhotoId(), photo.getStatus(),
+                    photo.getRequesterQuestion(), photo.getResponderAnswer(), photo.getRejectionReason());
+        }
+        // 기록은 append-only 테이블에 insert만, IDENTITY라 persist 시점에 바로 insert
+        for (Interaction interaction : changes.getAddedInteractions()) {
+            interactionJpaRepository.save(ddipMapper.toInteractionEntity(interaction, ddipEvent.getId()));
+        }
+        changes.clear();
+        return ddipEvent;
+    }
+
+    @Transactional
+    @Override
+    public boolean updatePhotoDerivatives(UUID photoId, String thumbnailUrl, String mediumUrl) {
+        return photoJpaRepository.updateDerivatives(photoId, thumbnailUrl, mediumUrl) > 0;
     }
 
     @Override
@@ -36,35 +106,140 @@ public class DdipEventRepositoryImpl implements DdipEventRepository {
         return ddipEventJpaRepository.findById(id).map(ddipMapper::toDomain);
     }
 
+    @Transactional
+    @Override
+    public boolean addApplicant(UUID ddipEventId, UUID applicantId, Interaction applyInteraction) {
+        int inserted = ddipEventJpaRepository.insertApplicantIfOpen(ddipEventId.toString(), applicantId.toString());
+        if (inserted == 0) {
+            return false;
+        }
+        interactionJpaRepository.save(ddipMapper.toInteractionEntity(applyInteraction, ddipEventId));
+        return true;
+    }
+
     @Override
-    public List<DdipEvent> findWithinBounds(double swLat, double swLon, double neLat, double neLon, String sort, Double userLat, Double userLon) {
-        double dist = boundingBoxRadiusMeters(swLat, swLon, neLat, neLon, userLat, userLon);
+    public List<FeedEntry> findFeedPage(FeedQuery query) {
+        FeedCursor cursor = query.cursor();
+        String cursorId = cursor != null ? cursor.id().toString() : null;
 
-        return ddipEventJpaRepository.findAllByDistance(userLon, userLat, dist).stream()
-                .map(ddipMapper::toDomain)
+        // 인덱스나 MySQL의 ORDER BY ... LIMIT (우선순위 큐 정렬)로 상위 limit 개만 계산
+        return switch (query.sort()) {
+            case DISTANCE -> toFeedEntries(ddipEventJpaRepository.findFeedPageByDistance(
+                    query.swLat(), query.swLon(), query.neLat(), query.neLon(),
+                    query.originLat(), query.originLon(), query.status().name(),
+                    cursor != null ? Double.valueOf(cursor.key()) : null, cursorId, query.limit()));
+            case NEWEST -> toFeedEntries(ddipEventJpaRepository.findFeedPageByCreatedAt(
+                    query.swLat(), query.swLon(), query.neLat(), query.neLon(), query.status().name(),
+                    cursor != null ? new BigDecimal(cursor.key()) : null, cursorId, query.limit()));
+            case REWARD -> toFeedEntries(ddipEventJpaRepository.findFeedPageByReward(
+                    query.swLat(), query.swLon(), query.neLat(), query.neLon(), query.status().name(),
+                    cursor != null ? Integer.valueOf(cursor.key()) : null, cursorId, query.limit()));
+            case DIFFICULTY -> toFeedEntries(ddipEventJpaRepository.findFeedPageByDifficulty(
+                    query.swLat(), query.swLon(), query.neLat(), query.neLon(), query.status().name(),
+                    cursor != null ? Integer.valueOf(cursor.key()) : null, cursorId, query.limit()));
+            case BLENDED -> findFeedPageByScore(query);
+        };
+    }
+
+    private List<FeedEntry> toFeedEntries(List<DdipEventSummaryView> rows) {
+        return rows.stream()
+                .map(row -> new FeedEntry(toSummary(row), toSortKey(row.getSortKey())))
                 .toList();
     }
 
-    private double boundingBoxRadiusMeters(double swLat, double swLon, double neLat, double neLon, Double userLat, Double userLon) {
-        double[][] locations = new double[][]{
-                {swLat, swLon},
-                {neLat, neLon},
+    // 점수는 SQL 인덱스로 정렬할 수 없으므로 후보를 스트리밍하면서 상위 limit 개만 힙에 유지한 뒤 그 id의 요약만 조회
+    private List<FeedEntry> findFeedPageByScore(FeedQuery query) {
+        FeedCursor cursor = query.cursor();
+        double cursorScore = cursor != null ? Double.parseDouble(cursor.key()) : Double.NaN;
 
-                {neLat, swLon},
-                {swLat, neLon},
+        TopK<ScoredKey> topK = new TopK<>(query.limit(), BY_SCORE);
+        try (Stream<Object[]> rows = ddipEventJpaRepository.streamFeedCandidates(
+                query.swLat(), query.swLon(), query.neLat(), query.neLon(), query.status().name())) {
+            rows.forEach(row -> {
+                UUID id = UUID.fromString(row[0].toString());
+                double distance = distanceConverter.haversineMeters(query.originLat(), query.originLon(),
+                        ((Number) row[1]).doubleValue(), ((Number) row[2]).doubleValue());
+                double score = FeedScore.blended(distance, ((Number) row[3]).doubleValue(),
+                        ((Number) row[4]).intValue(), ((Number) row[5]).intValue());
 
-                {neLat, userLon},
-                {swLat, userLon},
+                ScoredKey candidate = new ScoredKey(id, score);
+                if (cursor == null || BY_SCORE.compare(candidate, new ScoredKey(cursor.id(), cursorScore)) > 0) {
+                    topK.offer(candidate);
+                }
+            });
+        }
 
-                {userLat, neLon},
-                {userLat, swLon},
-        };
+        List<ScoredKey> keys = topK.toSortedList();
+        if (keys.isEmpty()) {
+            return List.of();
+        }
 
-        double maxDist = -1;
-        for (double[] location : locations) {
-            double dist = distanceConverter.haversineMeters(userLat, userLon, location[0], location[1]);
-            maxDist = Math.max(maxDist, dist);
+        Map<UUID, DdipEventSummary> summaries = new HashMap<>();
+        for (DdipEventSummaryView row : ddipEventJpaRepository.findSummariesByIdIn(
+                keys.stream().map(key -> key.id().toString()).toList())) {
+            DdipEventSummary summary = toSummary(row);
+            summaries.put(summary.id(), summary);
         }
-        return maxDist;
+        // 점수 계산 이후 삭제된 띱은 제외
+        return keys.stream()
+                .filter(key -> summaries.containsKey(key.id()))
+                .map(key -> new FeedEntry(summaries.get(key.id()), Double.toString(key.score())))
+                .toList();
+    }
+
+    @Override
+    public Optional<DdipEventSummary> findSummaryById(UUID id) {
+        return ddipEventJpaRepository.findSummariesByIdIn(List.of(id.toString())).stream()
+                .findFirst()
+                .map(this::toSummary);
+    }
+
+    @Override
+    public List<DdipEventSummary> findSummariesByStatus(DdipStatus status) {
+        return ddipEventJpaRepository.findSummariesByStatus(status.name()).stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    @Override
+    public List<DdipEventSummary> findSummariesByStatusInCellRange(DdipStatus status, long minCellId, long maxCellId, int limit) {
+        return ddipEventJpaRepository.findSummariesByStatusInCellRange(status.name(), minCellId, maxCellId, limit).stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    // DB가 계산한 값을 손실 없이 문자열로 보관
+    private String toSortKey(Object value) {
+        return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+    }
+
+    private DdipEventSummary toSummary(DdipEventSummaryView row) {
+        return new DdipEventSummary(
+                UUID.fromString(row.getId()),
+                row.getTitle(),
+                row.getReward(),
+                row.getLatitude(),
+                row.getLongitude(),
+                DdipStatus.valueOf(row.getStatus()),
+                UUID.fromString(row.getRequesterId()),
+                toInstant(row.getCreatedAt()),
+                row.getApplicantCount().intValue(),
+                row.getContentPreview(),
+                row.getDifficulty()
+        );
+    }
+
+    // 엔티티 저장 시와 같은 JVM 시간대 기준으로 DATETIME을 해석
+    private Instant toInstant(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime.atZone(ZoneId.systemDefault()).toInstant();
+        }
+        return (Instant) value;
+    }
+
+    private record ScoredKey(UUID id, double score) {
     }
 }
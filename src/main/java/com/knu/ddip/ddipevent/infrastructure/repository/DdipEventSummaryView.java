@@ -0,0 +1,29 @@
+package com.knu.ddip.ddipevent.infrastructure.repository;
+
+// 피드 요약 native 조회 결과 projection, 컬럼 alias와 getter 이름이 같아야 함
+public interface DdipEventSummaryView {
+    String getId();
+
+    String getTitle();
+
+    Integer getReward();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    String getStatus();
+
+    String getRequesterId();
+
+    // 드라이버 설정에 따라 Timestamp 또는 LocalDateTime
+    Object getCreatedAt();
+
+    Long getApplicantCount();
+
+    String getContentPreview();
+
+    Integer getDifficulty();
+
+    Object getSortKey();
+}
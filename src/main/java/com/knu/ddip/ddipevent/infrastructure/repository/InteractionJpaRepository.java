@@ -0,0 +1,15 @@
+package com.knu.ddip.ddipevent.infrastructure.repository;
+
+import com.knu.ddip.ddipevent.infrastructure.entity.InteractionEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface InteractionJpaRepository extends JpaRepository<InteractionEntity, Long> {
+    // (ddip_event_id, seq) 인덱스를 역순으로 읽는 최신순 페이지
+    List<InteractionEntity> findByDdipEventIdOrderBySeqDesc(UUID ddipEventId, Limit limit);
+
+    List<InteractionEntity> findByDdipEventIdAndSeqLessThanOrderBySeqDesc(UUID ddipEventId, Long seq, Limit limit);
+}
@@ -0,0 +1,32 @@
+package com.knu.ddip.ddipevent.infrastructure.repository;
+
+import com.knu.ddip.ddipevent.application.service.InteractionRepository;
+import com.knu.ddip.ddipevent.domain.Interaction;
+import com.knu.ddip.ddipevent.infrastructure.DdipMapper;
+import com.knu.ddip.ddipevent.infrastructure.entity.InteractionEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Transactional(readOnly = true)
+@Repository
+@RequiredArgsConstructor
+public class InteractionRepositoryImpl implements InteractionRepository {
+
+    private final InteractionJpaRepository interactionJpaRepository;
+    private final DdipMapper ddipMapper;
+
+    @Override
+    public List<Interaction> findHistory(UUID ddipEventId, Long beforeSeq, int limit) {
+        List<InteractionEntity> entities = beforeSeq == null
+                ? interactionJpaRepository.findByDdipEventIdOrderBySeqDesc(ddipEventId, Limit.of(limit))
+                : interactionJpaRepository.findByDdipEventIdAndSeqLessThanOrderBySeqDesc(ddipEventId, beforeSeq, Limit.of(limit));
+        return entities.stream()
+                .map(ddipMapper::toInteraction)
+                .toList();
+    }
+}
@@ -0,0 +1,55 @@
+package com.knu.ddip.ddipevent.infrastructure.repository;
+
+import com.google.common.geometry.S2CellId;
+import com.knu.ddip.location.application.service.OpenDdipCountReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Transactional(readOnly = true)
+@Repository
+@RequiredArgsConstructor
+public class OpenDdipCountReaderImpl implements OpenDdipCountReader {
+
+    private final DdipEventJpaRepository ddipEventJpaRepository;
+
+    @Override
+    public Map<String, Long> countOpenDdipsByCellIds(int level, List<String> cellIds) {
+        Map<String, Long> result = new HashMap<>();
+        if (cellIds.isEmpty()) {
+            return result;
+        }
+
+        long minCellId = Long.MAX_VALUE;
+        long maxCellId = Long.MIN_VALUE;
+        for (String cellId : cellIds) {
+            S2CellId cell = S2CellId.fromToken(cellId);
+            minCellId = Math.min(minCellId, cell.rangeMin().id());
+            maxCellId = Math.max(maxCellId, cell.rangeMax().id());
+            result.put(cellId, 0L);
+        }
+
+        // 같은 부모 셀의 자손은 상위 비트가 같으므로 shift 후 GROUP BY
+        int shift = shiftOf(level);
+        List<Object[]> rows = ddipEventJpaRepository.countOpenByParentCell(shift, minCellId, maxCellId);
+        for (Object[] row : rows) {
+            String parentCellId = toParentCellId(((Number) row[0]).longValue(), level).toToken();
+            // 범위 안이지만 화면 밖인 셀은 제외
+            result.computeIfPresent(parentCellId, (key, count) -> count + ((Number) row[1]).longValue());
+        }
+        return result;
+    }
+
+    static int shiftOf(int level) {
+        return 2 * (S2CellId.MAX_LEVEL - level) + 1;
+    }
+
+    static S2CellId toParentCellId(long parentKey, int level) {
+        long lsb = 1L << (2 * (S2CellId.MAX_LEVEL - level));
+        return new S2CellId((parentKey << shiftOf(level)) | lsb);
+    }
+}
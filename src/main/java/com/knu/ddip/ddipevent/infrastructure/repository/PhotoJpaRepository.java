@@ -0,0 +1,48 @@
+package com.knu.ddip.ddipevent.infrastructure.repository;
+
+import com.knu.ddip.ddipevent.domain.PhotoStatus;
+import com.knu.ddip.ddipevent.infrastructure.entity.PhotoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface PhotoJpaRepository extends JpaRepository<PhotoEntity, UUID> {
+    @Modifying
+    @Query(value = """
+                INSERT INTO photo (id, ddip_event_id, photo_url, latitude, longitude, timestamp, status,
+                                   responder_comment, requester_question, responder_answer, rejection_reason)
+                VALUES (:id, :ddipEventId, :photoUrl, :latitude, :longitude, :timestamp, :status,
+                        :responderComment, :requesterQuestion, :responderAnswer, :rejectionReason)
+            """, nativeQuery = true)
+    int insert(@Param("id") String id, @Param("ddipEventId") String ddipEventId, @Param("photoUrl") String photoUrl,
+               @Param("latitude") Double latitude, @Param("longitude") Double longitude,
+               @Param("timestamp") Instant timestamp, @Param("status") String status,
+               @Param("responderComment") String responderComment, @Param("requesterQuestion") String requesterQuestion,
+               @Param("responderAnswer") String responderAnswer, @Param("rejectionReason") String rejectionReason);
+
+    // 사진 피드백으로 바뀌는 컬럼만 갱신
+    @Modifying
+    @Query("""
+                UPDATE PhotoEntity p
+                SET p.status = :status, p.requesterQuestion = :requesterQuestion,
+                    p.responderAnswer = :responderAnswer, p.rejectionReason = :rejectionReason
+                WHERE p.id = :id
+            """)
+    int updateFeedback(@Param("id") UUID id, @Param("status") PhotoStatus status,
+                       @Param("requesterQuestion") String requesterQuestion, @Param("responderAnswer") String responderAnswer,
+                       @Param("rejectionReason") String rejectionReason);
+
+    // 축소본 컬럼은 상태 전이와 겹치지 않아서 띱 버전을 올리지 않고 갱신
+    @Modifying
+    @Query("""
+                UPDATE PhotoEntity p
+                SET p.thumbnailUrl = :thumbnailUrl, p.mediumUrl = :mediumUrl
+                WHERE p.id = :id
+            """)
+    int updateDerivatives(@Param("id") UUID id, @Param("thumbnailUrl") String thumbnailUrl,
+                          @Param("mediumUrl") String mediumUrl);
+}
@@ -8,11 +8,13 @@ import com.knu.ddip.ddipevent.application.dto.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.io.InputStream;
 import java.util.UUID;
 
 @Tag(name = "DDIP Event")
@@ -27,18 +29,32 @@ public interface DdipApi {
             @Parameter(hidden = true) @Login AuthUser authUser
     );
 
-    @Operation(summary = "DDIP Event들 범위 기반 조회", description = "범위에 기반한 DDIP Event들을 불러온다.")
+    @Operation(summary = "DDIP Event들 범위 기반 조회", description = "범위에 기반한 DDIP Event들을 커서 기반으로 한 페이지씩 불러온다. status를 지정하지 않으면 OPEN만 조회한다.")
     @GetMapping
-    ResponseEntity<List<DdipEventSummaryDto>> getDdipEventFeed(
+    ResponseEntity<DdipEventFeedPageDto> getDdipEventFeed(
             @ModelAttribute FeedRequestDto feedRequestDto
     );
 
-    @Operation(summary = "DDIP Event 상세 조회", description = "eventId에 해당하는 DDIP Event를 상세 조회한다.")
+    @Operation(summary = "DDIP Event 실시간 구독", description = "화면 범위(sw, ne) 또는 레벨 13 이상 S2 셀 토큰 목록(cells)을 구독해 띱 생성, 상태 변경을 SSE로 받는다. 전송이 밀린 연결은 서버가 끊으므로 다시 연결한 뒤 피드를 다시 조회한다.")
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter subscribeDdipLiveFeed(
+            @ModelAttribute LiveFeedRequestDto liveFeedRequestDto
+    );
+
+    @Operation(summary = "DDIP Event 상세 조회", description = "eventId에 해당하는 DDIP Event를 상세 조회한다. 진행 기록은 최신순 첫 페이지만 포함한다.")
     @GetMapping("/{eventId}")
     ResponseEntity<DdipEventDetailDto> getDdipEventDetail(
             @PathVariable UUID eventId
     );
 
+    @Operation(summary = "DDIP Event 진행 기록 조회", description = "eventId에 해당하는 DDIP Event의 진행 기록을 최신순으로 한 페이지씩 불러온다. cursor에는 이전 페이지의 nextCursor를 넘긴다.")
+    @GetMapping("/{eventId}/interactions")
+    ResponseEntity<InteractionPageDto> getDdipEventInteractions(
+            @PathVariable UUID eventId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    );
+
     @Operation(summary = "DDIP event 지원하기", description = "OPEN 상태의 DDIP event에 지원한다.")
     @PostMapping("/{eventId}/apply")
     @RequireAuth
@@ -65,6 +81,37 @@ public interface DdipApi {
             @Parameter(hidden = true) @Login AuthUser authUser
     );
 
+    @Operation(summary = "수행 증거 사진 스트리밍 제출하기", description = "수행자가 multipart 없이 요청 본문으로 사진을 업로드한다. Content-Type은 이미지 타입이어야 한다.")
+    @PostMapping(value = "/{eventId}/photos/stream", consumes = "image/*")
+    @RequireAuth
+    ResponseEntity<DdipEventDetailDto> uploadPhotoStreamForDdipEvent(
+            @PathVariable UUID eventId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) String responderComment,
+            @Parameter(hidden = true) InputStream photo,
+            @Parameter(hidden = true) @Login AuthUser authUser
+    );
+
+    @Operation(summary = "사진 업로드 URL 발급하기", description = "수행자가 사진을 저장소에 직접 업로드할 수 있는 URL을 발급한다.")
+    @PostMapping("/{eventId}/photos/upload-url")
+    @RequireAuth
+    ResponseEntity<PhotoUploadUrlResponse> issuePhotoUploadUrl(
+            @PathVariable UUID eventId,
+            @RequestBody PhotoUploadUrlRequest photoUploadUrlRequest,
+            @Parameter(hidden = true) @Login AuthUser authUser
+    );
+
+    @Operation(summary = "직접 업로드한 사진 제출하기", description = "발급받은 URL로 업로드를 마친 사진을 수행 증거로 등록한다.")
+    @PostMapping("/{eventId}/photos/confirm")
+    @RequireAuth
+    ResponseEntity<DdipEventDetailDto> confirmPhotoUpload(
+            @PathVariable UUID eventId,
+            @RequestBody PhotoConfirmRequest photoConfirmRequest,
+            @Parameter(hidden = true) @Login AuthUser authUser
+    );
+
     @Operation(summary = "제출된 사진 피드백 업데이트하기", description = "요청자, 수행자 모두 제출된 사진에 대한 피드백을 업데이트한다.")
     @PatchMapping("/{eventId}/photos/{photoId}")
     @RequireAuth
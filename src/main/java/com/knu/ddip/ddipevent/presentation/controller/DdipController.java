@@ -3,14 +3,16 @@ package com.knu.ddip.ddipevent.presentation.controller;
 import com.knu.ddip.auth.domain.AuthUser;
 import com.knu.ddip.common.dto.StringTypeResponse;
 import com.knu.ddip.ddipevent.application.dto.*;
+import com.knu.ddip.ddipevent.application.service.DdipLiveFeedService;
 import com.knu.ddip.ddipevent.application.service.DdipService;
 import com.knu.ddip.ddipevent.presentation.api.DdipApi;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.io.InputStream;
 import java.util.UUID;
 
 @RestController
@@ -18,6 +20,7 @@ import java.util.UUID;
 public class DdipController implements DdipApi {
 
     private final DdipService ddipService;
+    private final DdipLiveFeedService ddipLiveFeedService;
 
     @Override
     public ResponseEntity<DdipEventDetailDto> createDdipEvent(CreateDdipRequestDto createDdipRequestDto, AuthUser authUser) {
@@ -26,17 +29,28 @@ public class DdipController implements DdipApi {
     }
 
     @Override
-    public ResponseEntity<List<DdipEventSummaryDto>> getDdipEventFeed(FeedRequestDto feedRequestDto) {
-        List<DdipEventSummaryDto> feed = ddipService.getDdipEventFeed(feedRequestDto);
+    public ResponseEntity<DdipEventFeedPageDto> getDdipEventFeed(FeedRequestDto feedRequestDto) {
+        DdipEventFeedPageDto feed = ddipService.getDdipEventFeed(feedRequestDto);
         return ResponseEntity.ok(feed);
     }
 
+    @Override
+    public SseEmitter subscribeDdipLiveFeed(LiveFeedRequestDto liveFeedRequestDto) {
+        return ddipLiveFeedService.subscribe(liveFeedRequestDto);
+    }
+
     @Override
     public ResponseEntity<DdipEventDetailDto> getDdipEventDetail(UUID eventId) {
         DdipEventDetailDto ddipDetail = ddipService.getDdipEventDetail(eventId);
         return ResponseEntity.ok(ddipDetail);
     }
 
+    @Override
+    public ResponseEntity<InteractionPageDto> getDdipEventInteractions(UUID eventId, Long cursor, Integer size) {
+        InteractionPageDto interactions = ddipService.getDdipEventInteractions(eventId, cursor, size);
+        return ResponseEntity.ok(interactions);
+    }
+
     @Override
     public ResponseEntity<StringTypeResponse> applyDdipEvent(UUID eventId, AuthUser authUser) {
         ddipService.applyDdipEvent(eventId, authUser.getId());
@@ -55,6 +69,26 @@ public class DdipController implements DdipApi {
         return ResponseEntity.ok(ddipEventDetailDto);
     }
 
+    @Override
+    public ResponseEntity<DdipEventDetailDto> uploadPhotoStreamForDdipEvent(UUID eventId, String contentType, double latitude, double longitude,
+                                                                           String responderComment, InputStream photo, AuthUser authUser) {
+        DdipEventDetailDto ddipEventDetailDto = ddipService.uploadPhotoStreamForDdipEvent(eventId, photo, contentType,
+                latitude, longitude, responderComment, authUser.getId());
+        return ResponseEntity.ok(ddipEventDetailDto);
+    }
+
+    @Override
+    public ResponseEntity<PhotoUploadUrlResponse> issuePhotoUploadUrl(UUID eventId, PhotoUploadUrlRequest photoUploadUrlRequest, AuthUser authUser) {
+        PhotoUploadUrlResponse photoUploadUrlResponse = ddipService.issuePhotoUploadUrl(eventId, photoUploadUrlRequest, authUser.getId());
+        return ResponseEntity.ok(photoUploadUrlResponse);
+    }
+
+    @Override
+    public ResponseEntity<DdipEventDetailDto> confirmPhotoUpload(UUID eventId, PhotoConfirmRequest photoConfirmRequest, AuthUser authUser) {
+        DdipEventDetailDto ddipEventDetailDto = ddipService.confirmPhotoUpload(eventId, photoConfirmRequest, authUser.getId());
+        return ResponseEntity.ok(ddipEventDetailDto);
+    }
+
     @Override
     public ResponseEntity<DdipEventDetailDto> updatePhotoFeedback(UUID eventId, UUID photoId, PhotoFeedbackRequest photoFeedbackRequest, AuthUser authUser) {
         DdipEventDetailDto ddipEventDetailDto = ddipService.updatePhotoFeedback(eventId, photoId, photoFeedbackRequest, authUser.getId());
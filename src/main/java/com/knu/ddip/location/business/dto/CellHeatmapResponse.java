@@ -0,0 +1,15 @@
+package com.knu.ddip.location.application.dto;
+
+import java.util.List;
+
+public record CellHeatmapResponse(
+        long totalUsersCount,
+        List<CellOccupancyResponse> cells
+) {
+    public static CellHeatmapResponse of(List<CellOccupancyResponse> cells) {
+        long totalUsersCount = cells.stream()
+                .mapToLong(CellOccupancyResponse::count)
+                .sum();
+        return new CellHeatmapResponse(totalUsersCount, cells);
+    }
+}
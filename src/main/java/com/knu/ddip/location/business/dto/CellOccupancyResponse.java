@@ -0,0 +1,10 @@
+package com.knu.ddip.location.application.dto;
+
+public record CellOccupancyResponse(
+        String cellId,
+        int count
+) {
+    public static CellOccupancyResponse of(String cellId, int count) {
+        return new CellOccupancyResponse(cellId, count);
+    }
+}
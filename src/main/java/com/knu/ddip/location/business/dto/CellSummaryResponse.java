@@ -0,0 +1,11 @@
+package com.knu.ddip.location.application.dto;
+
+public record CellSummaryResponse(
+        String cellId,
+        int usersCount,
+        long openDdipCount
+) {
+    public static CellSummaryResponse of(String cellId, int usersCount, long openDdipCount) {
+        return new CellSummaryResponse(cellId, usersCount, openDdipCount);
+    }
+}
@@ -0,0 +1,13 @@
+package com.knu.ddip.location.application.dto;
+
+import java.util.List;
+
+// cellIds는 정렬, 중복 제거된 상태, hash는 셀 목록 기준 SHA-256
+public record GeoJsonCells(
+        List<String> cellIds,
+        String hash
+) {
+    public static GeoJsonCells of(List<String> cellIds, String hash) {
+        return new GeoJsonCells(cellIds, hash);
+    }
+}
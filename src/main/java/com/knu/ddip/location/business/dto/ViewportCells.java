@@ -0,0 +1,13 @@
+package com.knu.ddip.location.application.dto;
+
+import java.util.List;
+
+// 화면 크기에 맞춰 고른 레벨과 그 레벨의 경북대 내부 셀
+public record ViewportCells(
+        int level,
+        List<String> cellIds
+) {
+    public static ViewportCells of(int level, List<String> cellIds) {
+        return new ViewportCells(level, cellIds);
+    }
+}
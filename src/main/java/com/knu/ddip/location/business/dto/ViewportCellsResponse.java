@@ -0,0 +1,12 @@
+package com.knu.ddip.location.application.dto;
+
+import java.util.List;
+
+public record ViewportCellsResponse(
+        int level,
+        List<CellSummaryResponse> cells
+) {
+    public static ViewportCellsResponse of(int level, List<CellSummaryResponse> cells) {
+        return new ViewportCellsResponse(level, cells);
+    }
+}
@@ -0,0 +1,9 @@
+package com.knu.ddip.location.application.dto;
+
+public record ViewportRequest(
+        Double sw_lat,
+        Double sw_lon,
+        Double ne_lat,
+        Double ne_lon
+) {
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 public class GeoJsonInitializer implements ApplicationRunner {
 
     public static final String GEOJSON_INIT_LOCK_KEY = "lock:geojson:init";
+    public static final String ACTIVE_CELLS_INIT_LOCK_KEY = "lock:active-cells:init";
 
     private final OneTimeRunner oneTimeRunner;
     private final LocationService locationService;
@@ -21,5 +22,12 @@ public class GeoJsonInitializer implements ApplicationRunner {
                 GEOJSON_INIT_LOCK_KEY,
                 () -> locationService.loadAndSaveGeoJsonFeatures()
         );
+        // 락 획득 여부와 상관없이 모든 인스턴스가 번들된 GeoJson 파일로 메모리 셀 레지스트리 적재
+        locationService.loadCampusCells();
+        // 만료 sweeper가 순회할 활성 셀 목록 보정, 완료 표시가 남은 뒤로는 바로 반환
+        oneTimeRunner.runOnce(
+                ACTIVE_CELLS_INIT_LOCK_KEY,
+                () -> locationService.registerActiveCells()
+        );
     }
 }
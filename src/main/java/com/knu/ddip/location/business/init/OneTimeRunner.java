@@ -2,5 +2,8 @@ package com.knu.ddip.location.application.init;
 
 public interface OneTimeRunner {
     void runOnce(String lockName, Runnable task);
-}
 
+    // 락을 얻을 때까지 기다렸다가 실행, 모든 인스턴스가 차례로 실행하므로 task는 멱등이어야 함
+    // 앞선 인스턴스의 작업이 끝난 뒤에 반환되어서 기동 완료 전에 결과가 반영되어 있음
+    void runExclusively(String lockName, Runnable task);
+}
@@ -12,15 +12,16 @@ public class LocationScheduler {
 
     private final LocationWriter locationWriter;
 
+    // 활성 셀 shard 하나씩 돌아가며 만료된 위치 정리
     @SchedulerLock(
-            name = "cleanup_locations_lock",
-            lockAtLeastFor = "30s",
-            lockAtMostFor = "5m"
+            name = "sweep_locations_lock",
+            lockAtLeastFor = "1s",
+            lockAtMostFor = "30s"
     )
-    @Scheduled(cron = "0 0 * * * *") // 매 정시
-    public void cleanupExpiredUserLocations() {
+    @Scheduled(fixedDelayString = "${location.sweep.interval-ms:2000}")
+    public void sweepExpiredUserLocations() {
         long now = System.currentTimeMillis();
-        locationWriter.cleanupExpiredUserLocations(now);
+        locationWriter.sweepExpiredUserLocations(now);
     }
 
 }
\ No newline at end of file
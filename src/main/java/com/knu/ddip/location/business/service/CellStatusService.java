@@ -1,10 +1,20 @@
-package com.knu.ddip.location.business.service;
+package com.knu.ddip.location.application.service;
 
+import com.knu.ddip.location.application.dto.CellHeatmapResponse;
+import com.knu.ddip.location.application.dto.CellOccupancyResponse;
+import com.knu.ddip.location.application.dto.CellSummaryResponse;
+import com.knu.ddip.location.application.dto.ViewportCells;
+import com.knu.ddip.location.application.dto.ViewportCellsResponse;
+import com.knu.ddip.location.application.dto.ViewportRequest;
+import com.knu.ddip.location.application.util.S2Converter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -12,19 +22,48 @@ import java.util.List;
 public class CellStatusService {
 
     private final LocationReader locationReader;
+    private final LocationService locationService;
+    private final OpenDdipCountReader openDdipCountReader;
+    private final S2Converter s2Converter;
 
+    // 위치 저장/만료 스크립트가 유지하는 카운터 조회 (셀 수와 무관하게 O(1))
     public int getAllCurrentUsersCount() {
-        int sumCount = 0;
-        List<String> cellIds = locationReader.findAllCellIds();
-        for (String cellId : cellIds) {
-            int count = locationReader.getUsersCountByCellId(cellId);
-            sumCount += count;
-        }
-        return sumCount;
+        return (int) locationReader.countOnlineUsers();
     }
 
     public int getCurrentUsersCountByCellId(String cellId) {
-        return locationReader.getUsersCountByCellId(cellId);
+        return locationReader.countUsersByCellId(cellId);
     }
 
+    // 경북대 전체 셀별 인원 수 (HGETALL 한 번)
+    public CellHeatmapResponse getHeatmap() {
+        List<CellOccupancyResponse> cells = locationReader.findAllCellOccupancies().entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(entry -> CellOccupancyResponse.of(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(CellOccupancyResponse::cellId))
+                .toList();
+        return CellHeatmapResponse.of(cells);
+    }
+
+    // 화면 범위에 맞는 레벨로 셀별 인원 수, OPEN 띱 수 집계
+    public ViewportCellsResponse getViewportCells(ViewportRequest request) {
+        ViewportCells viewport = locationService.getViewportCells(
+                request.sw_lat(), request.sw_lon(), request.ne_lat(), request.ne_lon());
+        int level = viewport.level();
+
+        // 인원 수는 레벨 17 카운터를 상위 셀로 합산
+        Map<String, Integer> usersCounts = new HashMap<>();
+        locationReader.findAllCellOccupancies().forEach((cellId, count) ->
+                usersCounts.merge(s2Converter.toParentCellIdString(cellId, level), count, Integer::sum));
+
+        Map<String, Long> openDdipCounts = openDdipCountReader.countOpenDdipsByCellIds(level, viewport.cellIds());
+
+        List<CellSummaryResponse> cells = viewport.cellIds().stream()
+                .map(cellId -> CellSummaryResponse.of(
+                        cellId,
+                        usersCounts.getOrDefault(cellId, 0),
+                        openDdipCounts.getOrDefault(cellId, 0L)))
+                .toList();
+        return ViewportCellsResponse.of(level, cells);
+    }
 }
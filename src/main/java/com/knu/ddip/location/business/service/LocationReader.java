@@ -1,13 +1,33 @@
 package com.knu.ddip.location.application.service;
 
+import com.google.common.geometry.S2LatLngRect;
+
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public interface LocationReader {
     void validateLocationByCellId(String cellId);
 
     List<String> findAllLocationsByCellIdIn(List<String> cellIds);
 
-    List<String> findUserIdsByCellIds(List<String> targetCellIds);
+    List<String> findNeighborCellIdsInTargetArea(String cellId, int radius);
+
+    List<String> findCampusCellIdsInRect(S2LatLngRect rect, int level);
+
+    List<UUID> findUserIdsByCellIds(List<String> targetCellIds);
+
+    Map<String, Integer> findAllCellOccupancies();
+
+    int countUsersByCellId(String cellId);
+
+    long countOnlineUsers();
 
     boolean isCellIdNotInTargetArea(String cellId);
+
+    List<String> findAllCellIds();
+
+    long countAllCells();
+
+    String findCampusCellsHash();
 }
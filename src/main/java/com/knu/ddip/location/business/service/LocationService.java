@@ -1,26 +1,28 @@
 package com.knu.ddip.location.application.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.geometry.*;
+import com.knu.ddip.location.application.dto.GeoJsonCells;
 import com.knu.ddip.location.application.dto.UpdateMyLocationRequest;
+import com.knu.ddip.location.application.dto.ViewportCells;
+import com.knu.ddip.location.application.util.GeoJsonCellParser;
 import com.knu.ddip.location.application.util.S2Constants;
 import com.knu.ddip.location.application.util.S2Converter;
-import com.knu.ddip.location.application.util.UuidBase64Utils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import static com.knu.ddip.location.application.util.S2Constants.*;
 
@@ -35,34 +37,78 @@ public class LocationService {
 
     private final S2Converter s2Converter;
 
-    private final ObjectMapper objectMapper;
+    private final GeoJsonCellParser geoJsonCellParser;
+
+    @Value("${location.neighbor.radius:1}")
+    private int neighborRadius;
 
     public static final String KNU_GEOJSON_FEATURE_FILENAME = "geojson/cells.geojson";
 
-    // KNU GeoJSON 파일을 읽어서 각 Feature를 DB에 저장
+    // KNU GeoJSON 파일의 셀 목록을 DB에 반영
+    // 전체 삭제 후 재삽입 대신 바뀐 셀만 추가/삭제해서 locations 테이블이 비는 구간이 없음
     @Transactional
     public void loadAndSaveGeoJsonFeatures() {
-        // GeoJson 파일 읽기
-        String geoJsonContent = getGeoJsonContent();
-
+        GeoJsonCells cells;
         try {
-            // 기존 데이터 삭제
-            locationWriter.deleteAll();
+            cells = readGeoJsonCells();
+        } catch (IOException e) {
+            log.error(e.getMessage());
+            return;
+        }
+
+        // 셀 목록이 이전 반영 때와 같으면 DB는 건드리지 않음
+        if (cells.hash().equals(locationReader.findCampusCellsHash())
+                && locationReader.countAllCells() == cells.cellIds().size()) {
+            log.info("GeoJson 셀 목록 변경 없음: {}개", cells.cellIds().size());
+            return;
+        }
 
-            // JSON 파싱
-            JsonNode rootNode = objectMapper.readTree(geoJsonContent);
-            JsonNode featuresNode = rootNode.get("features");
-            List<String> cellIds = StreamSupport.stream(featuresNode.spliterator(), false)
-                    .map(featureNode -> featureNode.get("properties").get("id").asText())
-                    .collect(Collectors.toList());
+        Set<String> existing = new HashSet<>(locationReader.findAllCellIds());
+        Set<String> incoming = new HashSet<>(cells.cellIds());
+
+        List<String> toInsert = cells.cellIds().stream()
+                .filter(cellId -> !existing.contains(cellId))
+                .toList();
+        List<String> toDelete = existing.stream()
+                .filter(cellId -> !incoming.contains(cellId))
+                .toList();
+
+        locationWriter.deleteAllByCellIdIn(toDelete);
+        locationWriter.saveAll(toInsert);
+
+        // 해시는 DB 반영이 커밋된 뒤에 기록, 롤백되면 다음 기동 때 다시 비교
+        String hash = cells.hash();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    locationWriter.saveCampusCellsHash(hash);
+                }
+            });
+        } else {
+            locationWriter.saveCampusCellsHash(hash);
+        }
 
-            locationWriter.saveAll(cellIds);
+        log.info("GeoJson 셀 반영: 추가 {}개, 삭제 {}개, 전체 {}개", toInsert.size(), toDelete.size(), cells.cellIds().size());
+    }
 
-            log.info("총 {}개의 S2Cell Feature가 저장되었습니다.", cellIds.size());
+    // 번들된 GeoJson 파일로 메모리 셀 레지스트리 적재
+    // DB 반영은 락을 얻은 인스턴스 하나가 진행 중일 수 있으므로 모든 인스턴스가 같은 파일에서 읽음
+    // 메모리 셀 레지스트리는 스냅샷 교체라 읽는 쪽은 이전 목록 또는 새 목록 중 하나만 봄
+    public void loadCampusCells() {
+        List<String> cellIds;
+        try {
+            cellIds = readGeoJsonCells().cellIds();
         } catch (IOException e) {
-            e.printStackTrace();
+            // 파일을 읽지 못하면 DB에 저장된 목록으로 대신 적재
             log.error(e.getMessage());
+            cellIds = locationReader.findAllCellIds();
         }
+        locationWriter.refreshCampusCells(cellIds);
+    }
+
+    public void registerActiveCells() {
+        locationWriter.registerActiveCells();
     }
 
     public void saveUserLocationAtomic(UUID userId, UpdateMyLocationRequest request) {
@@ -72,34 +118,23 @@ public class LocationService {
         // 경북대 내부에 위치하는지 확인
         boolean cellIdNotInTargetArea = locationReader.isCellIdNotInTargetArea(cellId);
 
-        String encodedUserId = UuidBase64Utils.uuidToBase64String(userId);
-
-        locationWriter.saveUserIdByCellIdAtomic(cellId, cellIdNotInTargetArea, encodedUserId);
+        locationWriter.saveUserLocation(cellId, cellIdNotInTargetArea, userId);
     }
 
     // 요청 전송 시 이웃 userIds 조회
     public List<UUID> getNeighborRecipientUserIds(UUID myUserId, double lat, double lng) {
-        S2CellId cellIdObj = s2Converter.toCellId(lat, lng);
-        String cellId = cellIdObj.toToken();
+        String cellId = s2Converter.toCellIdString(lat, lng);
 
         // 경북대 내부에 위치하는지 확인
         locationReader.validateLocationByCellId(cellId);
 
-        // 이웃 cellIds 가져오기
-        List<S2CellId> neighbors = new ArrayList<>();
-        cellIdObj.getAllNeighbors(LEVEL, neighbors);
-        List<String> neighborCellIds = neighbors.stream()
-                .map(S2CellId::toToken)
-                .collect(Collectors.toList());
-
-        // 경북대 내부에 위치하는 이웃 cellIds만 가져오기
-        List<String> targetCellIds = locationReader.findAllLocationsByCellIdIn(neighborCellIds);
+        // 경북대 내부에 위치하는 이웃 cellIds만 가져오기 (미리 계산된 이웃 테이블 조회)
+        List<String> targetCellIds = locationReader.findNeighborCellIdsInTargetArea(cellId, neighborRadius);
         targetCellIds.add(cellId);
 
         // targetCellId의 userIds만 가져오기
 
         List<UUID> userIds = locationReader.findUserIdsByCellIds(targetCellIds).stream()
-                .map(UuidBase64Utils::base64StringToUuid)
                 .filter(userId -> !userId.equals(myUserId))
                 .collect(Collectors.toList());
 
@@ -108,21 +143,13 @@ public class LocationService {
 
     // 띱 요청 보낼 대상 인접 셀 조회
     public List<String> getNeighborCellIdsToSendDdipRequest(double lat, double lng) {
-        S2CellId cellIdObj = s2Converter.toCellId(lat, lng);
-        String cellId = cellIdObj.toToken();
+        String cellId = s2Converter.toCellIdString(lat, lng);
 
         // 경북대 내부에 위치하는지 확인
         locationReader.validateLocationByCellId(cellId);
 
-        // 이웃 cellIds 가져오기
-        List<S2CellId> neighbors = new ArrayList<>();
-        cellIdObj.getAllNeighbors(LEVEL, neighbors);
-        List<String> neighborCellIds = neighbors.stream()
-                .map(S2CellId::toToken)
-                .collect(Collectors.toList());
-
-        // 경북대 내부에 위치하는 이웃 cellIds만 가져오기
-        List<String> targetCellIds = locationReader.findAllLocationsByCellIdIn(neighborCellIds);
+        // 경북대 내부에 위치하는 이웃 cellIds만 가져오기 (미리 계산된 이웃 테이블 조회)
+        List<String> targetCellIds = locationReader.findNeighborCellIdsInTargetArea(cellId, neighborRadius);
         targetCellIds.add(cellId);
 
         return targetCellIds;
@@ -135,44 +162,37 @@ public class LocationService {
                 S2LatLng.fromDegrees(maxLat, maxLng)
         );
 
-        S2RegionCoverer coverer = S2RegionCoverer.builder()
-                .setMinLevel(LEVEL)
-                .setMaxLevel(LEVEL)
-                .build();
-
-        S2CellUnion union = new S2CellUnion();
-        coverer.getCovering(rect, union);
+        // 커버링 셀을 레벨 17 자식으로 펼치지 않고 id 구간으로 경북대 셀을 바로 찾음
+        return locationReader.findCampusCellIdsInRect(rect, LEVEL);
+    }
 
-        List<String> cellIds = normalizeCellLevel(union, LEVEL);
+    // 화면 범위에 맞는 집계 레벨을 골라 해당 레벨의 경북대 내부 셀 조회
+    public ViewportCells getViewportCells(double minLat, double minLng, double maxLat, double maxLng) {
+        S2LatLngRect rect = S2LatLngRect.fromPointPair(
+                S2LatLng.fromDegrees(minLat, minLng),
+                S2LatLng.fromDegrees(maxLat, maxLng)
+        );
 
-        List<String> filteredCellIds = locationReader.findAllLocationsByCellIdIn(cellIds);
-        return filteredCellIds;
+        int level = selectRollupLevel(rect);
+        List<String> cellIds = locationReader.findCampusCellIdsInRect(rect, level);
+        return ViewportCells.of(level, cellIds);
     }
 
-    private String getGeoJsonContent() {
+    private GeoJsonCells readGeoJsonCells() throws IOException {
         ClassPathResource resource = new ClassPathResource(KNU_GEOJSON_FEATURE_FILENAME);
         try (InputStream is = resource.getInputStream()) {
-            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            return geoJsonCellParser.parse(is);
         }
     }
 
-    private List<String> normalizeCellLevel(S2CellUnion union, int level) {
-        List<String> out = new ArrayList<>();
-        for (S2CellId cid : union.cellIds()) {
-            if (cid.level() == level) {
-                out.add(cid.toToken());
-            } else if (cid.level() < level) {
-                S2CellId begin = cid.childBegin(level);
-                S2CellId end = cid.childEnd(level);
-                for (S2CellId it = begin; !it.equals(end); it = it.next()) {
-                    out.add(it.toToken());
-                }
-            } else {
-                out.add(cid.parent(level).toToken());
+    // 셀 수가 MAX_VIEWPORT_CELLS 이하가 되는 가장 세밀한 레벨, 모두 넘으면 가장 큰 레벨
+    private int selectRollupLevel(S2LatLngRect rect) {
+        double area = rect.area();
+        for (int i = ROLLUP_LEVELS.length - 1; i >= 0; i--) {
+            if (area / S2Cell.averageArea(ROLLUP_LEVELS[i]) <= MAX_VIEWPORT_CELLS) {
+                return ROLLUP_LEVELS[i];
             }
         }
-        return out;
+        return ROLLUP_LEVELS[0];
     }
 }
@@ -1,13 +1,24 @@
 package com.knu.ddip.location.application.service;
 
 import java.util.List;
+import java.util.UUID;
 
 public interface LocationWriter {
-    void deleteAll();
-
     void saveAll(List<String> cellIds);
 
-    void saveUserIdByCellIdAtomic(String newCellId, boolean cellIdNotInTargetArea, String encodedUserId);
+    void deleteAllByCellIdIn(List<String> cellIds);
+
+    void saveCampusCellsHash(String hash);
+
+    void refreshCampusCells(List<String> cellIds);
+
+    void saveUserLocation(String newCellId, boolean cellIdNotInTargetArea, UUID userId);
+
+    void saveUserIdByCellIdAtomic(String newCellId, boolean cellIdNotInTargetArea, UUID userId);
+
+    void sweepExpiredUserLocations(long now);
 
     void cleanupExpiredUserLocations(long now);
+
+    void registerActiveCells();
 }
@@ -0,0 +1,9 @@
+package com.knu.ddip.location.application.service;
+
+import java.util.List;
+import java.util.Map;
+
+// 셀별 OPEN 상태 띱 수 조회 (cellIds는 모두 같은 레벨)
+public interface OpenDdipCountReader {
+    Map<String, Long> countOpenDdipsByCellIds(int level, List<String> cellIds);
+}
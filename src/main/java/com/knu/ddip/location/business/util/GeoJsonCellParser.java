@@ -0,0 +1,92 @@
+package com.knu.ddip.location.application.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.ddip.location.application.dto.GeoJsonCells;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+// GeoJson 전체를 트리로 읽지 않고 features[].properties.id 만 스트리밍으로 추출
+@Component
+@RequiredArgsConstructor
+public class GeoJsonCellParser {
+
+    private final ObjectMapper objectMapper;
+
+    public GeoJsonCells parse(InputStream in) throws IOException {
+        List<String> cellIds = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("GeoJson 최상위는 객체여야 합니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("features".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        String cellId = readFeatureCellId(parser);
+                        if (cellId != null && seen.add(cellId)) {
+                            cellIds.add(cellId);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        cellIds.sort(null);
+        return GeoJsonCells.of(cellIds, hash(cellIds));
+    }
+
+    // 현재 위치는 feature 객체의 START_OBJECT, 끝나면 END_OBJECT
+    private String readFeatureCellId(JsonParser parser) throws IOException {
+        String cellId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("properties".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String property = parser.currentName();
+                    parser.nextToken();
+                    if ("id".equals(property)) {
+                        cellId = parser.getValueAsString();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return cellId;
+    }
+
+    // 좌표나 포맷이 바뀌어도 셀 목록이 같으면 같은 값
+    private String hash(List<String> sortedCellIds) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String cellId : sortedCellIds) {
+                digest.update(cellId.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
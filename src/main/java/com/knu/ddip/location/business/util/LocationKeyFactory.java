@@ -1,6 +1,9 @@
 package com.knu.ddip.location.application.util;
 
 public abstract class LocationKeyFactory {
+    // DB에 반영된 경북대 셀 목록의 해시
+    public static final String CAMPUS_CELLS_HASH_KEY = "location:cells:hash";
+
     public static String createUserIdKey(String encodedUserId) {
         return "user:" + encodedUserId;
     }
@@ -2,4 +2,9 @@ package com.knu.ddip.location.application.util;
 
 public abstract class S2Constants {
     public static int LEVEL = 17;
+    public static final int MAX_NEIGHBOR_RADIUS = 3;
+    // 지도 축소 시 집계할 셀 레벨 (coarse -> fine), 마지막 값은 LEVEL과 같음
+    public static final int[] ROLLUP_LEVELS = {13, 15, 17};
+    // 한 화면에서 조회할 최대 셀 수
+    public static final int MAX_VIEWPORT_CELLS = 64;
 }
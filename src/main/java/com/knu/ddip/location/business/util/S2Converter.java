@@ -17,4 +17,9 @@ public class S2Converter {
         S2CellId cellId = toCellId(lat, lng);
         return cellId.toToken();
     }
+
+    public String toParentCellIdString(String cellId, int level) {
+        S2CellId cell = S2CellId.fromToken(cellId);
+        return cell.level() <= level ? cellId : cell.parent(level).toToken();
+    }
 }
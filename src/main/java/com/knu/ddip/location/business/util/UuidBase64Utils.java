@@ -13,14 +13,26 @@ public abstract class UuidBase64Utils {
     private static final Base64.Decoder B64_DEC = getUrlDecoder();
 
     public static String uuidToBase64String(UUID uuid) {
-        ByteBuffer bb = ByteBuffer.allocate(16)
-                .putLong(uuid.getMostSignificantBits())
-                .putLong(uuid.getLeastSignificantBits());
-        return B64_URL.encodeToString(bb.array());
+        return B64_URL.encodeToString(uuidToBytes(uuid));
     }
 
     public static UUID base64StringToUuid(String string) {
-        byte[] bytes = B64_DEC.decode(string);
+        return bytesToUuid(B64_DEC.decode(string));
+    }
+
+    // Redis에서 읽은 값을 String 변환 없이 바로 디코딩
+    public static UUID base64BytesToUuid(byte[] encoded) {
+        return bytesToUuid(B64_DEC.decode(encoded));
+    }
+
+    public static byte[] uuidToBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID bytesToUuid(byte[] bytes) {
         ByteBuffer bb = ByteBuffer.wrap(bytes);
         return new UUID(bb.getLong(), bb.getLong());
     }
@@ -0,0 +1,174 @@
+package com.knu.ddip.location.infrastructure.ingest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.knu.ddip.location.infrastructure.presence.PresenceCodecs;
+import com.knu.ddip.location.infrastructure.presence.SaveUserLocationCommand;
+import com.knu.ddip.location.infrastructure.presence.SaveUserLocationScript;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.knu.ddip.location.infrastructure.repository.LocationWriterImpl.TTL_SECONDS;
+
+// 위치 갱신 요청을 짧은 구간 동안 모아서 (유저별 마지막 값만 유지) EVALSHA 파이프라인으로 일괄 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationIngestPipeline {
+
+    public static final String MODE_BATCH = "batch";
+
+    private final RedisConnectionFactory connectionFactory;
+    private final MeterRegistry meterRegistry;
+    private final SaveUserLocationScript saveUserLocationScript;
+    private final PresenceCodecs presenceCodecs;
+
+    @Value("${location.ingest.mode:sync}")
+    private String mode;
+
+    @Value("${location.ingest.max-latency-ms:50}")
+    private long maxLatencyMs;
+
+    @Value("${location.ingest.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${location.ingest.max-pending:10000}")
+    private int maxPending;
+
+    private final Map<UUID, SaveUserLocationCommand> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final Object flushLock = new Object();
+
+    private ScheduledExecutorService flusher;
+
+    private Counter acceptedCounter;
+    private Counter coalescedCounter;
+    private Counter droppedCounter;
+    private Counter flushedCounter;
+    private Timer flushTimer;
+
+    @PostConstruct
+    public void init() {
+        acceptedCounter = meterRegistry.counter("location.ingest.accepted");
+        coalescedCounter = meterRegistry.counter("location.ingest.coalesced");
+        droppedCounter = meterRegistry.counter("location.ingest.dropped");
+        flushedCounter = meterRegistry.counter("location.ingest.flushed");
+        flushTimer = meterRegistry.timer("location.ingest.flush");
+        meterRegistry.gauge("location.ingest.pending", pending, Map::size);
+
+        if (isBatchMode()) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "location-ingest-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushSafely, maxLatencyMs, maxLatencyMs, TimeUnit.MILLISECONDS);
+            log.info("location ingest pipeline started (maxLatencyMs={}, maxBatchSize={}, maxPending={})",
+                    maxLatencyMs, maxBatchSize, maxPending);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(maxLatencyMs * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+    }
+
+    public boolean isBatchMode() {
+        return MODE_BATCH.equalsIgnoreCase(mode);
+    }
+
+    public void submit(String newCellId, boolean cellIdNotInTargetArea, UUID userId) {
+        if (pending.size() >= maxPending && !pending.containsKey(userId)) {
+            droppedCounter.increment();
+            return;
+        }
+
+        long expireAt = System.currentTimeMillis() + TTL_SECONDS * 1000L;
+        SaveUserLocationCommand previous = pending.put(userId,
+                presenceCodecs.saveUserLocationCommand(newCellId, cellIdNotInTargetArea, userId, TTL_SECONDS, expireAt));
+
+        acceptedCounter.increment();
+        if (previous != null) {
+            coalescedCounter.increment();
+        }
+
+        if (pending.size() >= maxBatchSize && flusher != null && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushSafely);
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    public void flush() {
+        synchronized (flushLock) {
+            flushRequested.set(false);
+            while (!pending.isEmpty()) {
+                List<SaveUserLocationCommand> batch = drain();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                flushTimer.record(() -> execute(batch));
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("location ingest flush error", e);
+        }
+    }
+
+    private List<SaveUserLocationCommand> drain() {
+        List<SaveUserLocationCommand> batch = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+        Iterator<UUID> it = pending.keySet().iterator();
+        while (it.hasNext() && batch.size() < maxBatchSize) {
+            // remove 이후 들어온 값은 다음 flush에서 반영되므로 유저별 마지막 값이 유지됨
+            SaveUserLocationCommand command = pending.remove(it.next());
+            if (command != null) {
+                batch.add(command);
+            }
+        }
+        return batch;
+    }
+
+    private void execute(List<SaveUserLocationCommand> batch) {
+        try (RedisConnection conn = connectionFactory.getConnection()) {
+            saveUserLocationScript.executePipelined(conn, batch);
+            flushedCounter.increment(batch.size());
+        } catch (Exception e) {
+            droppedCounter.increment(batch.size());
+            log.error("location ingest batch dropped: {} updates", batch.size(), e);
+        }
+    }
+}
@@ -14,19 +14,34 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class RedisOneTimeRunner implements OneTimeRunner {
 
+    private static final long LEASE_MINUTES = 30;
+
     private final RedissonClient redisson;
 
     @Override
     public void runOnce(String lockName, Runnable task) {
+        run(lockName, 0, task);
+    }
+
+    @Override
+    public void runExclusively(String lockName, Runnable task) {
+        run(lockName, LEASE_MINUTES, task);
+    }
+
+    private void run(String lockName, long waitMinutes, Runnable task) {
         RLock lock = redisson.getLock(lockName);
         boolean acquired = false;
         try {
-            acquired = lock.tryLock(0, 30, TimeUnit.MINUTES);
+            acquired = lock.tryLock(waitMinutes, LEASE_MINUTES, TimeUnit.MINUTES);
             if (!acquired) {
+                if (waitMinutes > 0) {
+                    log.warn("Timed out waiting for lock {}", lockName);
+                }
                 return;
             }
             task.run();
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             log.error("Interrupted while waiting for lock {}", lockName, e);
         } finally {
             if (acquired && lock.isHeldByCurrentThread()) {
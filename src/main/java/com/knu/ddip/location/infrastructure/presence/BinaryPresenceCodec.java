@@ -0,0 +1,119 @@
+package com.knu.ddip.location.infrastructure.presence;
+
+import com.google.common.geometry.S2CellId;
+import com.knu.ddip.location.application.util.UuidBase64Utils;
+import com.knu.ddip.location.infrastructure.registry.CampusCellRegistry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+// cb:{8바이트 S2 id}:u / cb:{8바이트 S2 id}:e / ub:{16바이트 UUID} 형태의 바이너리 인코딩, 셀 멤버도 16바이트 UUID
+public class BinaryPresenceCodec implements PresenceCodec {
+
+    private static final byte[] CELL_KEY_PREFIX = bytes("cb:");
+    private static final byte[] USERS_KEY_SUFFIX = bytes(":u");
+    private static final byte[] EXPIRIES_KEY_SUFFIX = bytes(":e");
+    private static final byte[] USER_KEY_PREFIX = bytes("ub:");
+    private static final byte[] OCCUPANCY_KEY = bytes("cb:occupancy");
+    private static final byte[] ONLINE_USERS_KEY = bytes("cb:online");
+
+    @Override
+    public byte[] userKey(UUID userId) {
+        return ByteBuffer.allocate(USER_KEY_PREFIX.length + 16)
+                .put(USER_KEY_PREFIX)
+                .putLong(userId.getMostSignificantBits())
+                .putLong(userId.getLeastSignificantBits())
+                .array();
+    }
+
+    @Override
+    public byte[] cellUsersKey(String cellId) {
+        return cellKey(cellId, USERS_KEY_SUFFIX);
+    }
+
+    @Override
+    public byte[] cellExpiriesKey(String cellId) {
+        return cellKey(cellId, EXPIRIES_KEY_SUFFIX);
+    }
+
+    @Override
+    public byte[] cellValue(String cellId) {
+        return ByteBuffer.allocate(8)
+                .putLong(CampusCellRegistry.toCellId(cellId))
+                .array();
+    }
+
+    @Override
+    public byte[] cellValueOf(byte[] expiriesKey) {
+        return Arrays.copyOfRange(expiriesKey, CELL_KEY_PREFIX.length, CELL_KEY_PREFIX.length + 8);
+    }
+
+    @Override
+    public String decodeCellValue(byte[] cellValue) {
+        return new S2CellId(ByteBuffer.wrap(cellValue).getLong()).toToken();
+    }
+
+    @Override
+    public byte[] usersKeyPrefix() {
+        return CELL_KEY_PREFIX;
+    }
+
+    @Override
+    public byte[] usersKeySuffix() {
+        return USERS_KEY_SUFFIX;
+    }
+
+    @Override
+    public byte[] member(UUID userId) {
+        return UuidBase64Utils.uuidToBytes(userId);
+    }
+
+    @Override
+    public UUID decodeMember(byte[] member) {
+        if (member.length != 16) {
+            throw new IllegalArgumentException("UUID는 16바이트여야 합니다: " + member.length);
+        }
+        return UuidBase64Utils.bytesToUuid(member);
+    }
+
+    @Override
+    public String expiriesKeyPattern() {
+        return "cb:*:e";
+    }
+
+    @Override
+    public byte[] activeCellsKey(int shard) {
+        return bytes("cb:active:" + shard);
+    }
+
+    @Override
+    public byte[] occupancyKey() {
+        return OCCUPANCY_KEY;
+    }
+
+    @Override
+    public byte[] onlineUsersKey() {
+        return ONLINE_USERS_KEY;
+    }
+
+    @Override
+    public byte[] usersKeyOf(byte[] expiriesKey) {
+        byte[] usersKey = expiriesKey.clone();
+        usersKey[usersKey.length - 1] = USERS_KEY_SUFFIX[USERS_KEY_SUFFIX.length - 1];
+        return usersKey;
+    }
+
+    private byte[] cellKey(String cellId, byte[] suffix) {
+        return ByteBuffer.allocate(CELL_KEY_PREFIX.length + 8 + suffix.length)
+                .put(CELL_KEY_PREFIX)
+                .putLong(CampusCellRegistry.toCellId(cellId))
+                .put(suffix)
+                .array();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
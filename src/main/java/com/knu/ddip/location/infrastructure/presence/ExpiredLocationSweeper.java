@@ -0,0 +1,144 @@
+package com.knu.ddip.location.infrastructure.presence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.knu.ddip.location.infrastructure.presence.PresenceCodecs.ACTIVE_CELL_SHARDS;
+
+// 활성 셀 목록을 shard 단위로 돌아가며 만료된 위치를 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredLocationSweeper {
+
+    public static final String SCRIPT_PATH = "luascript/sweep_expired_locations.lua";
+
+    private static final byte[] SWEEP_CURSOR_KEY = "presence:sweep:cursor".getBytes(StandardCharsets.UTF_8);
+    // 등록을 한 번 끝낸 뒤 남기는 표시, 이후 배포에서는 keyspace 전체 SCAN을 하지 않음
+    private static final byte[] ACTIVE_CELLS_REGISTERED_KEY = "presence:active-cells:registered:v1".getBytes(StandardCharsets.UTF_8);
+    private static final int SWEEP_NUM_KEYS = 5;
+
+    private final RedisConnectionFactory connectionFactory;
+    private final PresenceCodecs presenceCodecs;
+    private final MeterRegistry meterRegistry;
+
+    private final PresenceScript script = new PresenceScript(SCRIPT_PATH, ReturnType.MULTI);
+
+    private Counter removedCounter;
+    private Counter sweptCellsCounter;
+    private Timer lagTimer;
+    private Timer sweepTimer;
+
+    @PostConstruct
+    public void init() {
+        removedCounter = meterRegistry.counter("location.sweep.removed");
+        sweptCellsCounter = meterRegistry.counter("location.sweep.cells");
+        // 만료 시각부터 실제로 지워지기까지 걸린 시간
+        lagTimer = meterRegistry.timer("location.sweep.lag");
+        sweepTimer = meterRegistry.timer("location.sweep");
+    }
+
+    // 다음 shard 하나만 정리, 여러 인스턴스가 번갈아 실행해도 cursor는 Redis에서 공유
+    public void sweepNextShard(long now) {
+        try (RedisConnection conn = connectionFactory.getConnection()) {
+            Long cursor = conn.stringCommands().incr(SWEEP_CURSOR_KEY);
+            int shard = Math.floorMod(cursor == null ? 0L : cursor, ACTIVE_CELL_SHARDS);
+            sweepTimer.record(() -> sweep(conn, shard, now));
+        }
+    }
+
+    public void sweepAll(long now) {
+        try (RedisConnection conn = connectionFactory.getConnection()) {
+            for (int shard = 0; shard < ACTIVE_CELL_SHARDS; shard++) {
+                sweep(conn, shard, now);
+            }
+        }
+    }
+
+    // 활성 셀 목록 도입 이전에 저장된 expiry key 등록, 완료 표시가 있으면 건너뜀
+    public void registerActiveCells() {
+        int registered = 0;
+        try (RedisConnection conn = connectionFactory.getConnection()) {
+            if (Boolean.TRUE.equals(conn.keyCommands().exists(ACTIVE_CELLS_REGISTERED_KEY))) {
+                return;
+            }
+            for (PresenceCodec codec : presenceCodecs.readers()) {
+                List<byte[]> expiriesKeys = new ArrayList<>();
+                try (Cursor<byte[]> cursor = conn.keyCommands()
+                        .scan(ScanOptions.scanOptions()
+                                .match(codec.expiriesKeyPattern())
+                                .build())) {
+                    cursor.forEachRemaining(expiriesKeys::add);
+                }
+                if (expiriesKeys.isEmpty()) continue;
+
+                conn.openPipeline();
+                for (byte[] expiriesKey : expiriesKeys) {
+                    conn.setCommands().sAdd(codec.activeCellsKey(PresenceCodecs.shardOf(expiriesKey)), expiriesKey);
+                }
+                conn.closePipeline();
+                registered += expiriesKeys.size();
+            }
+            // 중간에 실패하면 표시를 남기지 않아 다음 배포에서 다시 등록 (sAdd라 중복 없음)
+            conn.stringCommands().set(ACTIVE_CELLS_REGISTERED_KEY, "1".getBytes(StandardCharsets.UTF_8));
+        }
+        log.info("active cells registered: {}", registered);
+    }
+
+    private void sweep(RedisConnection conn, int shard, long now) {
+        byte[] nowArg = String.valueOf(now).getBytes(StandardCharsets.UTF_8);
+        long removed = 0;
+
+        for (PresenceCodec codec : presenceCodecs.readers()) {
+            byte[] activeCellsKey = codec.activeCellsKey(shard);
+            Set<byte[]> expiriesKeys = conn.setCommands().sMembers(activeCellsKey);
+            if (expiriesKeys == null || expiriesKeys.isEmpty()) continue;
+
+            List<byte[][]> commands = new ArrayList<>(expiriesKeys.size());
+            for (byte[] expiriesKey : expiriesKeys) {
+                commands.add(new byte[][]{
+                        expiriesKey, codec.usersKeyOf(expiriesKey), activeCellsKey,
+                        codec.occupancyKey(), codec.onlineUsersKey(),
+                        nowArg, codec.cellValueOf(expiriesKey)
+                });
+            }
+            int[] numKeys = new int[commands.size()];
+            Arrays.fill(numKeys, SWEEP_NUM_KEYS);
+
+            // 셀마다 ZRANGEBYSCORE + SREM + ZREMRANGEBYSCORE (+ 인원 수 보정) 를 스크립트 한 번으로 처리
+            List<Object> results = script.executePipelined(conn, numKeys, commands);
+            for (Object result : results) {
+                List<?> values = (List<?>) result;
+                long count = ((Number) values.get(0)).longValue();
+                if (count == 0) continue;
+
+                long oldestExpireAt = ((Number) values.get(1)).longValue();
+                lagTimer.record(Math.max(now - oldestExpireAt, 0L), TimeUnit.MILLISECONDS);
+                removed += count;
+            }
+            sweptCellsCounter.increment(expiriesKeys.size());
+        }
+
+        removedCounter.increment(removed);
+        if (removed > 0) {
+            log.debug("sweep shard {}: {} expired locations removed", shard, removed);
+        }
+    }
+}
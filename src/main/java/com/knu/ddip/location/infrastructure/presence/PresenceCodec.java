@@ -0,0 +1,41 @@
+package com.knu.ddip.location.infrastructure.presence;
+
+import java.util.UUID;
+
+// 위치(presence) 데이터의 Redis key/member 인코딩 방식
+public interface PresenceCodec {
+
+    byte[] userKey(UUID userId);
+
+    byte[] cellUsersKey(String cellId);
+
+    byte[] cellExpiriesKey(String cellId);
+
+    // user key에 저장되는 현재 셀 값, lua 스크립트가 prefix + 값 + suffix로 이전 셀 key를 만듦
+    byte[] cellValue(String cellId);
+
+    // expiries key에서 셀 값 추출
+    byte[] cellValueOf(byte[] expiriesKey);
+
+    String decodeCellValue(byte[] cellValue);
+
+    byte[] usersKeyPrefix();
+
+    byte[] usersKeySuffix();
+
+    byte[] member(UUID userId);
+
+    UUID decodeMember(byte[] member);
+
+    String expiriesKeyPattern();
+
+    // 만료 sweeper가 순회할 활성 셀(expiries key) 목록, shard별 SET
+    byte[] activeCellsKey(int shard);
+
+    // 셀 값 -> 현재 인원 수 hash
+    byte[] occupancyKey();
+
+    byte[] onlineUsersKey();
+
+    byte[] usersKeyOf(byte[] expiriesKey);
+}
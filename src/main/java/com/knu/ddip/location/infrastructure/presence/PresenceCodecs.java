@@ -0,0 +1,104 @@
+package com.knu.ddip.location.infrastructure.presence;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+// location.presence.encoding 설정에 따라 쓰기/읽기 인코딩 선택
+// 전환 순서: string -> dual (TTL 이상 유지) -> binary
+@Slf4j
+@Component
+public class PresenceCodecs {
+
+    public static final PresenceCodec STRING = new StringPresenceCodec();
+    public static final PresenceCodec BINARY = new BinaryPresenceCodec();
+
+    public static final int ACTIVE_CELL_SHARDS = 8;
+
+    @Value("${location.presence.encoding:string}")
+    private String encoding;
+
+    private PresenceEncoding presenceEncoding;
+
+    @PostConstruct
+    public void init() {
+        presenceEncoding = PresenceEncoding.valueOf(encoding.trim().toUpperCase(Locale.ROOT));
+        log.info("location presence encoding: {}", presenceEncoding);
+    }
+
+    public PresenceEncoding encoding() {
+        return presenceEncoding;
+    }
+
+    public PresenceCodec writer() {
+        return presenceEncoding == PresenceEncoding.STRING ? STRING : BINARY;
+    }
+
+    public List<PresenceCodec> readers() {
+        return switch (presenceEncoding) {
+            case STRING -> List.of(STRING);
+            case DUAL -> List.of(BINARY, STRING);
+            case BINARY -> List.of(BINARY);
+        };
+    }
+
+    public static int shardOf(byte[] expiriesKey) {
+        return Math.floorMod(Arrays.hashCode(expiriesKey), ACTIVE_CELL_SHARDS);
+    }
+
+    public SaveUserLocationCommand saveUserLocationCommand(String newCellId, boolean cellIdNotInTargetArea, UUID userId,
+                                                           long ttlSeconds, long expireAt) {
+        PresenceCodec codec = writer();
+
+        byte[] expiriesKey = codec.cellExpiriesKey(newCellId);
+
+        List<byte[]> keys = new ArrayList<>(9);
+        keys.add(codec.userKey(userId));
+        keys.add(expiriesKey);
+        keys.add(codec.cellUsersKey(newCellId));
+        keys.add(codec.activeCellsKey(shardOf(expiriesKey)));
+        keys.add(codec.occupancyKey());
+        keys.add(codec.onlineUsersKey());
+
+        List<byte[]> args = new ArrayList<>(10);
+        args.add(codec.cellValue(newCellId));
+        args.add(codec.member(userId));
+        args.add(bytes(String.valueOf(ttlSeconds)));
+        args.add(bytes(String.valueOf(expireAt)));
+        args.add(bytes(cellIdNotInTargetArea ? "1" : "0"));
+        args.add(codec.usersKeyPrefix());
+        args.add(codec.usersKeySuffix());
+
+        if (presenceEncoding == PresenceEncoding.DUAL) {
+            // 전환 기간에는 이전 문자열 포맷에 남은 위치를 같이 지움
+            keys.add(STRING.userKey(userId));
+            keys.add(STRING.occupancyKey());
+            keys.add(STRING.onlineUsersKey());
+            args.add(STRING.member(userId));
+            args.add(STRING.usersKeyPrefix());
+            args.add(STRING.usersKeySuffix());
+        }
+
+        byte[][] keysAndArgs = new byte[keys.size() + args.size()][];
+        int i = 0;
+        for (byte[] key : keys) {
+            keysAndArgs[i++] = key;
+        }
+        for (byte[] arg : args) {
+            keysAndArgs[i++] = arg;
+        }
+        return new SaveUserLocationCommand(keys.size(), keysAndArgs);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
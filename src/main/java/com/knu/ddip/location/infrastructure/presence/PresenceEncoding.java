@@ -0,0 +1,10 @@
+package com.knu.ddip.location.infrastructure.presence;
+
+public enum PresenceEncoding {
+    // 기존 문자열 key + base64 member
+    STRING,
+    // 바이너리로 쓰고 바이너리/문자열 모두 읽음 (전환 기간용)
+    DUAL,
+    // 바이너리 key + 16바이트 UUID member
+    BINARY;
+}
@@ -0,0 +1,83 @@
+package com.knu.ddip.location.infrastructure.presence;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// 바이너리 key/인자로 lua 스크립트 실행 (EVALSHA 우선, 스크립트 캐시가 비었으면 다시 적재)
+public class PresenceScript {
+
+    private final byte[] scriptBody;
+    private final byte[] scriptSha;
+    private final ReturnType returnType;
+    private volatile boolean scriptLoaded;
+
+    public PresenceScript(String path, ReturnType returnType) {
+        DefaultRedisScript<String> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        this.scriptBody = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        this.scriptSha = script.getSha1().getBytes(StandardCharsets.UTF_8);
+        this.returnType = returnType;
+    }
+
+    public Object execute(RedisConnection conn, int numKeys, byte[]... keysAndArgs) {
+        try {
+            return conn.scriptingCommands().evalSha(scriptSha, returnType, numKeys, keysAndArgs);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            return conn.scriptingCommands().eval(scriptBody, returnType, numKeys, keysAndArgs);
+        }
+    }
+
+    // commands 각각은 numKeys개의 KEYS를 앞에 둔 keysAndArgs
+    public List<Object> executePipelined(RedisConnection conn, int[] numKeys, List<byte[][]> commands) {
+        if (!scriptLoaded) {
+            load(conn);
+        }
+        try {
+            return pipeline(conn, numKeys, commands);
+        } catch (RedisPipelineException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            // Redis 재시작 등으로 스크립트 캐시가 비워진 경우 다시 적재 후 한 번만 재시도
+            load(conn);
+            return pipeline(conn, numKeys, commands);
+        }
+    }
+
+    private List<Object> pipeline(RedisConnection conn, int[] numKeys, List<byte[][]> commands) {
+        conn.openPipeline();
+        for (int i = 0; i < commands.size(); i++) {
+            conn.scriptingCommands().evalSha(scriptSha, returnType, numKeys[i], commands.get(i));
+        }
+        return conn.closePipeline();
+    }
+
+    private void load(RedisConnection conn) {
+        conn.scriptingCommands().scriptLoad(scriptBody);
+        scriptLoaded = true;
+    }
+
+    private boolean isNoScript(RedisPipelineException e) {
+        return e.getPipelineResult().stream()
+                .anyMatch(result -> result instanceof Throwable t && isNoScript(t));
+    }
+
+    private boolean isNoScript(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (String.valueOf(t.getMessage()).contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
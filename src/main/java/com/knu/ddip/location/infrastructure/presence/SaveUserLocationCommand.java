@@ -0,0 +1,8 @@
+package com.knu.ddip.location.infrastructure.presence;
+
+// save_user_location.lua 호출 인자, keysAndArgs 앞 numKeys개가 KEYS
+public record SaveUserLocationCommand(
+        int numKeys,
+        byte[][] keysAndArgs
+) {
+}
@@ -0,0 +1,28 @@
+package com.knu.ddip.location.infrastructure.presence;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class SaveUserLocationScript {
+
+    public static final String SCRIPT_PATH = "luascript/save_user_location.lua";
+
+    private final PresenceScript script = new PresenceScript(SCRIPT_PATH, ReturnType.STATUS);
+
+    public void execute(RedisConnection conn, SaveUserLocationCommand command) {
+        script.execute(conn, command.numKeys(), command.keysAndArgs());
+    }
+
+    public void executePipelined(RedisConnection conn, List<SaveUserLocationCommand> commands) {
+        int[] numKeys = new int[commands.size()];
+        for (int i = 0; i < numKeys.length; i++) {
+            numKeys[i] = commands.get(i).numKeys();
+        }
+        script.executePipelined(conn, numKeys,
+                commands.stream().map(SaveUserLocationCommand::keysAndArgs).toList());
+    }
+}
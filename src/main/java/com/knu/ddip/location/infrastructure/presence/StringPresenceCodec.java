@@ -0,0 +1,100 @@
+package com.knu.ddip.location.infrastructure.presence;
+
+import com.knu.ddip.location.application.util.LocationKeyFactory;
+import com.knu.ddip.location.application.util.UuidBase64Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+// cell:{token}:users / cell:{token}:expiry / user:{base64} 형태의 기존 인코딩
+public class StringPresenceCodec implements PresenceCodec {
+
+    private static final byte[] USERS_KEY_PREFIX = bytes("cell:");
+    private static final byte[] USERS_KEY_SUFFIX = bytes(":users");
+    private static final byte[] EXPIRIES_KEY_SUFFIX = bytes(":expiry");
+    private static final byte[] OCCUPANCY_KEY = bytes("cell:occupancy");
+    private static final byte[] ONLINE_USERS_KEY = bytes("cell:online");
+
+    @Override
+    public byte[] userKey(UUID userId) {
+        return bytes(LocationKeyFactory.createUserIdKey(UuidBase64Utils.uuidToBase64String(userId)));
+    }
+
+    @Override
+    public byte[] cellUsersKey(String cellId) {
+        return bytes(LocationKeyFactory.createCellIdUsersKey(cellId));
+    }
+
+    @Override
+    public byte[] cellExpiriesKey(String cellId) {
+        return bytes(LocationKeyFactory.createCellIdExpiriesKey(cellId));
+    }
+
+    @Override
+    public byte[] cellValue(String cellId) {
+        return bytes(cellId);
+    }
+
+    @Override
+    public byte[] cellValueOf(byte[] expiriesKey) {
+        return Arrays.copyOfRange(expiriesKey, USERS_KEY_PREFIX.length, expiriesKey.length - EXPIRIES_KEY_SUFFIX.length);
+    }
+
+    @Override
+    public String decodeCellValue(byte[] cellValue) {
+        return new String(cellValue, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] usersKeyPrefix() {
+        return USERS_KEY_PREFIX;
+    }
+
+    @Override
+    public byte[] usersKeySuffix() {
+        return USERS_KEY_SUFFIX;
+    }
+
+    @Override
+    public byte[] member(UUID userId) {
+        return bytes(UuidBase64Utils.uuidToBase64String(userId));
+    }
+
+    @Override
+    public UUID decodeMember(byte[] member) {
+        return UuidBase64Utils.base64BytesToUuid(member);
+    }
+
+    @Override
+    public String expiriesKeyPattern() {
+        return "cell:*:expiry";
+    }
+
+    @Override
+    public byte[] activeCellsKey(int shard) {
+        return bytes("cell:active:" + shard);
+    }
+
+    @Override
+    public byte[] occupancyKey() {
+        return OCCUPANCY_KEY;
+    }
+
+    @Override
+    public byte[] onlineUsersKey() {
+        return ONLINE_USERS_KEY;
+    }
+
+    @Override
+    public byte[] usersKeyOf(byte[] expiriesKey) {
+        int baseLength = expiriesKey.length - EXPIRIES_KEY_SUFFIX.length;
+        byte[] usersKey = Arrays.copyOf(expiriesKey, baseLength + USERS_KEY_SUFFIX.length);
+        System.arraycopy(USERS_KEY_SUFFIX, 0, usersKey, baseLength, USERS_KEY_SUFFIX.length);
+        return usersKey;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
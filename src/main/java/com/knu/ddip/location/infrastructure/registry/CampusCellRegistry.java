@@ -0,0 +1,153 @@
+package com.knu.ddip.location.infrastructure.registry;
+
+import com.google.common.geometry.S2Cell;
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2LatLngRect;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+import static com.knu.ddip.location.application.util.S2Constants.MAX_NEIGHBOR_RADIUS;
+import static com.knu.ddip.location.application.util.S2Constants.ROLLUP_LEVELS;
+
+@Component
+public class CampusCellRegistry {
+
+    public static final long NONE = 0L;
+
+    private static final long[] EMPTY = new long[0];
+
+    // 셀 목록, 이웃 테이블, 상위 레벨 셀 목록을 한 번에 교체해서 읽기 쪽은 락 없이 조회
+    private volatile Snapshot snapshot = Snapshot.of(EMPTY);
+
+    public void replaceAll(Collection<String> tokens) {
+        long[] ids = new long[tokens.size()];
+        int size = 0;
+        for (String token : tokens) {
+            long id = toCellId(token);
+            if (id != NONE) {
+                ids[size++] = id;
+            }
+        }
+        Arrays.sort(ids, 0, size);
+        this.snapshot = Snapshot.of(distinct(ids, size));
+    }
+
+    public boolean contains(long cellId) {
+        return snapshot.table().indexOf(cellId) >= 0;
+    }
+
+    // ROLLUP_LEVELS 중 하나의 레벨 셀이 경북대 셀을 하나라도 포함하는지
+    public boolean containsAtLevel(long cellId) {
+        if (cellId == NONE) {
+            return false;
+        }
+        int index = rollupIndexOf(new S2CellId(cellId).level());
+        return index >= 0 && Arrays.binarySearch(snapshot.rollups()[index], cellId) >= 0;
+    }
+
+    // 커버링 셀 하나가 덮는 [rangeMin, rangeMax] 구간의 경북대 셀 수
+    public int countInRange(long rangeMin, long rangeMax) {
+        return snapshot.table().countInRange(rangeMin, rangeMax);
+    }
+
+    public void forEachTokenInRange(long rangeMin, long rangeMax, Consumer<String> action) {
+        snapshot.table().forEachTokenInRange(rangeMin, rangeMax, action);
+    }
+
+    // 경북대 셀 전체를 감싸는 영역
+    public S2LatLngRect bounds() {
+        return snapshot.bounds();
+    }
+
+    public boolean contains(String token) {
+        long cellId = toCellId(token);
+        return cellId != NONE && contains(cellId);
+    }
+
+    public int size() {
+        return snapshot.table().size();
+    }
+
+    public boolean isEmpty() {
+        return snapshot.table().size() == 0;
+    }
+
+    // 반경 radius 이내의 경북대 내부 이웃 셀 (자기 자신 제외)
+    public int neighborCount(String token, int radius) {
+        return snapshot.table().neighborCount(toCellId(token), radius);
+    }
+
+    public void forEachNeighborToken(String token, int radius, Consumer<String> action) {
+        snapshot.table().forEachNeighborToken(toCellId(token), radius, action);
+    }
+
+    // S2CellId.fromToken과 동일한 규칙, 잘못된 토큰은 예외 대신 NONE 반환
+    public static long toCellId(String token) {
+        if (token == null) {
+            return NONE;
+        }
+        int length = token.length();
+        if (length == 0 || length > 16) {
+            return NONE;
+        }
+        long value = 0L;
+        for (int i = 0; i < length; i++) {
+            int digit = Character.digit(token.charAt(i), 16);
+            if (digit < 0) {
+                return NONE;
+            }
+            value = (value << 4) | digit;
+        }
+        return length == 16 ? value : value << (4 * (16 - length));
+    }
+
+    private static int rollupIndexOf(int level) {
+        for (int i = 0; i < ROLLUP_LEVELS.length; i++) {
+            if (ROLLUP_LEVELS[i] == level) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long[] distinct(long[] sorted, int size) {
+        if (size == 0) {
+            return EMPTY;
+        }
+        int unique = 1;
+        for (int i = 1; i < size; i++) {
+            if (sorted[i] != sorted[unique - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, unique);
+    }
+
+    private record Snapshot(CellAdjacencyTable table, long[][] rollups, S2LatLngRect bounds) {
+
+        static Snapshot of(long[] sortedCellIds) {
+            long[][] rollups = new long[ROLLUP_LEVELS.length][];
+            for (int i = 0; i < ROLLUP_LEVELS.length; i++) {
+                long[] parents = new long[sortedCellIds.length];
+                int size = 0;
+                for (long cellId : sortedCellIds) {
+                    S2CellId cell = new S2CellId(cellId);
+                    if (cell.level() >= ROLLUP_LEVELS[i]) {
+                        parents[size++] = cell.parent(ROLLUP_LEVELS[i]).id();
+                    }
+                }
+                Arrays.sort(parents, 0, size);
+                rollups[i] = distinct(parents, size);
+            }
+
+            S2LatLngRect bounds = S2LatLngRect.empty();
+            for (long cellId : sortedCellIds) {
+                bounds = bounds.union(new S2Cell(new S2CellId(cellId)).getRectBound());
+            }
+            return new Snapshot(CellAdjacencyTable.build(sortedCellIds, MAX_NEIGHBOR_RADIUS), rollups, bounds);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.knu.ddip.location.infrastructure.registry;
+
+import com.google.common.geometry.S2CellId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+// 경북대 셀 id(정렬) + 반경별 이웃 셀 목록을 CSR 형태로 보관하는 불변 테이블
+// neighbors[r - 1][offsets[r - 1][i] .. offsets[r - 1][i + 1]) 가 i번째 셀의 반경 r 이내 이웃
+public final class CellAdjacencyTable {
+
+    private final long[] cellIds;
+    private final String[] tokens;
+    private final int[][] offsets;
+    private final long[][] neighbors;
+
+    private CellAdjacencyTable(long[] cellIds, String[] tokens, int[][] offsets, long[][] neighbors) {
+        this.cellIds = cellIds;
+        this.tokens = tokens;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+    }
+
+    // sortedCellIds는 정렬, 중복 제거된 상태여야 함
+    static CellAdjacencyTable build(long[] sortedCellIds, int maxRadius) {
+        int n = sortedCellIds.length;
+
+        String[] tokens = new String[n];
+        for (int i = 0; i < n; i++) {
+            tokens[i] = new S2CellId(sortedCellIds[i]).toToken();
+        }
+
+        int[][] offsets = new int[maxRadius][n + 1];
+        long[][] neighbors = new long[maxRadius][];
+        long[][] buffers = new long[maxRadius][];
+        int[] sizes = new int[maxRadius];
+        for (int r = 0; r < maxRadius; r++) {
+            buffers[r] = new long[Math.max(n * 8 * (r + 1), 1)];
+        }
+
+        List<S2CellId> scratch = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            S2CellId cell = new S2CellId(sortedCellIds[i]);
+            int level = cell.level();
+
+            Set<S2CellId> visited = new HashSet<>();
+            visited.add(cell);
+            List<S2CellId> frontier = List.of(cell);
+
+            for (int r = 0; r < maxRadius; r++) {
+                // 캠퍼스 밖 셀을 거쳐서 닿는 셀도 반경 안이므로 확장은 필터 없이 진행
+                List<S2CellId> next = new ArrayList<>();
+                for (S2CellId f : frontier) {
+                    scratch.clear();
+                    f.getAllNeighbors(level, scratch);
+                    for (S2CellId neighbor : scratch) {
+                        if (visited.add(neighbor)) {
+                            next.add(neighbor);
+                        }
+                    }
+                }
+                frontier = next;
+
+                offsets[r][i] = sizes[r];
+                long[] inArea = new long[visited.size()];
+                int count = 0;
+                for (S2CellId v : visited) {
+                    long id = v.id();
+                    if (id != cell.id() && Arrays.binarySearch(sortedCellIds, id) >= 0) {
+                        inArea[count++] = id;
+                    }
+                }
+                Arrays.sort(inArea, 0, count);
+
+                if (sizes[r] + count > buffers[r].length) {
+                    buffers[r] = Arrays.copyOf(buffers[r], Math.max(buffers[r].length * 2, sizes[r] + count));
+                }
+                System.arraycopy(inArea, 0, buffers[r], sizes[r], count);
+                sizes[r] += count;
+            }
+        }
+
+        for (int r = 0; r < maxRadius; r++) {
+            offsets[r][n] = sizes[r];
+            neighbors[r] = Arrays.copyOf(buffers[r], sizes[r]);
+        }
+        return new CellAdjacencyTable(sortedCellIds, tokens, offsets, neighbors);
+    }
+
+    public int indexOf(long cellId) {
+        return Arrays.binarySearch(cellIds, cellId);
+    }
+
+    public int size() {
+        return cellIds.length;
+    }
+
+    public int maxRadius() {
+        return offsets.length;
+    }
+
+    // [rangeMin, rangeMax] 구간에 속하는 셀 수, 정렬된 id 배열에서 이진 탐색 두 번으로 계산
+    public int countInRange(long rangeMin, long rangeMax) {
+        return upperBound(rangeMax) - lowerBound(rangeMin);
+    }
+
+    public void forEachTokenInRange(long rangeMin, long rangeMax, Consumer<String> action) {
+        int end = upperBound(rangeMax);
+        for (int i = lowerBound(rangeMin); i < end; i++) {
+            action.accept(tokens[i]);
+        }
+    }
+
+    public String tokenOf(long cellId) {
+        int index = indexOf(cellId);
+        return index >= 0 ? tokens[index] : null;
+    }
+
+    public int neighborCount(long cellId, int radius) {
+        checkRadius(radius);
+        int index = indexOf(cellId);
+        if (index < 0) {
+            return 0;
+        }
+        int[] offset = offsets[radius - 1];
+        return offset[index + 1] - offset[index];
+    }
+
+    public void forEachNeighbor(long cellId, int radius, LongConsumer action) {
+        checkRadius(radius);
+        int index = indexOf(cellId);
+        if (index < 0) {
+            return;
+        }
+        int[] offset = offsets[radius - 1];
+        long[] slice = neighbors[radius - 1];
+        for (int i = offset[index]; i < offset[index + 1]; i++) {
+            action.accept(slice[i]);
+        }
+    }
+
+    public void forEachNeighborToken(long cellId, int radius, Consumer<String> action) {
+        checkRadius(radius);
+        int index = indexOf(cellId);
+        if (index < 0) {
+            return;
+        }
+        int[] offset = offsets[radius - 1];
+        long[] slice = neighbors[radius - 1];
+        for (int i = offset[index]; i < offset[index + 1]; i++) {
+            action.accept(tokens[indexOf(slice[i])]);
+        }
+    }
+
+    // 한 셀의 range는 같은 face 안에 있어서 signed 정렬 순서로 이진 탐색해도 unsigned 순서와 같음
+    // cellId 이상인 첫 위치
+    private int lowerBound(long cellId) {
+        int low = 0;
+        int high = cellIds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cellIds[mid] < cellId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // cellId 보다 큰 첫 위치
+    private int upperBound(long cellId) {
+        int low = 0;
+        int high = cellIds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cellIds[mid] <= cellId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void checkRadius(int radius) {
+        if (radius < 1 || radius > offsets.length) {
+            throw new IllegalArgumentException("지원하지 않는 이웃 반경입니다: " + radius);
+        }
+    }
+}
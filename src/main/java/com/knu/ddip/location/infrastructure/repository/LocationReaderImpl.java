@@ -1,9 +1,15 @@
 package com.knu.ddip.location.infrastructure.repository;
 
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2CellUnion;
+import com.google.common.geometry.S2LatLngRect;
+import com.google.common.geometry.S2RegionCoverer;
 import com.knu.ddip.location.application.service.LocationReader;
-import com.knu.ddip.location.application.util.LocationKeyFactory;
 import com.knu.ddip.location.exception.LocationNotFoundException;
 import com.knu.ddip.location.infrastructure.entity.LocationEntity;
+import com.knu.ddip.location.infrastructure.presence.PresenceCodec;
+import com.knu.ddip.location.infrastructure.presence.PresenceCodecs;
+import com.knu.ddip.location.infrastructure.registry.CampusCellRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -11,63 +17,218 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static com.knu.ddip.location.application.util.LocationKeyFactory.CAMPUS_CELLS_HASH_KEY;
+import static com.knu.ddip.location.application.util.S2Constants.LEVEL;
+
 @Repository
 @RequiredArgsConstructor
 public class LocationReaderImpl implements LocationReader {
 
     private final LocationJpaRepository locationJpaRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final CampusCellRegistry campusCellRegistry;
+    private final PresenceCodecs presenceCodecs;
 
     @Override
     public void validateLocationByCellId(String cellId) {
-        locationJpaRepository.findById(cellId)
-                .orElseThrow(() -> new LocationNotFoundException("위치를 찾을 수 없습니다."));
+        if (!campusCellRegistry.contains(cellId)) {
+            throw new LocationNotFoundException("위치를 찾을 수 없습니다.");
+        }
     }
 
     @Override
     public List<String> findAllLocationsByCellIdIn(List<String> cellIds) {
-        return locationJpaRepository.findAllByCellIdIn(cellIds).stream()
-                .map(LocationEntity::getCellId)
-                .collect(Collectors.toList());
+        List<String> result = new ArrayList<>(cellIds.size() + 1);
+        for (String cellId : cellIds) {
+            if (campusCellRegistry.contains(cellId)) {
+                result.add(cellId);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<String> findNeighborCellIdsInTargetArea(String cellId, int radius) {
+        List<String> result = new ArrayList<>(campusCellRegistry.neighborCount(cellId, radius) + 1);
+        campusCellRegistry.forEachNeighborToken(cellId, radius, result::add);
+        return result;
     }
 
     @Override
-    public List<String> findUserIdsByCellIds(List<String> targetCellIds) {
+    public List<String> findCampusCellIdsInRect(S2LatLngRect rect, int level) {
+        // 경북대 영역 밖은 잘라내서 화면이 아무리 넓어도 커버링 크기가 일정 이하로 유지됨
+        S2LatLngRect clipped = rect.intersection(campusCellRegistry.bounds());
+        if (clipped.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        S2RegionCoverer coverer = S2RegionCoverer.builder()
+                .setMinLevel(level)
+                .setMaxLevel(level)
+                .build();
+
+        if (level != LEVEL) {
+            // 집계 레벨 셀은 수가 적어서 커버링 셀마다 상위 레벨 셀 목록을 직접 확인
+            ArrayList<S2CellId> covering = new ArrayList<>();
+            coverer.getCovering(clipped, covering);
+
+            List<String> result = new ArrayList<>();
+            for (S2CellId cellId : covering) {
+                if (campusCellRegistry.containsAtLevel(cellId.id())) {
+                    result.add(cellId.toToken());
+                }
+            }
+            return result;
+        }
+
+        // 정규화된 union은 형제 셀 4개를 부모 셀 하나로 합치므로 level보다 큰 셀이 섞여 있음
+        // 자식 셀로 펼치지 않고 각 셀의 id 구간 [rangeMin, rangeMax]에 속하는 경북대 셀만 이진 탐색으로 찾음
+        S2CellUnion union = new S2CellUnion();
+        coverer.getCovering(clipped, union);
+
+        int count = 0;
+        for (S2CellId cellId : union.cellIds()) {
+            count += campusCellRegistry.countInRange(rangeMin(cellId), rangeMax(cellId));
+        }
+
+        List<String> result = new ArrayList<>(count);
+        for (S2CellId cellId : union.cellIds()) {
+            campusCellRegistry.forEachTokenInRange(rangeMin(cellId), rangeMax(cellId), result::add);
+        }
+        return result;
+    }
+
+    @Override
+    public List<UUID> findUserIdsByCellIds(List<String> targetCellIds) {
         RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
 
         if (connectionFactory == null) return null; // throw xxx
 
+        List<PresenceCodec> codecs = presenceCodecs.readers();
+
         try (RedisConnection conn = connectionFactory.getConnection()) {
             conn.openPipeline();
 
-            List<byte[]> keys = targetCellIds.stream()
-                    .map(LocationKeyFactory::createCellIdUsersKey) // "cell:{id}:users" 형태
-                    .map(k -> k.getBytes(StandardCharsets.UTF_8))
-                    .collect(Collectors.toList());
+            for (PresenceCodec codec : codecs) {
+                for (String cellId : targetCellIds) {
+                    conn.sMembers(codec.cellUsersKey(cellId));
+                }
+            }
+
+            List<Object> rawResults = conn.closePipeline();
+
+            // 결과는 codec 순서 x cellId 순서로 들어옴, member는 String 변환 없이 바로 UUID로 디코딩
+            Set<UUID> userIds = new LinkedHashSet<>();
+            for (int i = 0; i < rawResults.size(); i++) {
+                Set<byte[]> members = (Set<byte[]>) rawResults.get(i);
+                if (members == null) continue;
 
-            for (byte[] key : keys) {
-                conn.sMembers(key);
+                PresenceCodec codec = codecs.get(i / targetCellIds.size());
+                for (byte[] member : members) {
+                    userIds.add(codec.decodeMember(member));
+                }
             }
+            return new ArrayList<>(userIds);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> findAllCellOccupancies() {
+        List<PresenceCodec> codecs = presenceCodecs.readers();
 
+        try (RedisConnection conn = redisTemplate.getConnectionFactory().getConnection()) {
+            conn.openPipeline();
+            for (PresenceCodec codec : codecs) {
+                conn.hashCommands().hGetAll(codec.occupancyKey());
+            }
             List<Object> rawResults = conn.closePipeline();
 
-            return rawResults.stream()
-                    .map(result -> (Set<byte[]>) result)
-                    .filter(Objects::nonNull)
-                    .flatMap(set -> set.stream()
-                            .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
-                    )
-                    .collect(Collectors.toList());
+            Map<String, Integer> occupancies = new HashMap<>();
+            for (int i = 0; i < rawResults.size(); i++) {
+                Map<byte[], byte[]> entries = (Map<byte[], byte[]>) rawResults.get(i);
+                if (entries == null) continue;
+
+                PresenceCodec codec = codecs.get(i);
+                entries.forEach((cellValue, count) -> occupancies.merge(
+                        codec.decodeCellValue(cellValue), parseCount(count), Integer::sum));
+            }
+            return occupancies;
+        }
+    }
+
+    @Override
+    public int countUsersByCellId(String cellId) {
+        int count = 0;
+        try (RedisConnection conn = redisTemplate.getConnectionFactory().getConnection()) {
+            for (PresenceCodec codec : presenceCodecs.readers()) {
+                count += parseCount(conn.hashCommands().hGet(codec.occupancyKey(), codec.cellValue(cellId)));
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long countOnlineUsers() {
+        byte[][] keys = presenceCodecs.readers().stream()
+                .map(PresenceCodec::onlineUsersKey)
+                .toArray(byte[][]::new);
+
+        try (RedisConnection conn = redisTemplate.getConnectionFactory().getConnection()) {
+            List<byte[]> values = conn.stringCommands().mGet(keys);
+            if (values == null) return 0L;
+
+            long count = 0L;
+            for (byte[] value : values) {
+                count += parseCount(value);
+            }
+            return count;
         }
     }
 
     @Override
     public boolean isCellIdNotInTargetArea(String cellId) {
-        return locationJpaRepository.findById(cellId).isEmpty();
+        return !campusCellRegistry.contains(cellId);
+    }
+
+    @Override
+    public List<String> findAllCellIds() {
+        return locationJpaRepository.findAll().stream()
+                .map(LocationEntity::getCellId)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countAllCells() {
+        return locationJpaRepository.count();
+    }
+
+    @Override
+    public String findCampusCellsHash() {
+        return redisTemplate.opsForValue().get(CAMPUS_CELLS_HASH_KEY);
+    }
+
+    // S2CellId.rangeMin/rangeMax와 같은 값, S2CellId 객체를 만들지 않음
+    private static long rangeMin(S2CellId cellId) {
+        long id = cellId.id();
+        return id - ((id & -id) - 1);
+    }
+
+    private static long rangeMax(S2CellId cellId) {
+        long id = cellId.id();
+        return id + ((id & -id) - 1);
+    }
+
+    private int parseCount(byte[] value) {
+        if (value == null) return 0;
+        return Math.max(Integer.parseInt(new String(value, StandardCharsets.UTF_8)), 0);
     }
 }
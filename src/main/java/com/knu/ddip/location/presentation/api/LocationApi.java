@@ -3,11 +3,16 @@ package com.knu.ddip.location.presentation.api;
 import com.knu.ddip.auth.domain.AuthUser;
 import com.knu.ddip.auth.presentation.annotation.Login;
 import com.knu.ddip.auth.presentation.annotation.RequireAuth;
+import com.knu.ddip.location.application.dto.CellHeatmapResponse;
 import com.knu.ddip.location.application.dto.UpdateMyLocationRequest;
+import com.knu.ddip.location.application.dto.ViewportCellsResponse;
+import com.knu.ddip.location.application.dto.ViewportRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -24,4 +29,21 @@ public interface LocationApi {
             @Parameter(hidden = true) @Login AuthUser user,
             @RequestBody UpdateMyLocationRequest request
     );
+
+    @GetMapping("/heatmap")
+    @RequireAuth
+    @Operation(summary = "셀별 현재 인원 조회",
+            description = "경북대 내부 셀별 현재 인원 수와 전체 인원 수를 조회한다.")
+    ResponseEntity<CellHeatmapResponse> getHeatmap(
+            @Parameter(hidden = true) @Login AuthUser user
+    );
+
+    @GetMapping("/cells")
+    @RequireAuth
+    @Operation(summary = "화면 범위 셀 집계 조회",
+            description = "화면 범위에 맞는 레벨(13/15/17)의 셀별 현재 인원 수와 OPEN 띱 수를 조회한다.")
+    ResponseEntity<ViewportCellsResponse> getViewportCells(
+            @Parameter(hidden = true) @Login AuthUser user,
+            @ModelAttribute ViewportRequest request
+    );
 }
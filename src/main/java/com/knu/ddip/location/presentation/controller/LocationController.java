@@ -2,7 +2,11 @@ package com.knu.ddip.location.presentation.controller;
 
 import com.knu.ddip.auth.domain.AuthUser;
 import com.knu.ddip.auth.presentation.annotation.RequireAuth;
+import com.knu.ddip.location.application.dto.CellHeatmapResponse;
 import com.knu.ddip.location.application.dto.UpdateMyLocationRequest;
+import com.knu.ddip.location.application.dto.ViewportCellsResponse;
+import com.knu.ddip.location.application.dto.ViewportRequest;
+import com.knu.ddip.location.application.service.CellStatusService;
 import com.knu.ddip.location.application.service.LocationService;
 import com.knu.ddip.location.presentation.api.LocationApi;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class LocationController implements LocationApi {
 
     private final LocationService locationService;
+    private final CellStatusService cellStatusService;
 
     @Override
     @RequireAuth
@@ -21,4 +26,18 @@ public class LocationController implements LocationApi {
         locationService.saveUserLocationAtomic(user.getId(), request);
         return ResponseEntity.ok().build();
     }
+
+    @Override
+    @RequireAuth
+    public ResponseEntity<CellHeatmapResponse> getHeatmap(AuthUser user) {
+        CellHeatmapResponse response = cellStatusService.getHeatmap();
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    @RequireAuth
+    public ResponseEntity<ViewportCellsResponse> getViewportCells(AuthUser user, ViewportRequest request) {
+        ViewportCellsResponse response = cellStatusService.getViewportCells(request);
+        return ResponseEntity.ok(response);
+    }
 }
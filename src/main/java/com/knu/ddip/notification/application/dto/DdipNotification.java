@@ -0,0 +1,18 @@
+package com.knu.ddip.notification.application.dto;
+
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+
+import java.util.UUID;
+
+// 근처 유저에게 보내는 새 띱 알림 내용
+public record DdipNotification(
+        UUID ddipEventId,
+        String title,
+        Integer reward,
+        Double latitude,
+        Double longitude
+) {
+    public static DdipNotification from(DdipEventSummary summary) {
+        return new DdipNotification(summary.id(), summary.title(), summary.reward(), summary.latitude(), summary.longitude());
+    }
+}
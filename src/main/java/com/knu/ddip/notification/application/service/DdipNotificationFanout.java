@@ -0,0 +1,160 @@
+package com.knu.ddip.notification.application.service;
+
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.event.DdipChangeType;
+import com.knu.ddip.ddipevent.application.event.DdipChangedEvent;
+import com.knu.ddip.location.application.service.LocationService;
+import com.knu.ddip.location.exception.LocationNotFoundException;
+import com.knu.ddip.notification.application.dto.DdipNotification;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 띱 생성이 커밋된 뒤 근처 유저에게 알림을 보냄, 생성 요청 스레드는 작업을 넘기기만 하고 바로 반환
+// 수신자 조회(Redis)와 배치 전송은 가상 스레드에서 진행하고, 동시에 전송 중인 배치 수를 제한해서 채널에 몰리지 않게 함
+// 밀린 팬아웃이 maxPending을 넘으면 새 팬아웃은 버림 (생성 지연이 수신자 수나 전송 채널 상태에 영향받지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DdipNotificationFanout {
+
+    private final LocationService locationService;
+    private final NotificationSender notificationSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.fanout.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${notification.fanout.max-in-flight-batches:16}")
+    private int maxInFlightBatches = 16;
+
+    @Value("${notification.fanout.max-pending:1000}")
+    private int maxPending = 1000;
+
+    @Value("${notification.fanout.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${notification.fanout.backoff-ms:100}")
+    private long backoffMs = 100;
+
+    private ExecutorService executor;
+    private Semaphore pendingFanouts;
+    private Semaphore inFlightBatches;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ddip-notification-", 0).factory());
+        pendingFanouts = new Semaphore(maxPending);
+        inFlightBatches = new Semaphore(maxInFlightBatches);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onDdipChanged(DdipChangedEvent event) {
+        if (event.type() != DdipChangeType.CREATED) {
+            return;
+        }
+        if (!pendingFanouts.tryAcquire()) {
+            meterRegistry.counter("notification.fanout.rejected").increment();
+            log.warn("ddip notification fan-out rejected: {}", event.ddipEventId());
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    fanOut(event.summary());
+                } catch (Exception e) {
+                    log.error("ddip notification fan-out error: {}", event.ddipEventId(), e);
+                } finally {
+                    pendingFanouts.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingFanouts.release();
+            meterRegistry.counter("notification.fanout.rejected").increment();
+        }
+    }
+
+    // 수신자를 batchSize 단위로 나눠 전송, 전송 중인 배치가 가득 차면 빈자리가 날 때까지 이 가상 스레드만 대기
+    void fanOut(DdipEventSummary summary) throws InterruptedException {
+        List<UUID> recipientIds;
+        try {
+            recipientIds = locationService.getNeighborRecipientUserIds(summary.requesterId(), summary.latitude(), summary.longitude());
+        } catch (LocationNotFoundException e) {
+            // 경북대 밖에서 생성된 띱은 알림 대상 없음
+            meterRegistry.counter("notification.fanout.skipped").increment();
+            return;
+        }
+        meterRegistry.counter("notification.fanout.started").increment();
+        meterRegistry.summary("notification.fanout.recipients").record(recipientIds.size());
+
+        DdipNotification notification = DdipNotification.from(summary);
+        for (int from = 0; from < recipientIds.size(); from += batchSize) {
+            List<UUID> batch = List.copyOf(recipientIds.subList(from, Math.min(from + batchSize, recipientIds.size())));
+            inFlightBatches.acquire();
+            try {
+                executor.execute(() -> {
+                    try {
+                        sendWithRetry(batch, notification);
+                    } finally {
+                        inFlightBatches.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlightBatches.release();
+                meterRegistry.counter("notification.batch.failed").increment();
+            }
+        }
+    }
+
+    private void sendWithRetry(List<UUID> batch, DdipNotification notification) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    notificationSender.send(batch, notification);
+                    meterRegistry.counter("notification.batch.sent").increment();
+                    meterRegistry.counter("notification.recipients.sent").increment(batch.size());
+                    return;
+                } catch (Exception e) {
+                    if (attempt >= maxAttempts) {
+                        meterRegistry.counter("notification.batch.failed").increment();
+                        log.warn("ddip notification batch dropped after {} attempts: {} recipients of {}",
+                                attempt, batch.size(), notification.ddipEventId(), e);
+                        return;
+                    }
+                    meterRegistry.counter("notification.batch.retry").increment();
+                    Thread.sleep(backoffMs << (attempt - 1));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            meterRegistry.counter("notification.batch.failed").increment();
+        } finally {
+            sample.stop(meterRegistry.timer("notification.batch"));
+        }
+    }
+}
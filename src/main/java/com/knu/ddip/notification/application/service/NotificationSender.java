@@ -0,0 +1,11 @@
+package com.knu.ddip.notification.application.service;
+
+import com.knu.ddip.notification.application.dto.DdipNotification;
+
+import java.util.List;
+import java.util.UUID;
+
+// 알림 전송 채널 (푸시, 웹소켓 등), 배치 단위로 호출되고 실패하면 예외를 던져 재시도 대상이 됨
+public interface NotificationSender {
+    void send(List<UUID> recipientIds, DdipNotification notification);
+}
@@ -0,0 +1,20 @@
+package com.knu.ddip.notification.infrastructure.sender;
+
+import com.knu.ddip.notification.application.dto.DdipNotification;
+import com.knu.ddip.notification.application.service.NotificationSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+// 실제 푸시 채널을 붙이기 전까지 쓰는 기본 구현, 전송 대상만 로그로 남김
+@Slf4j
+@Component
+public class LoggingNotificationSender implements NotificationSender {
+
+    @Override
+    public void send(List<UUID> recipientIds, DdipNotification notification) {
+        log.debug("ddip notification {} -> {} recipients", notification.ddipEventId(), recipientIds.size());
+    }
+}
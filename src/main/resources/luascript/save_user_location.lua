@@ -2,29 +2,70 @@
 -- [1] userIdKey
 -- [2] cellIdExpiriesKey
 -- [3] cellIdUsersKey
+-- [4] activeCellsKey
+-- [5] occupancyKey
+-- [6] onlineUsersKey
+-- [7] legacyUserIdKey (dual 인코딩일 때만)
+-- [8] legacyOccupancyKey (dual 인코딩일 때만)
+-- [9] legacyOnlineUsersKey (dual 인코딩일 때만)
 
 -- ARGV:
 -- [1] newCellId
 -- [2] encodedUserId
 -- [3] TTL_SECONDS
 -- [4] expireAt
+-- [5] cellIdNotInTargetAreaFlag
+-- [6] usersKeyPrefix
+-- [7] usersKeySuffix
+-- [8] legacyEncodedUserId (dual 인코딩일 때만)
+-- [9] legacyUsersKeyPrefix (dual 인코딩일 때만)
+-- [10] legacyUsersKeySuffix (dual 인코딩일 때만)
 
 local newCellId = ARGV[1]
 local encodedUserId = ARGV[2]
 local ttl_seconds = tonumber(ARGV[3])
 local expireAt = tonumber(ARGV[4])
 local cellIdNotInTargetAreaFlag = tonumber(ARGV[5])
+local usersKeyPrefix = ARGV[6]
+local usersKeySuffix = ARGV[7]
+
+-- 셀별 인원 수(hash)와 전체 접속 인원 수 갱신
+local function changeOccupancy(occupancyKey, onlineUsersKey, cellId, delta)
+    local count = redis.call('HINCRBY', occupancyKey, cellId, delta)
+    if count <= 0 then
+        redis.call('HDEL', occupancyKey, cellId)
+    end
+    redis.call('INCRBY', onlineUsersKey, delta)
+end
+
+if KEYS[7] then
+    local legacyCellId = redis.call('GET', KEYS[7])
+    if legacyCellId then
+        if redis.call('SREM', ARGV[9] .. legacyCellId .. ARGV[10], ARGV[8]) == 1 then
+            changeOccupancy(KEYS[8], KEYS[9], legacyCellId, -1)
+        end
+        redis.call('DEL', KEYS[7])
+    end
+end
 
 local prevCellId = redis.call('GET', KEYS[1])
 
 if prevCellId then
     if prevCellId == newCellId then
-        redis.call('EXPIRE', KEYS[2], ttl_seconds)
+        -- 같은 셀에 머무는 동안에는 만료 시각만 연장 (sweeper에 지워지지 않도록)
+        redis.call('EXPIRE', KEYS[1], ttl_seconds)
+        if redis.call('SADD', KEYS[3], encodedUserId) == 1 then
+            changeOccupancy(KEYS[5], KEYS[6], newCellId, 1)
+        end
+        redis.call('ZADD', KEYS[2], expireAt, encodedUserId)
+        redis.call('SADD', KEYS[4], KEYS[2])
         return
     end
 
-    local oldUsersKey = "cell:" .. prevCellId .. ":users"
-    redis.call('SREM', oldUsersKey, encodedUserId)
+    local oldUsersKey = usersKeyPrefix .. prevCellId .. usersKeySuffix
+    if redis.call('SREM', oldUsersKey, encodedUserId) == 1 then
+        changeOccupancy(KEYS[5], KEYS[6], prevCellId, -1)
+    end
 end
 
 if cellIdNotInTargetAreaFlag == 1 then
@@ -33,6 +74,10 @@ end
 
 redis.call('SET', KEYS[1], newCellId, 'EX', ttl_seconds)
 
-redis.call('SADD', KEYS[3], encodedUserId)
+if redis.call('SADD', KEYS[3], encodedUserId) == 1 then
+    changeOccupancy(KEYS[5], KEYS[6], newCellId, 1)
+end
+
+redis.call('ZADD', KEYS[2], expireAt, encodedUserId)
 
-redis.call('ZADD', KEYS[2], expireAt, encodedUserId)
\ No newline at end of file
+redis.call('SADD', KEYS[4], KEYS[2])
@@ -0,0 +1,54 @@
+-- KEYS:
+-- [1] cellIdExpiriesKey
+-- [2] cellIdUsersKey
+-- [3] activeCellsKey
+-- [4] occupancyKey
+-- [5] onlineUsersKey
+
+-- ARGV:
+-- [1] now
+-- [2] cellId
+
+-- return: { 제거한 멤버 수, 가장 오래된 만료 시각 }
+
+local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES')
+local removed = #expired / 2
+local oldestExpireAt = 0
+
+if removed > 0 then
+    oldestExpireAt = tonumber(expired[2])
+
+    -- unpack 인자 수 제한 때문에 나눠서 SREM
+    local members = {}
+    for i = 1, #expired, 2 do
+        members[#members + 1] = expired[i]
+        if #members == 500 then
+            redis.call('SREM', KEYS[2], unpack(members))
+            members = {}
+        end
+    end
+    if #members > 0 then
+        redis.call('SREM', KEYS[2], unpack(members))
+    end
+
+    redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+end
+
+-- 셀 인원 수를 실제 SET 크기로 맞춤 (저장 스크립트의 증감이 어긋났어도 여기서 보정)
+local count = redis.call('SCARD', KEYS[2])
+local prevCount = tonumber(redis.call('HGET', KEYS[4], ARGV[2]) or '0')
+if count ~= prevCount then
+    if count == 0 then
+        redis.call('HDEL', KEYS[4], ARGV[2])
+    else
+        redis.call('HSET', KEYS[4], ARGV[2], count)
+    end
+    redis.call('INCRBY', KEYS[5], count - prevCount)
+end
+
+-- 남은 멤버가 없으면 활성 셀 목록에서 제외, 다음 위치 저장 시 다시 등록됨
+if redis.call('ZCARD', KEYS[1]) == 0 then
+    redis.call('SREM', KEYS[3], KEYS[1])
+end
+
+return { removed, oldestExpireAt }
@@ -0,0 +1,6 @@
+INSERT INTO ddip_interaction (id, ddip_event_id, actor_id, actor_role, action_type, content, related_photo_id, timestamp)
+SELECT i.id, i.ddip_event_id, i.actor_id, i.actor_role, i.action_type, i.content, i.related_photo_id, i.timestamp
+FROM interaction i
+WHERE i.ddip_event_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM ddip_interaction d WHERE d.id = i.id)
+ORDER BY i.timestamp, i.id
@@ -0,0 +1,79 @@
+package com.knu.ddip.common.file.infrastructure;
+
+import com.knu.ddip.common.file.FileStorageException;
+import com.knu.ddip.common.file.PresignedUpload;
+import com.knu.ddip.common.file.StoredFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalFileStorageServiceTest {
+
+    @TempDir
+    private Path rootDir;
+
+    private LocalFileStorageService localFileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        localFileStorageService = new LocalFileStorageService(rootDir.toString());
+    }
+
+    @DisplayName("업로드 URL에 쓴 파일은 key로 조회 가능")
+    @Test
+    void givenPresignedUpload_whenWriteFile_thenFindFileReturnsIt() throws Exception {
+        // given
+        String key = "photos/event/user/photo.png";
+        PresignedUpload upload = localFileStorageService.createPresignedUpload(key, "image/png", 3L, Duration.ofMinutes(10));
+
+        // when
+        Files.write(Path.of(URI.create(upload.uploadUrl())), new byte[]{1, 2, 3});
+        Optional<StoredFile> result = localFileStorageService.findFile(key);
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().contentLength()).isEqualTo(3L);
+        assertThat(result.get().fileUrl()).isEqualTo(upload.fileUrl());
+        assertThat(localFileStorageService.exists(upload.fileUrl())).isTrue();
+    }
+
+    @Test
+    void givenMissingKey_whenFindFile_thenEmptyIsReturned() {
+        // when // then
+        assertThat(localFileStorageService.findFile("photos/none.png")).isEmpty();
+    }
+
+    @DisplayName("업로드 후 삭제")
+    @Test
+    void givenMultipartFile_whenUploadAndDelete_thenFileIsRemoved() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("photo", "a.jpg", "image/jpeg", new byte[]{1});
+
+        // when
+        String fileUrl = localFileStorageService.uploadFile(file, "photos");
+        localFileStorageService.deleteFile(fileUrl);
+
+        // then
+        assertThat(fileUrl).endsWith(".jpg");
+        assertThat(localFileStorageService.exists(fileUrl)).isFalse();
+    }
+
+    @DisplayName("루트 디렉토리 밖을 가리키는 key는 거부")
+    @Test
+    void givenTraversalKey_whenFindFile_thenFileStorageExceptionIsThrown() {
+        // when // then
+        assertThatThrownBy(() -> localFileStorageService.findFile("../outside.png"))
+                .isInstanceOf(FileStorageException.class);
+    }
+}
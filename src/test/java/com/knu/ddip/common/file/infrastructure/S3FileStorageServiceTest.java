@@ -1,6 +1,9 @@
 package com.knu.ddip.common.file.infrastructure;
 
 import com.knu.ddip.common.file.FileStorageException;
+import com.knu.ddip.common.file.PresignedUpload;
+import com.knu.ddip.common.file.StoredFile;
+import org.mockito.ArgumentCaptor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,9 +16,16 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,6 +42,12 @@ class S3FileStorageServiceTest {
     @Mock
     private S3Client s3Client;
 
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Mock
+    private S3MultipartUploader s3MultipartUploader;
+
     @Mock
     private MultipartFile multipartFile;
 
@@ -219,4 +235,118 @@ class S3FileStorageServiceTest {
         assertThat(result).isFalse();
         verify(s3Client).headObject(any(HeadObjectRequest.class));
     }
+
+    @DisplayName("스트리밍 업로드는 contentType으로 확장자를 정하고 multipart 업로더로 전송")
+    @Test
+    void givenImageStream_whenUploadStream_thenUploaderIsUsed() {
+        // given
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[10]);
+        given(s3MultipartUploader.upload(eq(BUCKET_NAME), anyString(), eq("image/jpeg"), eq(inputStream), anyLong()))
+                .willReturn(10L);
+
+        // when
+        String result = s3FileStorageService.uploadStream(inputStream, "image/jpeg", "photos");
+
+        // then
+        assertThat(result).startsWith("https://" + BUCKET_NAME + ".s3.amazonaws.com/photos/").endsWith(".jpg");
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @DisplayName("이미지가 아닌 스트림은 업로드하지 않음")
+    @Test
+    void givenNonImageStream_whenUploadStream_thenFileStorageExceptionIsThrown() {
+        // when // then
+        assertThatThrownBy(() -> s3FileStorageService.uploadStream(new ByteArrayInputStream(new byte[10]), "text/plain", "photos"))
+                .isInstanceOf(FileStorageException.class);
+        verifyNoInteractions(s3MultipartUploader);
+    }
+
+    @DisplayName("메모리에 있는 파일은 multipart 업로더 없이 크기를 지정해서 한 번에 전송")
+    @Test
+    void givenBytes_whenUploadBytes_thenSinglePutIsUsed() {
+        // given
+        byte[] bytes = new byte[100];
+        given(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .willReturn(PutObjectResponse.builder().build());
+
+        // when
+        String result = s3FileStorageService.uploadBytes(bytes, "image/jpeg", "photos/thumbnail");
+
+        // then
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+        assertThat(request.getValue().contentLength()).isEqualTo(100L);
+        assertThat(request.getValue().key()).startsWith("photos/thumbnail/").endsWith(".jpg");
+        assertThat(result).isEqualTo("https://" + BUCKET_NAME + ".s3.amazonaws.com/" + request.getValue().key());
+        verifyNoInteractions(s3MultipartUploader);
+    }
+
+    @DisplayName("업로드 URL 발급 시 contentType과 contentLength를 서명에 포함")
+    @Test
+    void givenKey_whenCreatePresignedUpload_thenSignedPutRequestIsReturned() throws Exception {
+        // given
+        String key = "photos/event/user/photo.jpg";
+        Instant expiration = Instant.now().plusSeconds(600);
+        PresignedPutObjectRequest presigned = mock(PresignedPutObjectRequest.class);
+        given(presigned.url()).willReturn(URI.create("https://test-bucket.s3.amazonaws.com/" + key + "?X-Amz-Signature=abc").toURL());
+        given(presigned.expiration()).willReturn(expiration);
+        given(s3Presigner.presignPutObject(any(PutObjectPresignRequest.class))).willReturn(presigned);
+
+        // when
+        PresignedUpload result = s3FileStorageService.createPresignedUpload(key, "image/jpeg", 1024L, Duration.ofMinutes(10));
+
+        // then
+        ArgumentCaptor<PutObjectPresignRequest> captor = ArgumentCaptor.forClass(PutObjectPresignRequest.class);
+        verify(s3Presigner).presignPutObject(captor.capture());
+        PutObjectRequest signed = captor.getValue().putObjectRequest();
+        assertThat(signed.bucket()).isEqualTo(BUCKET_NAME);
+        assertThat(signed.key()).isEqualTo(key);
+        assertThat(signed.contentType()).isEqualTo("image/jpeg");
+        assertThat(signed.contentLength()).isEqualTo(1024L);
+        assertThat(captor.getValue().signatureDuration()).isEqualTo(Duration.ofMinutes(10));
+
+        assertThat(result.uploadUrl()).contains("X-Amz-Signature");
+        assertThat(result.fileUrl()).isEqualTo("https://test-bucket.s3.amazonaws.com/" + key);
+        assertThat(result.expiresAt()).isEqualTo(expiration);
+    }
+
+    @DisplayName("저장된 파일 메타데이터 조회")
+    @Test
+    void givenStoredKey_whenFindFile_thenMetadataIsReturned() {
+        // given
+        String key = "photos/event/user/photo.jpg";
+        given(s3Client.headObject(any(HeadObjectRequest.class)))
+                .willReturn(HeadObjectResponse.builder().contentLength(2048L).contentType("image/jpeg").build());
+
+        // when
+        Optional<StoredFile> result = s3FileStorageService.findFile(key);
+
+        // then
+        assertThat(result).contains(new StoredFile(key, "https://test-bucket.s3.amazonaws.com/" + key, 2048L, "image/jpeg"));
+    }
+
+    @DisplayName("저장되지 않은 key는 404 응답이어도 empty")
+    @Test
+    void givenMissingKey_whenFindFile_thenEmptyIsReturned() {
+        // given
+        given(s3Client.headObject(any(HeadObjectRequest.class)))
+                .willThrow(NoSuchKeyException.builder().statusCode(404).build())
+                .willThrow(S3Exception.builder().statusCode(404).build());
+
+        // when // then
+        assertThat(s3FileStorageService.findFile("a")).isEmpty();
+        assertThat(s3FileStorageService.findFile("b")).isEmpty();
+    }
+
+    @DisplayName("404 이외의 S3 오류는 FileStorageException")
+    @Test
+    void givenS3Error_whenFindFile_thenFileStorageExceptionIsThrown() {
+        // given
+        given(s3Client.headObject(any(HeadObjectRequest.class)))
+                .willThrow(S3Exception.builder().statusCode(403).message("Forbidden").build());
+
+        // when // then
+        assertThatThrownBy(() -> s3FileStorageService.findFile("a"))
+                .isInstanceOf(FileStorageException.class);
+    }
 }
@@ -0,0 +1,152 @@
+package com.knu.ddip.common.file.infrastructure;
+
+import com.knu.ddip.common.file.FileStorageException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3MultipartUploaderTest {
+
+    private static final int PART_SIZE = S3MultipartUploader.MIN_PART_SIZE;
+    private static final long MAX_SIZE = 50L * 1024 * 1024;
+
+    @Mock
+    private S3Client s3Client;
+
+    private MeterRegistry meterRegistry;
+
+    private S3MultipartUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        uploader = new S3MultipartUploader(s3Client, meterRegistry);
+        ReflectionTestUtils.setField(uploader, "partSize", PART_SIZE);
+        ReflectionTestUtils.setField(uploader, "parallelism", 2);
+        ReflectionTestUtils.setField(uploader, "maxPartsInFlight", 2);
+        uploader.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @DisplayName("파트 크기보다 작은 파일은 multipart 없이 한 번에 업로드")
+    @Test
+    void givenSmallStream_whenUpload_thenPutObjectOnce() {
+        // given
+        byte[] content = new byte[1024];
+
+        // when
+        long size = uploader.upload("bucket", "photos/a.jpg", "image/jpeg", new ByteArrayInputStream(content), MAX_SIZE);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(captor.capture(), any(RequestBody.class));
+        assertThat(size).isEqualTo(1024);
+        assertThat(captor.getValue().checksumCRC32C()).isEqualTo(crc32c(content, 0, content.length));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @DisplayName("큰 파일은 고정 크기 파트로 나눠 파트별 체크섬과 함께 업로드 후 순서대로 완료")
+    @Test
+    void givenLargeStream_whenUpload_thenPartsAreUploadedAndCompleted() {
+        // given
+        byte[] content = new byte[PART_SIZE * 2 + 100];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willAnswer(invocation -> UploadPartResponse.builder()
+                        .eTag("etag-" + invocation.<UploadPartRequest>getArgument(0).partNumber())
+                        .build());
+
+        // when
+        long size = uploader.upload("bucket", "photos/a.jpg", "image/jpeg", new ByteArrayInputStream(content), MAX_SIZE);
+
+        // then
+        ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(partCaptor.capture(), any(RequestBody.class));
+        assertThat(partCaptor.getAllValues())
+                .extracting(UploadPartRequest::contentLength)
+                .containsExactlyInAnyOrder((long) PART_SIZE, (long) PART_SIZE, 100L);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+        List<CompletedPart> parts = completeCaptor.getValue().multipartUpload().parts();
+        assertThat(parts).extracting(CompletedPart::partNumber).containsExactly(1, 2, 3);
+        assertThat(parts).extracting(CompletedPart::eTag).containsExactly("etag-1", "etag-2", "etag-3");
+        assertThat(parts.get(2).checksumCRC32C()).isEqualTo(crc32c(content, PART_SIZE * 2, 100));
+
+        assertThat(size).isEqualTo(content.length);
+        assertThat(meterRegistry.counter("file.upload.parts").count()).isEqualTo(3);
+    }
+
+    @DisplayName("파트 업로드가 실패하면 multipart upload를 취소")
+    @Test
+    void givenPartFailure_whenUpload_thenUploadIsAborted() {
+        // given
+        byte[] content = new byte[PART_SIZE * 2];
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willThrow(S3Exception.builder().statusCode(500).message("Internal Error").build());
+
+        // when // then
+        assertThatThrownBy(() -> uploader.upload("bucket", "photos/a.jpg", "image/jpeg", new ByteArrayInputStream(content), MAX_SIZE))
+                .isInstanceOf(FileStorageException.class);
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        assertThat(meterRegistry.counter("file.upload.aborted").count()).isEqualTo(1);
+    }
+
+    @DisplayName("최대 크기를 넘는 스트림은 읽는 도중 중단하고 취소")
+    @Test
+    void givenOversizedStream_whenUpload_thenUploadIsAborted() {
+        // given
+        byte[] content = new byte[PART_SIZE * 2 + 1];
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .willReturn(UploadPartResponse.builder().eTag("etag").build());
+
+        // when // then
+        assertThatThrownBy(() -> uploader.upload("bucket", "photos/a.jpg", "image/jpeg", new ByteArrayInputStream(content), PART_SIZE * 2L))
+                .isInstanceOf(FileStorageException.class)
+                .hasMessageContaining("MB를 초과할 수 없습니다");
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+
+    private String crc32c(byte[] content, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(content, offset, length);
+        return Base64.getEncoder().encodeToString(ByteBuffer.allocate(4).putInt((int) crc.getValue()).array());
+    }
+}
@@ -20,6 +20,9 @@ public class TestEnvironmentConfig implements BeforeAllCallback {
     private static final String TEST_MYSQL_PASSWORD = "testpassword";
     private static final String TEST_MYSQL_DATABASE = "testdb";
 
+    // 위치 갱신은 테스트에서 바로 조회할 수 있도록 동기 반영
+    private static final String TEST_LOCATION_INGEST_MODE = "sync";
+
     // OAuth 테스트용 설정값
     private static final String TEST_OAUTH_APP_REDIRECT_URI = "http://localhost:3000/test";
 
@@ -49,6 +52,9 @@ public class TestEnvironmentConfig implements BeforeAllCallback {
         System.setProperty("MYSQL_PASSWORD", TEST_MYSQL_PASSWORD);
         System.setProperty("MYSQL_DATABASE", TEST_MYSQL_DATABASE);
 
+        // 위치 갱신 설정
+        System.setProperty("location.ingest.mode", TEST_LOCATION_INGEST_MODE);
+
         // OAuth 설정
         System.setProperty("OAUTH_APP_REDIRECT_URI", TEST_OAUTH_APP_REDIRECT_URI);
 
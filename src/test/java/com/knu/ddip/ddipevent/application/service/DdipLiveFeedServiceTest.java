@@ -0,0 +1,61 @@
+package com.knu.ddip.ddipevent.application.service;
+
+import com.google.common.geometry.S2CellId;
+import com.knu.ddip.ddipevent.application.dto.LiveFeedRequestDto;
+import com.knu.ddip.ddipevent.exception.DdipBadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.knu.ddip.ddipevent.application.service.LiveFeedSubscriptions.MIN_LEVEL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DdipLiveFeedServiceTest {
+
+    @Mock
+    private LiveFeedSubscriptions liveFeedSubscriptions;
+
+    @InjectMocks
+    private DdipLiveFeedService ddipLiveFeedService;
+
+    @DisplayName("화면 범위를 최소 레벨 이상의 셀로 덮어서 구독")
+    @Test
+    void subscribeViewportTest() {
+        // given
+        LiveFeedRequestDto dto = new LiveFeedRequestDto(35.8878766, 128.6089617, 35.8895281, 128.6112577, null);
+
+        // when
+        ddipLiveFeedService.subscribe(dto);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<S2CellId>> cells = ArgumentCaptor.forClass(List.class);
+        verify(liveFeedSubscriptions).subscribe(cells.capture());
+        assertThat(cells.getValue()).isNotEmpty()
+                .hasSizeLessThanOrEqualTo(DdipLiveFeedService.MAX_CELLS)
+                .allMatch(cell -> cell.level() >= MIN_LEVEL);
+    }
+
+    @DisplayName("매우 넓은 화면 범위는 커버링을 만들기 전에 거부")
+    @Test
+    void tooWideViewportTest() {
+        // given
+        LiveFeedRequestDto dto = new LiveFeedRequestDto(-85.0, -179.0, 85.0, 179.0, null);
+
+        // when // then
+        assertThatThrownBy(() -> ddipLiveFeedService.subscribe(dto))
+                .isInstanceOf(DdipBadRequestException.class);
+        verify(liveFeedSubscriptions, never()).subscribe(any());
+    }
+}
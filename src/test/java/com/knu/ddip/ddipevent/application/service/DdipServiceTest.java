@@ -1,23 +1,39 @@
 package com.knu.ddip.ddipevent.application.service;
 
 import com.knu.ddip.common.file.FileStorageService;
+import com.knu.ddip.common.file.PresignedUpload;
+import com.knu.ddip.common.file.StoredFile;
 import com.knu.ddip.ddipevent.application.dto.*;
+import com.knu.ddip.ddipevent.application.event.DdipChangeType;
+import com.knu.ddip.ddipevent.application.event.DdipChangedEvent;
+import com.knu.ddip.ddipevent.application.event.PhotoUploadedEvent;
 import com.knu.ddip.ddipevent.application.util.DistanceConverter;
+import com.knu.ddip.ddipevent.domain.ActionType;
+import com.knu.ddip.ddipevent.domain.ActorRole;
 import com.knu.ddip.ddipevent.domain.DdipEvent;
 import com.knu.ddip.ddipevent.domain.DdipStatus;
+import com.knu.ddip.ddipevent.domain.Interaction;
 import com.knu.ddip.ddipevent.domain.Photo;
 import com.knu.ddip.ddipevent.domain.PhotoStatus;
+import com.knu.ddip.ddipevent.exception.DdipBadRequestException;
+import com.knu.ddip.ddipevent.exception.DdipForbiddenException;
 import com.knu.ddip.ddipevent.exception.DdipNotFoundException;
 import com.knu.ddip.user.business.dto.UserEntityDto;
 import com.knu.ddip.user.business.service.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +44,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +57,9 @@ class DdipServiceTest {
     @Mock
     private DdipEventRepository ddipEventRepository;
 
+    @Mock
+    private InteractionRepository interactionRepository;
+
     @Mock
     private UserRepository userRepository;
 
@@ -48,6 +69,19 @@ class DdipServiceTest {
     @Mock
     private DistanceConverter distanceConverter;
 
+    @Mock
+    private OpenDdipFeedIndex openDdipFeedIndex;
+
+    @Mock
+    private DdipFeedCache ddipFeedCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private DdipTransitionExecutor ddipTransitionExecutor =
+            new DdipTransitionExecutor(TransactionOperations.withoutTransaction(), new SimpleMeterRegistry());
+
     @DisplayName("띱 이벤트 생성 성공")
     @Test
     void givenCreateDdipRequest_whenCreateDdipEvent_thenDdipEventDetailDtoIsReturned() {
@@ -82,35 +116,188 @@ class DdipServiceTest {
         assertThat(result.content()).isEqualTo(requestDto.content());
         verify(userRepository).getById(requesterId);
         verify(ddipEventRepository).save(any(DdipEvent.class));
+        verify(eventPublisher).publishEvent(DdipChangedEvent.created(DdipEventSummary.from(ddipEvent)));
     }
 
     @DisplayName("띱 피드 조회 성공")
     @Test
     void givenFeedRequest_whenGetDdipEventFeed_thenListOfDdipEventSummaryDtoIsReturned() {
         // given
-        FeedRequestDto requestDto = new FeedRequestDto(35.0, 128.0, 36.0, 129.0, "distance", 35.5, 128.5);
-        DdipEvent ddipEvent = DdipEvent.builder()
-                .id(UUID.randomUUID())
-                .requesterId(UUID.randomUUID())
-                .createdAt(Instant.now())
-                .applicants(new ArrayList<>())
-                .latitude(0.0)
-                .longitude(0.0)
-                .build();
-        List<DdipEvent> events = List.of(ddipEvent);
+        FeedRequestDto requestDto = new FeedRequestDto(35.0, 128.0, 36.0, 129.0, "distance", 35.5, 128.5, null, null, null);
+        DdipEventSummary summary = summary(UUID.randomUUID());
+        List<FeedEntry> entries = List.of(new FeedEntry(summary, "10.5"));
+
+        given(ddipEventRepository.findFeedPage(any(FeedQuery.class))).willReturn(entries);
+
+        // when
+        DdipEventFeedPageDto result = ddipService.getDdipEventFeed(requestDto);
+
+        // then
+        assertThat(result.events()).hasSize(1);
+        assertThat(result.events().get(0).applicantCount()).isEqualTo(summary.applicantCount());
+        assertThat(result.events().get(0).content()).isEqualTo(summary.contentPreview());
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        verify(ddipEventRepository).findFeedPage(new FeedQuery(
+                35.0, 128.0, 36.0, 129.0, 35.5, 128.5,
+                DdipStatus.OPEN, FeedSort.DISTANCE, null, DdipService.FEED_DEFAULT_PAGE_SIZE + 1));
+    }
+
+    @DisplayName("메모리 인덱스가 응답하면 DB를 조회하지 않음")
+    @Test
+    void givenReadyIndex_whenGetDdipEventFeed_thenRepositoryIsNotQueried() {
+        // given
+        FeedRequestDto requestDto = new FeedRequestDto(35.0, 128.0, 36.0, 129.0, "distance", 35.5, 128.5, null, null, null);
+        DdipEventSummary summary = summary(UUID.randomUUID());
+
+        given(openDdipFeedIndex.findFeedPage(any(FeedQuery.class))).willReturn(Optional.of(List.of(new FeedEntry(summary, "10.5"))));
+
+        // when
+        DdipEventFeedPageDto result = ddipService.getDdipEventFeed(requestDto);
+
+        // then
+        assertThat(result.events()).extracting(DdipEventSummaryDto::id).containsExactly(summary.id().toString());
+        verify(ddipEventRepository, never()).findFeedPage(any(FeedQuery.class));
+    }
+
+    @DisplayName("메모리 인덱스가 응답하지 않으면 셀 캐시로 응답하고 DB를 조회하지 않음")
+    @Test
+    void givenCachedCells_whenGetDdipEventFeed_thenRepositoryIsNotQueried() {
+        // given
+        FeedRequestDto requestDto = new FeedRequestDto(35.0, 128.0, 36.0, 129.0, "distance", 35.5, 128.5, DdipStatus.COMPLETED, null, null);
+        DdipEventSummary summary = summary(UUID.randomUUID());
+
+        given(openDdipFeedIndex.findFeedPage(any(FeedQuery.class))).willReturn(Optional.empty());
+        given(ddipFeedCache.findFeedPage(any(FeedQuery.class))).willReturn(Optional.of(List.of(new FeedEntry(summary, "10.5"))));
+
+        // when
+        DdipEventFeedPageDto result = ddipService.getDdipEventFeed(requestDto);
+
+        // then
+        assertThat(result.events()).extracting(DdipEventSummaryDto::id).containsExactly(summary.id().toString());
+        verify(ddipEventRepository, never()).findFeedPage(any(FeedQuery.class));
+    }
+
+    @DisplayName("띱 피드 다음 페이지가 있으면 마지막 띱 기준 커서 반환")
+    @Test
+    void givenMoreEvents_whenGetDdipEventFeed_thenNextCursorIsReturned() {
+        // given
+        FeedRequestDto requestDto = new FeedRequestDto(35.0, 128.0, 36.0, 129.0, "newest", null, null, null, null, 2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        List<FeedEntry> entries = List.of(
+                new FeedEntry(summary(first), "1750000000.300000"),
+                new FeedEntry(summary(second), "1750000000.200000"),
+                new FeedEntry(summary(third), "1750000000.100000"));
+
+        given(ddipEventRepository.findFeedPage(any(FeedQuery.class))).willReturn(entries);
+
+        // when
+        DdipEventFeedPageDto result = ddipService.getDdipEventFeed(requestDto);
+
+        // then
+        assertThat(result.events()).extracting(DdipEventSummaryDto::id)
+                .containsExactly(first.toString(), second.toString());
+        assertThat(result.hasNext()).isTrue();
+        assertThat(FeedCursor.decode(result.nextCursor(), FeedSort.NEWEST))
+                .isEqualTo(new FeedCursor(FeedSort.NEWEST, "1750000000.200000", second));
+    }
+
+    @DisplayName("띱 피드 페이지 크기는 최대값으로 제한")
+    @Test
+    void givenTooLargeSize_whenGetDdipEventFeed_thenPageSizeIsCapped() {
+        // given
+        FeedCursor cursor = new FeedCursor(FeedSort.DISTANCE, "120.75", UUID.randomUUID());
+        FeedRequestDto requestDto = new FeedRequestDto(35.0, 128.0, 36.0, 129.0, null, 35.5, 128.5,
+                DdipStatus.IN_PROGRESS, cursor.encode(), 10_000);
+
+        given(ddipEventRepository.findFeedPage(any(FeedQuery.class))).willReturn(List.of());
+
+        // when
+        ddipService.getDdipEventFeed(requestDto);
+
+        // then
+        verify(ddipEventRepository).findFeedPage(new FeedQuery(
+                35.0, 128.0, 36.0, 129.0, 35.5, 128.5,
+                DdipStatus.IN_PROGRESS, FeedSort.DISTANCE, cursor, DdipService.FEED_MAX_PAGE_SIZE + 1));
+    }
+
+    @DisplayName("띱 피드 커서가 잘못되었거나 정렬 기준이 다르면 예외")
+    @Test
+    void givenInvalidCursor_whenGetDdipEventFeed_thenThrowsException() {
+        // given
+        String newestCursor = new FeedCursor(FeedSort.NEWEST, "1750000000.100000", UUID.randomUUID()).encode();
+        FeedRequestDto invalid = new FeedRequestDto(35.0, 128.0, 36.0, 129.0, null, 35.5, 128.5, null, "not-a-cursor", null);
+        FeedRequestDto mismatched = new FeedRequestDto(35.0, 128.0, 36.0, 129.0, "distance", 35.5, 128.5, null, newestCursor, null);
+
+        // when // then
+        assertThatThrownBy(() -> ddipService.getDdipEventFeed(invalid))
+                .isInstanceOf(DdipBadRequestException.class);
+        assertThatThrownBy(() -> ddipService.getDdipEventFeed(mismatched))
+                .isInstanceOf(DdipBadRequestException.class);
+    }
+
+    @DisplayName("띱 진행 기록은 최신순 페이지와 다음 커서를 반환")
+    @Test
+    void givenMoreInteractions_whenGetDdipEventInteractions_thenPageWithNextCursorIsReturned() {
+        // given
+        UUID eventId = UUID.randomUUID();
+        List<Interaction> interactions = List.of(interaction(30L), interaction(20L), interaction(10L));
+
+        given(interactionRepository.findHistory(eventId, 40L, 3)).willReturn(interactions);
+
+        // when
+        InteractionPageDto result = ddipService.getDdipEventInteractions(eventId, 40L, 2);
+
+        // then
+        assertThat(result.interactions()).extracting(InteractionDto::seq).containsExactly(30L, 20L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(20L);
+    }
 
-        given(ddipEventRepository.findWithinBounds(
-                anyDouble(), anyDouble(), anyDouble(), anyDouble(),
-                anyString(), anyDouble(), anyDouble())).willReturn(events);
+    @DisplayName("띱 지원 성공 - 애그리거트를 읽지 않고 지원자 추가")
+    @Test
+    void givenOpenDdipEvent_whenApplyDdipEvent_thenApplicantIsAddedWithoutLoadingAggregate() {
+        // given
+        UUID eventId = UUID.randomUUID();
+        UUID responderId = UUID.randomUUID();
+
+        given(userRepository.getById(responderId)).willReturn(UserEntityDto.builder().id(responderId).build());
+        given(ddipEventRepository.addApplicant(eq(eventId), eq(responderId), any(Interaction.class))).willReturn(true);
 
         // when
-        List<DdipEventSummaryDto> result = ddipService.getDdipEventFeed(requestDto);
+        ddipService.applyDdipEvent(eventId, responderId);
 
         // then
-        assertThat(result).hasSize(1);
-        verify(ddipEventRepository).findWithinBounds(
-                requestDto.sw_lat(), requestDto.sw_lon(), requestDto.ne_lat(), requestDto.ne_lon(),
-                requestDto.sort(), requestDto.user_lat(), requestDto.user_lon());
+        verify(ddipEventRepository, never()).findById(any());
+        verify(ddipEventRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(DdipChangedEvent.of(eventId, DdipChangeType.APPLIED));
+    }
+
+    @DisplayName("띱 지원 실패 - 추가되지 않으면 애그리거트 규칙으로 사유 판단")
+    @Test
+    void givenAlreadyApplied_whenApplyDdipEvent_thenDdipBadRequestExceptionIsThrown() {
+        // given
+        UUID eventId = UUID.randomUUID();
+        UUID responderId = UUID.randomUUID();
+        DdipEvent ddipEvent = DdipEvent.builder()
+                .id(eventId)
+                .requesterId(UUID.randomUUID())
+                .status(DdipStatus.OPEN)
+                .applicants(new ArrayList<>(List.of(responderId)))
+                .interactions(new ArrayList<>())
+                .build();
+
+        given(userRepository.getById(responderId)).willReturn(UserEntityDto.builder().id(responderId).build());
+        given(ddipEventRepository.addApplicant(eq(eventId), eq(responderId), any(Interaction.class))).willReturn(false);
+        given(ddipEventRepository.findById(eventId)).willReturn(Optional.of(ddipEvent));
+
+        // when // then
+        assertThatThrownBy(() -> ddipService.applyDdipEvent(eventId, responderId))
+                .isInstanceOf(DdipBadRequestException.class)
+                .hasMessage("이미 지원한 띱입니다.");
+        verify(ddipEventRepository, never()).save(any());
     }
 
     @DisplayName("띱 상세 조회 성공")
@@ -194,6 +381,138 @@ class DdipServiceTest {
         verify(ddipEventRepository).save(any(DdipEvent.class));
     }
 
+    @DisplayName("선택된 수행자가 아니면 스트림을 읽지 않고 실패")
+    @Test
+    void givenNotSelectedResponder_whenUploadPhotoStream_thenStreamIsNotUploaded() {
+        // given
+        UUID eventId = UUID.randomUUID();
+        UUID responderId = UUID.randomUUID();
+        DdipEvent ddipEvent = DdipEvent.builder()
+                .id(eventId)
+                .selectedResponderId(UUID.randomUUID())
+                .status(DdipStatus.IN_PROGRESS)
+                .build();
+
+        given(userRepository.getById(responderId)).willReturn(UserEntityDto.builder().id(responderId).build());
+        given(ddipEventRepository.findById(eventId)).willReturn(Optional.of(ddipEvent));
+
+        // when // then
+        assertThatThrownBy(() -> ddipService.uploadPhotoStreamForDdipEvent(eventId, new ByteArrayInputStream(new byte[10]),
+                "image/jpeg", 35.888, 128.61, null, responderId))
+                .isInstanceOf(DdipForbiddenException.class);
+        verify(fileStorageService, never()).uploadStream(any(), anyString(), anyString());
+    }
+
+    @DisplayName("선택된 수행자에게 이벤트와 수행자별 key로 업로드 URL 발급")
+    @Test
+    void givenPhotoUploadUrlRequest_whenIssuePhotoUploadUrl_thenPresignedUrlIsReturned() {
+        // given
+        UUID eventId = UUID.randomUUID();
+        UUID responderId = UUID.randomUUID();
+        PhotoUploadUrlRequest request = new PhotoUploadUrlRequest("image/jpeg", 1024L);
+        DdipEvent ddipEvent = DdipEvent.builder()
+                .id(eventId)
+                .selectedResponderId(responderId)
+                .status(DdipStatus.IN_PROGRESS)
+                .photos(new ArrayList<>())
+                .interactions(new ArrayList<>())
+                .applicants(new ArrayList<>())
+                .createdAt(Instant.now())
+                .build();
+        Instant expiresAt = Instant.now().plusSeconds(600);
+
+        given(userRepository.getById(responderId)).willReturn(UserEntityDto.builder().id(responderId).build());
+        given(ddipEventRepository.findById(eventId)).willReturn(Optional.of(ddipEvent));
+        given(fileStorageService.createPresignedUpload(anyString(), eq("image/jpeg"), eq(1024L), eq(DdipService.PHOTO_UPLOAD_URL_TTL)))
+                .willAnswer(invocation -> new PresignedUpload("https://upload", invocation.getArgument(0), "https://file", expiresAt));
+
+        // when
+        PhotoUploadUrlResponse result = ddipService.issuePhotoUploadUrl(eventId, request, responderId);
+
+        // then
+        assertThat(result.key()).startsWith("photos/" + eventId + "/" + responderId + "/").endsWith(".jpg");
+        assertThat(result.uploadUrl()).isEqualTo("https://upload");
+        assertThat(result.expiresAt()).isEqualTo(expiresAt);
+    }
+
+    @DisplayName("이미지가 아니거나 50MB를 넘으면 업로드 URL 발급 실패")
+    @Test
+    void givenInvalidFile_whenIssuePhotoUploadUrl_thenDdipBadRequestExceptionIsThrown() {
+        // given
+        UUID eventId = UUID.randomUUID();
+        UUID responderId = UUID.randomUUID();
+        DdipEvent ddipEvent = DdipEvent.builder()
+                .id(eventId)
+                .selectedResponderId(responderId)
+                .status(DdipStatus.IN_PROGRESS)
+                .build();
+
+        given(userRepository.getById(responderId)).willReturn(UserEntityDto.builder().id(responderId).build());
+        given(ddipEventRepository.findById(eventId)).willReturn(Optional.of(ddipEvent));
+
+        // when // then
+        assertThatThrownBy(() -> ddipService.issuePhotoUploadUrl(eventId, new PhotoUploadUrlRequest("text/plain", 10L), responderId))
+                .isInstanceOf(DdipBadRequestException.class);
+        assertThatThrownBy(() -> ddipService.issuePhotoUploadUrl(eventId,
+                new PhotoUploadUrlRequest("image/png", DdipService.PHOTO_MAX_SIZE + 1), responderId))
+                .isInstanceOf(DdipBadRequestException.class);
+        verify(fileStorageService, never()).createPresignedUpload(anyString(), anyString(), anyLong(), any());
+    }
+
+    @DisplayName("저장소에서 확인된 파일을 사진으로 등록")
+    @Test
+    void givenUploadedFile_whenConfirmPhotoUpload_thenPhotoIsAdded() {
+        // given
+        UUID eventId = UUID.randomUUID();
+        UUID responderId = UUID.randomUUID();
+        String key = "photos/" + eventId + "/" + responderId + "/photo.jpg";
+        PhotoConfirmRequest request = new PhotoConfirmRequest(key, 35.888, 128.61, "업로드 완료");
+        DdipEvent ddipEvent = DdipEvent.builder()
+                .id(eventId)
+                .selectedResponderId(responderId)
+                .status(DdipStatus.IN_PROGRESS)
+                .photos(new ArrayList<>())
+                .interactions(new ArrayList<>())
+                .applicants(new ArrayList<>())
+                .createdAt(Instant.now())
+                .build();
+
+        given(userRepository.getById(responderId)).willReturn(UserEntityDto.builder().id(responderId).build());
+        given(fileStorageService.findFile(key)).willReturn(Optional.of(new StoredFile(key, "https://file/" + key, 2048L, "image/jpeg")));
+        given(ddipEventRepository.findById(eventId)).willReturn(Optional.of(ddipEvent));
+        given(ddipEventRepository.save(any(DdipEvent.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        DdipEventDetailDto result = ddipService.confirmPhotoUpload(eventId, request, responderId);
+
+        // then
+        assertThat(result.photos()).extracting(PhotoDto::photoUrl).containsExactly("https://file/" + key);
+        verify(fileStorageService, never()).uploadFile(any(), anyString());
+        verify(eventPublisher).publishEvent(new PhotoUploadedEvent(eventId, ddipEvent.getPhotos().getLast().getPhotoId(), "https://file/" + key));
+    }
+
+    @DisplayName("다른 띱의 key이거나 업로드되지 않은 파일이면 등록 실패")
+    @Test
+    void givenInvalidKey_whenConfirmPhotoUpload_thenDdipBadRequestExceptionIsThrown() {
+        // given
+        UUID eventId = UUID.randomUUID();
+        UUID responderId = UUID.randomUUID();
+        String otherEventKey = "photos/" + UUID.randomUUID() + "/" + responderId + "/photo.jpg";
+        String missingKey = "photos/" + eventId + "/" + responderId + "/photo.jpg";
+
+        given(userRepository.getById(responderId)).willReturn(UserEntityDto.builder().id(responderId).build());
+        given(fileStorageService.findFile(missingKey)).willReturn(Optional.empty());
+
+        // when // then
+        assertThatThrownBy(() -> ddipService.confirmPhotoUpload(eventId,
+                new PhotoConfirmRequest(otherEventKey, 35.888, 128.61, null), responderId))
+                .isInstanceOf(DdipBadRequestException.class);
+        assertThatThrownBy(() -> ddipService.confirmPhotoUpload(eventId,
+                new PhotoConfirmRequest(missingKey, 35.888, 128.61, null), responderId))
+                .isInstanceOf(DdipBadRequestException.class);
+        verify(ddipEventRepository, never()).save(any(DdipEvent.class));
+    }
+
     @DisplayName("사진 피드백 업데이트 성공")
     @Test
     void givenPhotoFeedbackRequest_whenUpdatePhotoFeedback_thenFeedbackIsUpdated() {
@@ -320,4 +639,104 @@ class DdipServiceTest {
         verify(ddipEventRepository).findById(eventId);
         verify(ddipEventRepository).save(any(DdipEvent.class));
     }
+
+    @DisplayName("버전 충돌 시 띱을 다시 조회해서 재시도")
+    @Test
+    void givenVersionConflict_whenCompleteDdipEventMission_thenRetriedWithFreshDdipEvent() {
+        // given
+        UUID eventId = UUID.randomUUID();
+        UUID requesterId = UUID.randomUUID();
+        UserEntityDto requester = UserEntityDto.builder().id(requesterId).build();
+
+        given(userRepository.getById(requesterId)).willReturn(requester);
+        given(ddipEventRepository.findById(eventId))
+                .willReturn(Optional.of(approvedDdipEvent(eventId, requesterId, 1L)))
+                .willReturn(Optional.of(approvedDdipEvent(eventId, requesterId, 2L)));
+        given(ddipEventRepository.save(any(DdipEvent.class)))
+                .willThrow(new OptimisticLockingFailureException("conflict"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        DdipEventDetailDto result = ddipService.completeDdipEventMission(eventId, requesterId);
+
+        // then
+        assertThat(result.status()).isEqualTo(DdipStatus.COMPLETED);
+        verify(userRepository).getById(requesterId);
+        verify(ddipEventRepository, times(2)).findById(eventId);
+        verify(ddipEventRepository, times(2)).save(any(DdipEvent.class));
+    }
+
+    @DisplayName("완료와 취소가 경합하면 다시 조회한 상태로 나중 요청을 거절")
+    @Test
+    void givenCompletedWhileCanceling_whenCancelDdipEventMission_thenDdipBadRequestExceptionIsThrown() {
+        // given
+        UUID eventId = UUID.randomUUID();
+        UUID requesterId = UUID.randomUUID();
+        UUID responderId = UUID.randomUUID();
+        UserEntityDto responder = UserEntityDto.builder().id(responderId).build();
+        DdipEvent inProgress = DdipEvent.builder()
+                .id(eventId)
+                .requesterId(requesterId)
+                .selectedResponderId(responderId)
+                .status(DdipStatus.IN_PROGRESS)
+                .photos(new ArrayList<>())
+                .interactions(new ArrayList<>())
+                .applicants(new ArrayList<>())
+                .createdAt(Instant.now())
+                .version(1L)
+                .build();
+        DdipEvent completed = DdipEvent.builder()
+                .id(eventId)
+                .requesterId(requesterId)
+                .selectedResponderId(responderId)
+                .status(DdipStatus.COMPLETED)
+                .photos(new ArrayList<>())
+                .interactions(new ArrayList<>())
+                .applicants(new ArrayList<>())
+                .createdAt(Instant.now())
+                .version(2L)
+                .build();
+
+        given(userRepository.getById(responderId)).willReturn(responder);
+        given(ddipEventRepository.findById(eventId))
+                .willReturn(Optional.of(inProgress))
+                .willReturn(Optional.of(completed));
+        given(ddipEventRepository.save(any(DdipEvent.class)))
+                .willThrow(new OptimisticLockingFailureException("conflict"));
+
+        // when // then
+        assertThatThrownBy(() -> ddipService.cancelDdipEventMission(eventId, responderId))
+                .isInstanceOf(DdipBadRequestException.class)
+                .hasMessage("이미 완료되었거나 취소된 띱입니다.");
+        verify(ddipEventRepository, times(1)).save(any(DdipEvent.class));
+    }
+
+    private DdipEvent approvedDdipEvent(UUID eventId, UUID requesterId, long version) {
+        return DdipEvent.builder()
+                .id(eventId)
+                .requesterId(requesterId)
+                .status(DdipStatus.IN_PROGRESS)
+                .photos(List.of(Photo.builder().photoId(UUID.randomUUID()).timestamp(Instant.now()).status(PhotoStatus.APPROVED).build()))
+                .interactions(new ArrayList<>())
+                .applicants(new ArrayList<>())
+                .createdAt(Instant.now())
+                .version(version)
+                .build();
+    }
+
+    private Interaction interaction(long seq) {
+        return Interaction.builder()
+                .interactionId(UUID.randomUUID())
+                .seq(seq)
+                .actorId(UUID.randomUUID())
+                .actorRole(ActorRole.RESPONDER)
+                .actionType(ActionType.APPLY)
+                .timestamp(Instant.now())
+                .build();
+    }
+
+    private DdipEventSummary summary(UUID id) {
+        return new DdipEventSummary(id, "title", 1000, 0.0, 0.0, DdipStatus.OPEN,
+                UUID.randomUUID(), Instant.now(), 2, "content", 1);
+    }
 }
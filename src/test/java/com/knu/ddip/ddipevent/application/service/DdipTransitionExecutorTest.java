@@ -0,0 +1,85 @@
+package com.knu.ddip.ddipevent.application.service;
+
+import com.knu.ddip.ddipevent.exception.DdipConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DdipTransitionExecutorTest {
+
+    private MeterRegistry meterRegistry;
+
+    private DdipTransitionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new DdipTransitionExecutor(TransactionOperations.withoutTransaction(), meterRegistry);
+        ReflectionTestUtils.setField(executor, "maxAttempts", 3);
+        ReflectionTestUtils.setField(executor, "backoffMs", 0L);
+    }
+
+    @DisplayName("충돌이 나면 처음부터 다시 실행하고 충돌, 재시도 횟수를 기록")
+    @Test
+    void retryOnConflictTest() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = executor.execute("complete", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "done";
+        });
+
+        // then
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("ddip.transition.conflict", "transition", "complete").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ddip.transition.retry", "transition", "complete").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ddip.transition.exhausted", "transition", "complete").count()).isZero();
+    }
+
+    @DisplayName("최대 시도 횟수를 넘기면 충돌 예외")
+    @Test
+    void exhaustedTest() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when // then
+        assertThatThrownBy(() -> executor.execute("cancel", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        })).isInstanceOf(DdipConflictException.class);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("ddip.transition.conflict", "transition", "cancel").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("ddip.transition.retry", "transition", "cancel").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ddip.transition.exhausted", "transition", "cancel").count()).isEqualTo(1);
+    }
+
+    @DisplayName("도메인 예외는 재시도하지 않음")
+    @Test
+    void noRetryOnDomainExceptionTest() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when // then
+        assertThatThrownBy(() -> executor.execute("cancel", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("rejected");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("ddip.transition.conflict", "transition", "cancel").count()).isZero();
+    }
+}
@@ -0,0 +1,147 @@
+package com.knu.ddip.ddipevent.application.service;
+
+import com.knu.ddip.common.file.FileStorageException;
+import com.knu.ddip.common.file.FileStorageService;
+import com.knu.ddip.ddipevent.application.dto.PhotoVariant;
+import com.knu.ddip.ddipevent.application.dto.ResizedPhoto;
+import com.knu.ddip.ddipevent.application.event.PhotoUploadedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PhotoDerivativePipelineTest {
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private PhotoResizer photoResizer;
+
+    @Mock
+    private DdipEventRepository ddipEventRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private PhotoDerivativePipeline pipeline;
+
+    private final UUID photoId = UUID.randomUUID();
+    private final String photoUrl = "https://bucket.s3.amazonaws.com/photos/original.jpg";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new PhotoDerivativePipeline(fileStorageService, photoResizer, ddipEventRepository, meterRegistry);
+        ReflectionTestUtils.setField(pipeline, "concurrency", 1);
+        ReflectionTestUtils.setField(pipeline, "maxPending", 1);
+        pipeline.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @DisplayName("원본을 한 번 읽어 축소본을 저장하고 URL과 절약한 바이트 수를 기록")
+    @Test
+    void givenUploadedPhoto_whenProcess_thenDerivativesAreStoredAndRecorded() throws Exception {
+        // given
+        byte[] original = new byte[1000];
+        given(fileStorageService.openFile(photoUrl)).willReturn(new ByteArrayInputStream(original));
+        given(photoResizer.resize(original, List.of(PhotoVariant.values()))).willReturn(List.of(
+                new ResizedPhoto(PhotoVariant.MEDIUM, new byte[400], "image/jpeg", 1080, 810),
+                new ResizedPhoto(PhotoVariant.THUMBNAIL, new byte[100], "image/jpeg", 320, 240)));
+        given(fileStorageService.uploadBytes(any(), eq("image/jpeg"), eq("photos/medium"))).willReturn("medium-url");
+        given(fileStorageService.uploadBytes(any(), eq("image/jpeg"), eq("photos/thumbnail"))).willReturn("thumbnail-url");
+        given(ddipEventRepository.updatePhotoDerivatives(photoId, "thumbnail-url", "medium-url")).willReturn(true);
+
+        // when
+        pipeline.process(new PhotoUploadedEvent(UUID.randomUUID(), photoId, photoUrl));
+
+        // then
+        verify(fileStorageService, times(1)).openFile(photoUrl);
+        verify(ddipEventRepository).updatePhotoDerivatives(photoId, "thumbnail-url", "medium-url");
+        assertThat(meterRegistry.summary("photo.derivative.bytes.saved").totalAmount()).isEqualTo(600 + 900);
+        assertThat(meterRegistry.timer("photo.derivative").count()).isEqualTo(1);
+    }
+
+    @DisplayName("축소본이 원본보다 크면 저장하지 않고 원본 URL을 사용")
+    @Test
+    void givenLargerDerivative_whenProcess_thenOriginalUrlIsUsed() throws Exception {
+        // given
+        byte[] original = new byte[100];
+        given(fileStorageService.openFile(photoUrl)).willReturn(new ByteArrayInputStream(original));
+        given(photoResizer.resize(original, List.of(PhotoVariant.values()))).willReturn(List.of(
+                new ResizedPhoto(PhotoVariant.MEDIUM, new byte[200], "image/jpeg", 100, 100),
+                new ResizedPhoto(PhotoVariant.THUMBNAIL, new byte[50], "image/jpeg", 100, 100)));
+        given(fileStorageService.uploadBytes(any(), eq("image/jpeg"), eq("photos/thumbnail"))).willReturn("thumbnail-url");
+        given(ddipEventRepository.updatePhotoDerivatives(photoId, "thumbnail-url", photoUrl)).willReturn(true);
+
+        // when
+        pipeline.process(new PhotoUploadedEvent(UUID.randomUUID(), photoId, photoUrl));
+
+        // then
+        verify(fileStorageService, never()).uploadBytes(any(), anyString(), eq("photos/medium"));
+        verify(ddipEventRepository).updatePhotoDerivatives(photoId, "thumbnail-url", photoUrl);
+    }
+
+    @DisplayName("처리에 실패해도 소요 시간은 기록")
+    @Test
+    void givenUploadFailure_whenProcess_thenTimerIsRecorded() {
+        // given
+        byte[] original = new byte[1000];
+        given(fileStorageService.openFile(photoUrl)).willReturn(new ByteArrayInputStream(original));
+        given(photoResizer.resize(original, List.of(PhotoVariant.values()))).willReturn(List.of(
+                new ResizedPhoto(PhotoVariant.MEDIUM, new byte[400], "image/jpeg", 1080, 810)));
+        given(fileStorageService.uploadBytes(any(), eq("image/jpeg"), eq("photos/medium")))
+                .willThrow(new FileStorageException("upload failed"));
+
+        // when // then
+        assertThatThrownBy(() -> pipeline.process(new PhotoUploadedEvent(UUID.randomUUID(), photoId, photoUrl)))
+                .isInstanceOf(FileStorageException.class);
+        assertThat(meterRegistry.timer("photo.derivative").count()).isEqualTo(1);
+        verify(ddipEventRepository, never()).updatePhotoDerivatives(any(), any(), any());
+    }
+
+    @DisplayName("작업 스레드와 대기열이 가득 차면 새 작업은 버림")
+    @Test
+    void givenFullQueue_whenPhotoUploaded_thenEventIsRejected() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(fileStorageService.openFile(anyString())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("stop");
+        });
+
+        // when
+        pipeline.onPhotoUploaded(new PhotoUploadedEvent(UUID.randomUUID(), UUID.randomUUID(), photoUrl));
+        started.await(5, TimeUnit.SECONDS);
+        pipeline.onPhotoUploaded(new PhotoUploadedEvent(UUID.randomUUID(), UUID.randomUUID(), photoUrl));
+        pipeline.onPhotoUploaded(new PhotoUploadedEvent(UUID.randomUUID(), UUID.randomUUID(), photoUrl));
+        release.countDown();
+
+        // then
+        assertThat(meterRegistry.counter("photo.derivative.rejected").count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,33 @@
+package com.knu.ddip.ddipevent.application.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class FeedScoreTest {
+
+    private static final double NOW = 1_750_000_000.0;
+
+    @DisplayName("가깝고, 최신이고, 보상이 크고, 쉬울수록 점수가 높음")
+    @Test
+    void blendedTest() {
+        // given
+        double base = FeedScore.blended(100, NOW, 1000, 2);
+
+        // when // then
+        assertThat(FeedScore.blended(50, NOW, 1000, 2)).isGreaterThan(base);
+        assertThat(FeedScore.blended(100, NOW + 60, 1000, 2)).isGreaterThan(base);
+        assertThat(FeedScore.blended(100, NOW, 3000, 2)).isGreaterThan(base);
+        assertThat(FeedScore.blended(100, NOW, 1000, 1)).isGreaterThan(base);
+    }
+
+    @DisplayName("1시간 최신인 띱은 200m 더 가까운 띱과 같은 점수")
+    @Test
+    void tradeOffTest() {
+        // when // then
+        assertThat(FeedScore.blended(300, NOW + 3600, 1000, 2))
+                .isCloseTo(FeedScore.blended(100, NOW, 1000, 2), offset(1e-6));
+    }
+}
@@ -0,0 +1,57 @@
+package com.knu.ddip.ddipevent.application.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TopKTest {
+
+    @DisplayName("전체 정렬 후 앞쪽 k개와 같은 결과")
+    @Test
+    void topKTest() {
+        // given
+        List<Integer> values = new Random(42).ints(1000, 0, 10_000).boxed().toList();
+        TopK<Integer> topK = new TopK<>(20, Comparator.reverseOrder());
+
+        // when
+        values.forEach(topK::offer);
+
+        // then
+        assertThat(topK.size()).isEqualTo(20);
+        assertThat(topK.toSortedList())
+                .containsExactlyElementsOf(values.stream().sorted(Comparator.reverseOrder()).limit(20).toList());
+    }
+
+    @Test
+    void fewerThanKTest() {
+        // given
+        TopK<Integer> topK = new TopK<>(5, Comparator.naturalOrder());
+
+        // when
+        IntStream.of(3, 1, 2).forEach(topK::offer);
+
+        // then
+        assertThat(topK.toSortedList()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void zeroTest() {
+        // given
+        TopK<Integer> topK = new TopK<>(0, Comparator.naturalOrder());
+
+        // when
+        topK.offer(1);
+
+        // then
+        assertThat(topK.toSortedList()).isEmpty();
+        assertThatThrownBy(() -> new TopK<>(-1, Comparator.<Integer>naturalOrder()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
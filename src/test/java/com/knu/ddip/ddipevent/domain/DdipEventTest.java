@@ -435,4 +435,97 @@ class DdipEventTest {
         assertThatThrownBy(() -> ddipEvent.cancel(unauthorizedUserId))
                 .isInstanceOf(DdipBadRequestException.class);
     }
+
+    @DisplayName("띱 취소 실패 - 이미 완료된 띱")
+    @Test
+    void givenCompletedDdipEvent_whenCancel_thenDdipBadRequestExceptionIsThrown() {
+        // given
+        UUID responderId = UUID.randomUUID();
+        DdipEvent ddipEvent = DdipEvent.builder()
+                .requesterId(UUID.randomUUID())
+                .selectedResponderId(responderId)
+                .status(DdipStatus.COMPLETED)
+                .interactions(new ArrayList<>())
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> ddipEvent.cancel(responderId))
+                .isInstanceOf(DdipBadRequestException.class)
+                .hasMessage("이미 완료되었거나 취소된 띱입니다.");
+        assertThat(ddipEvent.getChanges().isEmpty()).isTrue();
+    }
+
+    @DisplayName("지원 시 저장할 변경분으로 지원자와 지원 기록만 남김")
+    @Test
+    void givenApplicantId_whenApply_thenOnlyAppendedChangesAreRecorded() {
+        // given
+        DdipEvent ddipEvent = DdipEvent.builder()
+                .requesterId(UUID.randomUUID())
+                .status(DdipStatus.OPEN)
+                .applicants(new ArrayList<>())
+                .interactions(new ArrayList<>())
+                .build();
+        UUID applicantId = UUID.randomUUID();
+
+        // when
+        ddipEvent.apply(applicantId);
+
+        // then
+        DdipEventChanges changes = ddipEvent.getChanges();
+        assertThat(changes.isStateChanged()).isFalse();
+        assertThat(changes.getAddedApplicants()).containsExactly(applicantId);
+        assertThat(changes.getAddedInteractions()).containsExactlyElementsOf(ddipEvent.getInteractions());
+        assertThat(changes.getAddedInteractions().get(0).getInteractionId()).isNotNull();
+    }
+
+    @DisplayName("수행자 선택 시 상태 변경을 변경분으로 남김")
+    @Test
+    void givenApplicant_whenSelectResponder_thenStateChangeIsRecorded() {
+        // given
+        UUID requesterId = UUID.randomUUID();
+        UUID responderId = UUID.randomUUID();
+        DdipEvent ddipEvent = DdipEvent.builder()
+                .requesterId(requesterId)
+                .status(DdipStatus.OPEN)
+                .applicants(new ArrayList<>(List.of(responderId)))
+                .interactions(new ArrayList<>())
+                .build();
+
+        // when
+        ddipEvent.selectResponder(requesterId, responderId);
+
+        // then
+        assertThat(ddipEvent.getChanges().isStateChanged()).isTrue();
+        assertThat(ddipEvent.getChanges().getAddedApplicants()).isEmpty();
+        assertThat(ddipEvent.getChanges().getAddedInteractions()).hasSize(1);
+    }
+
+    @DisplayName("저장 전인 사진에 남긴 피드백은 사진 insert에 포함되므로 별도 update로 남기지 않음")
+    @Test
+    void givenUnsavedPhoto_whenUpdatePhotoFeedback_thenPhotoIsNotRecordedAsUpdated() {
+        // given
+        UUID requesterId = UUID.randomUUID();
+        UUID responderId = UUID.randomUUID();
+        Photo savedPhoto = Photo.builder()
+                .photoId(UUID.randomUUID())
+                .status(PhotoStatus.PENDING)
+                .build();
+        DdipEvent ddipEvent = DdipEvent.builder()
+                .requesterId(requesterId)
+                .selectedResponderId(responderId)
+                .status(DdipStatus.IN_PROGRESS)
+                .photos(new ArrayList<>(List.of(savedPhoto)))
+                .interactions(new ArrayList<>())
+                .build();
+        ddipEvent.uploadPhoto(responderId, "photoUrl", 35.888, 128.61, "comment");
+        Photo newPhoto = ddipEvent.getPhotos().get(1);
+
+        // when
+        ddipEvent.updatePhotoFeedback(requesterId, newPhoto.getPhotoId(), PhotoStatus.APPROVED, null);
+        ddipEvent.updatePhotoFeedback(requesterId, savedPhoto.getPhotoId(), PhotoStatus.APPROVED, null);
+
+        // then
+        assertThat(ddipEvent.getChanges().getAddedPhotos()).containsExactly(newPhoto);
+        assertThat(ddipEvent.getChanges().getUpdatedPhotos()).containsExactly(savedPhoto);
+    }
 }
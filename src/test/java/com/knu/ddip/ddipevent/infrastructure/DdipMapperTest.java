@@ -1,5 +1,7 @@
 package com.knu.ddip.ddipevent.infrastructure;
 
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2LatLng;
 import com.knu.ddip.ddipevent.domain.*;
 import com.knu.ddip.ddipevent.infrastructure.entity.DdipEventEntity;
 import com.knu.ddip.ddipevent.infrastructure.entity.InteractionEntity;
@@ -28,11 +30,9 @@ class DdipMapperTest {
     void givenDdipEventDomainWithLists_whenToEntity_thenDdipEventEntityIsReturned() {
         // given
         Photo photo = Photo.builder().photoId(UUID.randomUUID()).build();
-        Interaction interaction = Interaction.builder().interactionId(UUID.randomUUID()).build();
         DdipEvent domain = DdipEvent.builder()
                 .id(UUID.randomUUID())
                 .photos(List.of(photo))
-                .interactions(List.of(interaction))
                 .latitude(0.0)
                 .longitude(0.0)
                 .build();
@@ -44,8 +44,6 @@ class DdipMapperTest {
         assertThat(entity.getId()).isEqualTo(domain.getId());
         assertThat(entity.getPhotos()).hasSize(1);
         assertThat(entity.getPhotos().get(0).getId()).isEqualTo(photo.getPhotoId());
-        assertThat(entity.getInteractions()).hasSize(1);
-        assertThat(entity.getInteractions().get(0).getId()).isEqualTo(interaction.getInteractionId());
     }
 
     @DisplayName("도메인을 엔티티로 변환 - Null 리스트")
@@ -66,19 +64,35 @@ class DdipMapperTest {
         // then
         assertThat(entity.getId()).isEqualTo(domain.getId());
         assertThat(entity.getPhotos()).isNotNull().isEmpty();
-        assertThat(entity.getInteractions()).isNotNull().isEmpty();
     }
 
-    @DisplayName("엔티티를 도메인으로 변환 - 모든 필드 포함")
+    @DisplayName("도메인을 엔티티로 변환 - 위치로 레벨 17 셀 id 계산")
+    @Test
+    void givenDdipEventDomain_whenToEntity_thenCellIdIsMapped() {
+        // given
+        DdipEvent domain = DdipEvent.builder()
+                .id(UUID.randomUUID())
+                .latitude(35.8886597)
+                .longitude(128.612138)
+                .build();
+
+        // when
+        DdipEventEntity entity = ddipMapper.toEntity(domain);
+
+        // then
+        S2CellId cellId = new S2CellId(entity.getCellId());
+        assertThat(cellId.level()).isEqualTo(17);
+        assertThat(cellId).isEqualTo(S2CellId.fromLatLng(S2LatLng.fromDegrees(35.8886597, 128.612138)).parent(17));
+    }
+
+    @DisplayName("엔티티를 도메인으로 변환 - 모든 필드 포함, 진행 기록은 따로 조회하므로 비어 있음")
     @Test
     void givenDdipEventEntityWithLists_whenToDomain_thenDdipEventDomainIsReturned() {
         // given
         PhotoEntity photoEntity = PhotoEntity.builder().id(UUID.randomUUID()).build();
-        InteractionEntity interactionEntity = InteractionEntity.builder().id(UUID.randomUUID()).build();
         DdipEventEntity entity = DdipEventEntity.builder()
                 .id(UUID.randomUUID())
                 .photos(List.of(photoEntity))
-                .interactions(List.of(interactionEntity))
                 .build();
 
         // when
@@ -88,8 +102,7 @@ class DdipMapperTest {
         assertThat(domain.getId()).isEqualTo(entity.getId());
         assertThat(domain.getPhotos()).hasSize(1);
         assertThat(domain.getPhotos().get(0).getPhotoId()).isEqualTo(photoEntity.getId());
-        assertThat(domain.getInteractions()).hasSize(1);
-        assertThat(domain.getInteractions().get(0).getInteractionId()).isEqualTo(interactionEntity.getId());
+        assertThat(domain.getInteractions()).isNotNull().isEmpty();
     }
 
     @DisplayName("엔티티를 도메인으로 변환 - Null 리스트")
@@ -99,7 +112,6 @@ class DdipMapperTest {
         DdipEventEntity entity = DdipEventEntity.builder()
                 .id(UUID.randomUUID())
                 .photos(null)
-                .interactions(null)
                 .build();
 
         // when
@@ -171,18 +183,13 @@ class DdipMapperTest {
                 .relatedPhotoId(relatedPhotoId)
                 .timestamp(timestamp)
                 .build();
-
-        DdipEvent domain = DdipEvent.builder()
-                .interactions(List.of(interaction))
-                .latitude(0.0)
-                .longitude(0.0)
-                .build();
+        UUID ddipEventId = UUID.randomUUID();
 
         // when
-        DdipEventEntity entity = ddipMapper.toEntity(domain);
+        InteractionEntity mappedInteraction = ddipMapper.toInteractionEntity(interaction, ddipEventId);
 
         // then
-        InteractionEntity mappedInteraction = entity.getInteractions().get(0);
+        assertThat(mappedInteraction.getSeq()).isNull();
         assertThat(mappedInteraction.getId()).isEqualTo(interactionId);
         assertThat(mappedInteraction.getActorId()).isEqualTo(actorId);
         assertThat(mappedInteraction.getActorRole()).isEqualTo(ActorRole.REQUESTER);
@@ -190,7 +197,7 @@ class DdipMapperTest {
         assertThat(mappedInteraction.getContent()).isEqualTo("테스트 코멘트");
         assertThat(mappedInteraction.getRelatedPhotoId()).isEqualTo(relatedPhotoId);
         assertThat(mappedInteraction.getTimestamp()).isEqualTo(timestamp);
-        assertThat(mappedInteraction.getDdipEvent()).isEqualTo(entity);
+        assertThat(mappedInteraction.getDdipEventId()).isEqualTo(ddipEventId);
     }
 
     @DisplayName("사진 엔티티를 도메인으로 매핑 - 모든 필드 포함")
@@ -242,6 +249,7 @@ class DdipMapperTest {
         UUID relatedPhotoId = UUID.randomUUID();
         Instant timestamp = Instant.now();
         InteractionEntity interactionEntity = InteractionEntity.builder()
+                .seq(42L)
                 .id(interactionId)
                 .actorId(actorId)
                 .actorRole(ActorRole.RESPONDER)
@@ -251,16 +259,12 @@ class DdipMapperTest {
                 .timestamp(timestamp)
                 .build();
 
-        DdipEventEntity entity = DdipEventEntity.builder()
-                .interactions(List.of(interactionEntity))
-                .build();
-
         // when
-        DdipEvent domain = ddipMapper.toDomain(entity);
+        Interaction mappedInteraction = ddipMapper.toInteraction(interactionEntity);
 
         // then
-        Interaction mappedInteraction = domain.getInteractions().get(0);
         assertThat(mappedInteraction.getInteractionId()).isEqualTo(interactionId);
+        assertThat(mappedInteraction.getSeq()).isEqualTo(42L);
         assertThat(mappedInteraction.getActorId()).isEqualTo(actorId);
         assertThat(mappedInteraction.getActorRole()).isEqualTo(ActorRole.RESPONDER);
         assertThat(mappedInteraction.getActionType()).isEqualTo(ActionType.ANSWER_QUESTION);
@@ -0,0 +1,68 @@
+package com.knu.ddip.ddipevent.infrastructure.image;
+
+import com.knu.ddip.ddipevent.application.dto.PhotoVariant;
+import com.knu.ddip.ddipevent.application.dto.ResizedPhoto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageIoPhotoResizerTest {
+
+    private final ImageIoPhotoResizer resizer = new ImageIoPhotoResizer();
+
+    @DisplayName("긴 변 기준으로 비율을 유지하며 축소본별 JPEG 생성")
+    @Test
+    void givenLargeImage_whenResize_thenVariantsKeepAspectRatio() throws IOException {
+        // given
+        byte[] original = encode(new BufferedImage(4000, 3000, BufferedImage.TYPE_INT_RGB), "png");
+
+        // when
+        List<ResizedPhoto> result = resizer.resize(original, List.of(PhotoVariant.THUMBNAIL, PhotoVariant.MEDIUM));
+
+        // then
+        assertThat(result).extracting(ResizedPhoto::variant)
+                .containsExactlyInAnyOrder(PhotoVariant.THUMBNAIL, PhotoVariant.MEDIUM);
+        for (ResizedPhoto resized : result) {
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(resized.bytes()));
+            assertThat(resized.contentType()).isEqualTo("image/jpeg");
+            assertThat(decoded.getWidth()).isEqualTo(resized.variant().maxDimension());
+            assertThat(decoded.getHeight()).isEqualTo(resized.variant().maxDimension() * 3 / 4);
+        }
+    }
+
+    @DisplayName("축소본보다 작은 원본은 키우지 않음")
+    @Test
+    void givenSmallImage_whenResize_thenImageIsNotUpscaled() throws IOException {
+        // given
+        byte[] original = encode(new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB), "png");
+
+        // when
+        List<ResizedPhoto> result = resizer.resize(original, List.of(PhotoVariant.MEDIUM));
+
+        // then
+        assertThat(result.get(0).width()).isEqualTo(200);
+        assertThat(result.get(0).height()).isEqualTo(100);
+    }
+
+    @Test
+    void givenNonImage_whenResize_thenIllegalArgumentExceptionIsThrown() {
+        // when // then
+        assertThatThrownBy(() -> resizer.resize("not an image".getBytes(), List.of(PhotoVariant.THUMBNAIL)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, format, output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,182 @@
+package com.knu.ddip.ddipevent.infrastructure.index;
+
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2LatLng;
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.dto.FeedEntry;
+import com.knu.ddip.ddipevent.application.dto.FeedQuery;
+import com.knu.ddip.ddipevent.application.dto.FeedSort;
+import com.knu.ddip.ddipevent.application.service.DdipEventRepository;
+import com.knu.ddip.ddipevent.application.util.DistanceConverter;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class FeedCellCacheTest {
+
+    // 경북대 화면 영역
+    private static final double SW_LAT = 35.8853838;
+    private static final double SW_LON = 128.6058911;
+    private static final double NE_LAT = 35.8955185;
+    private static final double NE_LON = 128.6140665;
+    // 일청담
+    private static final double ORIGIN_LAT = 35.8886597;
+    private static final double ORIGIN_LON = 128.612138;
+
+    @Mock
+    private DdipEventRepository ddipEventRepository;
+
+    private MeterRegistry meterRegistry;
+    private FeedCellCache cache;
+    private final List<DdipEventSummary> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new FeedCellCache(ddipEventRepository, new FeedPageRanker(new DistanceConverter()), meterRegistry);
+    }
+
+    @DisplayName("같은 화면을 다시 조회하면 셀 목록을 캐시에서 읽고 DB를 조회하지 않음")
+    @Test
+    void hitTest() {
+        // given
+        givenStoredInCellRange();
+        DdipEventSummary inside = store(ORIGIN_LAT, ORIGIN_LON, DdipStatus.COMPLETED);
+        store(NE_LAT + 0.01, NE_LON, DdipStatus.COMPLETED);
+
+        // when
+        List<FeedEntry> first = cache.findFeedPage(query(DdipStatus.COMPLETED)).orElseThrow();
+        double misses = meterRegistry.counter("ddip.feed.cache.miss").count();
+        List<FeedEntry> second = cache.findFeedPage(query(DdipStatus.COMPLETED)).orElseThrow();
+
+        // then
+        assertThat(first).extracting(FeedEntry::id).containsExactly(inside.id());
+        assertThat(second).isEqualTo(first);
+        assertThat(misses).isPositive();
+        assertThat(meterRegistry.counter("ddip.feed.cache.miss").count()).isEqualTo(misses);
+        assertThat(meterRegistry.counter("ddip.feed.cache.hit").count()).isEqualTo(misses);
+        assertThat(cache.size()).isEqualTo((int) misses);
+    }
+
+    @DisplayName("띱이 속한 셀만 무효화되어 그 셀만 다시 조회")
+    @Test
+    void invalidateTest() {
+        // given
+        givenStoredInCellRange();
+        cache.findFeedPage(query(DdipStatus.OPEN)).orElseThrow();
+        double misses = meterRegistry.counter("ddip.feed.cache.miss").count();
+        DdipEventSummary created = store(ORIGIN_LAT, ORIGIN_LON, DdipStatus.OPEN);
+
+        // when
+        cache.invalidate(cellIdOf(created));
+        List<FeedEntry> entries = cache.findFeedPage(query(DdipStatus.OPEN)).orElseThrow();
+
+        // then
+        assertThat(entries).extracting(FeedEntry::id).containsExactly(created.id());
+        assertThat(meterRegistry.counter("ddip.feed.cache.miss").count()).isEqualTo(misses + 1);
+    }
+
+    @DisplayName("TTL이 지났거나 최대 개수를 넘으면 만료")
+    @Test
+    void expireTest() {
+        // given
+        givenStoredInCellRange();
+        ReflectionTestUtils.setField(cache, "ttlMs", 0L);
+        cache.findFeedPage(query(DdipStatus.OPEN)).orElseThrow();
+        double misses = meterRegistry.counter("ddip.feed.cache.miss").count();
+
+        // when
+        cache.findFeedPage(query(DdipStatus.OPEN)).orElseThrow();
+        ReflectionTestUtils.setField(cache, "ttlMs", 30000L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 1);
+        cache.findFeedPage(query(DdipStatus.OPEN)).orElseThrow();
+
+        // then
+        assertThat(meterRegistry.counter("ddip.feed.cache.hit").count()).isZero();
+        assertThat(meterRegistry.counter("ddip.feed.cache.miss").count()).isEqualTo(misses * 3);
+        assertThat(meterRegistry.counter("ddip.feed.cache.eviction").count()).isPositive();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @DisplayName("화면이 너무 넓거나 셀 하나의 띱이 너무 많으면 DB로 넘김")
+    @Test
+    void bypassTest() {
+        // given
+        ReflectionTestUtils.setField(cache, "maxRowsPerCell", 1);
+        given(ddipEventRepository.findSummariesByStatusInCellRange(any(), anyLong(), anyLong(), anyInt()))
+                .willReturn(List.of(summary(ORIGIN_LAT, ORIGIN_LON, DdipStatus.OPEN), summary(ORIGIN_LAT, ORIGIN_LON, DdipStatus.OPEN)));
+
+        // when // then
+        assertThat(cache.findFeedPage(query(DdipStatus.OPEN))).isEmpty();
+        assertThat(cache.size()).isZero();
+
+        FeedQuery wide = new FeedQuery(33.0, 125.0, 38.0, 130.0, ORIGIN_LAT, ORIGIN_LON, DdipStatus.OPEN, FeedSort.DISTANCE, null, 10);
+        assertThat(cache.findFeedPage(wide)).isEmpty();
+        assertThat(meterRegistry.counter("ddip.feed.cache.bypass").count()).isEqualTo(2);
+    }
+
+    @DisplayName("캐시를 끄면 DB로 넘김")
+    @Test
+    void disabledTest() {
+        // given
+        ReflectionTestUtils.setField(cache, "enabled", false);
+
+        // when // then
+        assertThat(cache.findFeedPage(query(DdipStatus.OPEN))).isEmpty();
+        verify(ddipEventRepository, never()).findSummariesByStatusInCellRange(any(), anyLong(), anyLong(), anyInt());
+    }
+
+    // DB의 status, cell_id BETWEEN 조건을 흉내
+    private void givenStoredInCellRange() {
+        given(ddipEventRepository.findSummariesByStatusInCellRange(any(), anyLong(), anyLong(), anyInt()))
+                .willAnswer(invocation -> {
+                    DdipStatus status = invocation.getArgument(0);
+                    long minCellId = invocation.getArgument(1);
+                    long maxCellId = invocation.getArgument(2);
+                    return stored.stream()
+                            .filter(summary -> summary.status() == status)
+                            .filter(summary -> cellIdOf(summary) >= minCellId && cellIdOf(summary) <= maxCellId)
+                            .toList();
+                });
+    }
+
+    private DdipEventSummary store(double latitude, double longitude, DdipStatus status) {
+        DdipEventSummary summary = summary(latitude, longitude, status);
+        stored.add(summary);
+        return summary;
+    }
+
+    private long cellIdOf(DdipEventSummary summary) {
+        return S2CellId.fromLatLng(S2LatLng.fromDegrees(summary.latitude(), summary.longitude())).parent(17).id();
+    }
+
+    private FeedQuery query(DdipStatus status) {
+        return new FeedQuery(SW_LAT, SW_LON, NE_LAT, NE_LON, ORIGIN_LAT, ORIGIN_LON, status, FeedSort.DISTANCE, null, 10);
+    }
+
+    private DdipEventSummary summary(double latitude, double longitude, DdipStatus status) {
+        return new DdipEventSummary(UUID.randomUUID(), "title", 1000, latitude, longitude, status,
+                UUID.randomUUID(), Instant.now(), 0, "content", 1);
+    }
+}
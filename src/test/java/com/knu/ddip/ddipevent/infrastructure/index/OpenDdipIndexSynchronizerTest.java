@@ -0,0 +1,136 @@
+package com.knu.ddip.ddipevent.infrastructure.index;
+
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2LatLng;
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.event.DdipChangeType;
+import com.knu.ddip.ddipevent.application.event.DdipChangedEvent;
+import com.knu.ddip.ddipevent.application.service.DdipEventRepository;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OpenDdipIndexSynchronizerTest {
+
+    @InjectMocks
+    private OpenDdipIndexSynchronizer synchronizer;
+
+    @Mock
+    private OpenDdipIndex openDdipIndex;
+
+    @Mock
+    private FeedCellCache feedCellCache;
+
+    @Mock
+    private DdipEventRepository ddipEventRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(synchronizer, "enabled", true);
+        synchronizer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        synchronizer.shutdown();
+    }
+
+    @DisplayName("지원 이벤트는 DB에서 다시 조회해서 반영하고, 띱이 속한 셀 캐시를 무효화한 뒤 다른 서버에 무효화 메시지 발행")
+    @Test
+    void appliedEventTest() {
+        // given
+        DdipEventSummary summary = summary(UUID.randomUUID());
+        long cellId = S2CellId.fromLatLng(S2LatLng.fromDegrees(summary.latitude(), summary.longitude())).parent(17).id();
+        given(ddipEventRepository.findSummaryById(summary.id())).willReturn(Optional.of(summary));
+
+        // when
+        synchronizer.onDdipChanged(DdipChangedEvent.of(summary.id(), DdipChangeType.APPLIED));
+
+        // then
+        verify(openDdipIndex, timeout(1000)).put(summary);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, timeout(1000)).convertAndSend(eq(OpenDdipIndexSynchronizer.CHANNEL), message.capture());
+        assertThat(message.getValue()).endsWith("|" + summary.id() + "|" + cellId);
+        verify(feedCellCache).invalidate(cellId);
+        verify(ddipEventRepository, after(100).times(1)).findSummaryById(summary.id());
+    }
+
+    @DisplayName("마감 이벤트는 조회 없이 인덱스에서 제거하고 띱이 속한 셀 캐시를 무효화")
+    @Test
+    void closedEventTest() {
+        // given
+        DdipEventSummary summary = summary(UUID.randomUUID());
+        long cellId = S2CellId.fromLatLng(S2LatLng.fromDegrees(summary.latitude(), summary.longitude())).parent(17).id();
+
+        // when
+        synchronizer.onDdipChanged(DdipChangedEvent.of(DdipChangeType.CANCELED, summary));
+
+        // then
+        verify(feedCellCache).invalidate(cellId);
+        verify(openDdipIndex, timeout(1000)).remove(summary.id());
+        verify(ddipEventRepository, never()).findSummaryById(any());
+        verify(redisTemplate).convertAndSend(OpenDdipIndexSynchronizer.CHANNEL,
+                ReflectionTestUtils.getField(synchronizer, "nodeId") + "|" + summary.id() + "|" + cellId);
+    }
+
+    @DisplayName("다른 서버의 무효화 메시지만 반영하고 자기가 보낸 메시지는 무시")
+    @Test
+    void onMessageTest() {
+        // given
+        UUID ddipEventId = UUID.randomUUID();
+        String nodeId = (String) ReflectionTestUtils.getField(synchronizer, "nodeId");
+        given(ddipEventRepository.findSummaryById(ddipEventId)).willReturn(Optional.empty());
+
+        // when
+        synchronizer.onMessage(message(nodeId + "|" + UUID.randomUUID() + "|1"), null);
+        synchronizer.onMessage(message("other-node|" + ddipEventId + "|2"), null);
+
+        // then
+        verify(feedCellCache).invalidate(2L);
+        verify(feedCellCache, never()).invalidate(1L);
+        verify(openDdipIndex, timeout(1000)).remove(ddipEventId);
+        verify(ddipEventRepository, after(100).times(1)).findSummaryById(any());
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(OpenDdipIndexSynchronizer.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private DdipEventSummary summary(UUID id) {
+        return new DdipEventSummary(id, "title", 1000, 35.8886597, 128.612138, DdipStatus.OPEN,
+                UUID.randomUUID(), Instant.now(), 1, "content", 1);
+    }
+}
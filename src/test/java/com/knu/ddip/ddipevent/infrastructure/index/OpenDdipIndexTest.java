@@ -0,0 +1,178 @@
+package com.knu.ddip.ddipevent.infrastructure.index;
+
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.dto.FeedCursor;
+import com.knu.ddip.ddipevent.application.dto.FeedEntry;
+import com.knu.ddip.ddipevent.application.dto.FeedQuery;
+import com.knu.ddip.ddipevent.application.dto.FeedSort;
+import com.knu.ddip.ddipevent.application.util.DistanceConverter;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenDdipIndexTest {
+
+    // 경북대 화면 영역
+    private static final double SW_LAT = 35.8853838;
+    private static final double SW_LON = 128.6058911;
+    private static final double NE_LAT = 35.8955185;
+    private static final double NE_LON = 128.6140665;
+    // 일청담
+    private static final double ORIGIN_LAT = 35.8886597;
+    private static final double ORIGIN_LON = 128.612138;
+
+    private final DistanceConverter distanceConverter = new DistanceConverter();
+    private MeterRegistry meterRegistry;
+    private OpenDdipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new OpenDdipIndex(new FeedPageRanker(distanceConverter), meterRegistry);
+    }
+
+    @DisplayName("적재 전이거나 OPEN 외 상태를 조회하면 DB로 넘김")
+    @Test
+    void fallbackTest() {
+        // when // then
+        assertThat(index.findFeedPage(query(DdipStatus.OPEN, FeedSort.DISTANCE, null, 10))).isEmpty();
+
+        index.replaceAll(List.of());
+        assertThat(index.findFeedPage(query(DdipStatus.COMPLETED, FeedSort.DISTANCE, null, 10))).isEmpty();
+        assertThat(index.findFeedPage(query(DdipStatus.OPEN, FeedSort.DISTANCE, null, 10))).isPresent();
+        assertThat(meterRegistry.counter("ddip.feed.index.fallback").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ddip.feed.index.served").count()).isEqualTo(1);
+    }
+
+    @DisplayName("거리순 페이지를 커서로 이어 붙이면 영역 안의 띱 전체를 거리, id 순으로 한 번씩")
+    @Test
+    void distancePagesTest() {
+        // given
+        List<DdipEventSummary> inside = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            inside.add(summary(SW_LAT + 0.001 * (i + 1), SW_LON + 0.0008 * (i + 1), 1000, Instant.now()));
+        }
+        // 같은 위치 (거리 동률은 id 순)
+        inside.add(summary(SW_LAT + 0.001, SW_LON + 0.0008, 1000, Instant.now()));
+        // 경계 위
+        inside.add(summary(SW_LAT, SW_LON, 1000, Instant.now()));
+        DdipEventSummary outside = summary(NE_LAT + 0.01, NE_LON, 1000, Instant.now());
+
+        List<DdipEventSummary> all = new ArrayList<>(inside);
+        all.add(outside);
+        index.replaceAll(all);
+
+        List<String> expected = inside.stream()
+                .sorted(Comparator.comparingDouble((DdipEventSummary s) -> distanceConverter.haversineMeters(
+                                ORIGIN_LAT, ORIGIN_LON, s.latitude(), s.longitude()))
+                        .thenComparing(s -> s.id().toString()))
+                .map(s -> s.id().toString())
+                .toList();
+
+        // when
+        List<String> result = collectPages(FeedSort.DISTANCE, 3);
+
+        // then
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @DisplayName("최신순 정렬 키는 UNIX_TIMESTAMP(created_at)과 같은 소수점 6자리 초")
+    @Test
+    void newestSortKeyTest() {
+        // given
+        DdipEventSummary older = summary(ORIGIN_LAT, ORIGIN_LON, 1000, Instant.parse("2025-01-01T00:00:00.123456Z"));
+        DdipEventSummary newer = summary(ORIGIN_LAT, ORIGIN_LON, 1000, Instant.parse("2025-01-01T00:00:01Z"));
+        index.replaceAll(List.of(older, newer));
+
+        // when
+        List<FeedEntry> entries = index.findFeedPage(query(DdipStatus.OPEN, FeedSort.NEWEST, null, 10)).orElseThrow();
+
+        // then
+        assertThat(entries).extracting(FeedEntry::sortKey).containsExactly("1735689601.000000", "1735689600.123456");
+        assertThat(entries).extracting(FeedEntry::id).containsExactly(newer.id(), older.id());
+    }
+
+    @DisplayName("보상순은 보상 높은순, 같으면 id 순으로 커서 이후만")
+    @Test
+    void rewardCursorTest() {
+        // given
+        List<DdipEventSummary> summaries = List.of(
+                summary(ORIGIN_LAT, ORIGIN_LON, 3000, Instant.now()),
+                summary(ORIGIN_LAT, ORIGIN_LON, 1000, Instant.now()),
+                summary(ORIGIN_LAT, ORIGIN_LON, 1000, Instant.now()),
+                summary(ORIGIN_LAT, ORIGIN_LON, 2000, Instant.now()));
+        index.replaceAll(summaries);
+        List<String> expected = summaries.stream()
+                .sorted(Comparator.comparing(DdipEventSummary::reward).reversed().thenComparing(s -> s.id().toString()))
+                .map(s -> s.id().toString())
+                .toList();
+
+        // when
+        List<String> result = collectPages(FeedSort.REWARD, 1);
+
+        // then
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+
+    @DisplayName("OPEN이 아니게 된 띱은 제거되고, 갱신된 요약으로 교체")
+    @Test
+    void putAndRemoveTest() {
+        // given
+        DdipEventSummary first = summary(ORIGIN_LAT, ORIGIN_LON, 1000, Instant.now());
+        DdipEventSummary second = summary(ORIGIN_LAT, ORIGIN_LON, 1000, Instant.now());
+        index.replaceAll(List.of(first, second));
+
+        // when
+        index.put(withStatus(first, DdipStatus.IN_PROGRESS));
+        index.put(new DdipEventSummary(second.id(), second.title(), second.reward(), second.latitude(), second.longitude(),
+                DdipStatus.OPEN, second.requesterId(), second.createdAt(), 5, second.contentPreview(), second.difficulty()));
+
+        // then
+        List<FeedEntry> entries = index.findFeedPage(query(DdipStatus.OPEN, FeedSort.DISTANCE, null, 10)).orElseThrow();
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(entries).extracting(FeedEntry::id).containsExactly(second.id());
+        assertThat(entries.get(0).summary().applicantCount()).isEqualTo(5);
+
+        index.remove(second.id());
+        assertThat(index.findFeedPage(query(DdipStatus.OPEN, FeedSort.DISTANCE, null, 10)).orElseThrow()).isEmpty();
+    }
+
+    private List<String> collectPages(FeedSort sort, int pageSize) {
+        List<String> result = new ArrayList<>();
+        FeedCursor cursor = null;
+        while (true) {
+            List<FeedEntry> page = index.findFeedPage(query(DdipStatus.OPEN, sort, cursor, pageSize)).orElseThrow();
+            page.forEach(entry -> result.add(entry.id().toString()));
+            if (page.size() < pageSize) {
+                return result;
+            }
+            FeedEntry last = page.get(page.size() - 1);
+            cursor = FeedCursor.decode(new FeedCursor(sort, last.sortKey(), last.id()).encode(), sort);
+        }
+    }
+
+    private FeedQuery query(DdipStatus status, FeedSort sort, FeedCursor cursor, int limit) {
+        return new FeedQuery(SW_LAT, SW_LON, NE_LAT, NE_LON, ORIGIN_LAT, ORIGIN_LON, status, sort, cursor, limit);
+    }
+
+    private DdipEventSummary summary(double latitude, double longitude, int reward, Instant createdAt) {
+        return new DdipEventSummary(UUID.randomUUID(), "title", reward, latitude, longitude, DdipStatus.OPEN,
+                UUID.randomUUID(), createdAt, 0, "content", 1);
+    }
+
+    private DdipEventSummary withStatus(DdipEventSummary summary, DdipStatus status) {
+        return new DdipEventSummary(summary.id(), summary.title(), summary.reward(), summary.latitude(), summary.longitude(),
+                status, summary.requesterId(), summary.createdAt(), summary.applicantCount(), summary.contentPreview(), summary.difficulty());
+    }
+}
@@ -0,0 +1,90 @@
+package com.knu.ddip.ddipevent.infrastructure.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.dto.DdipLiveDelta;
+import com.knu.ddip.ddipevent.application.event.DdipChangeType;
+import com.knu.ddip.ddipevent.application.event.DdipChangedEvent;
+import com.knu.ddip.ddipevent.application.service.LiveFeedSubscriptions;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DdipLiveFeedRelayTest {
+
+    @Mock
+    private LiveFeedSubscriptions liveFeedSubscriptions;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private DdipLiveFeedRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        relay = new DdipLiveFeedRelay(liveFeedSubscriptions, redisTemplate, redisMessageListenerContainer, objectMapper);
+    }
+
+    @DisplayName("상태 변경은 이 서버에 바로 전달하고 다른 서버가 받은 그대로 복원")
+    @Test
+    void relayTest() {
+        // given
+        DdipEventSummary summary = new DdipEventSummary(UUID.randomUUID(), "title", 1000, 35.8886597, 128.612138,
+                DdipStatus.COMPLETED, UUID.randomUUID(), Instant.parse("2025-01-01T00:00:00.123456Z"), 2, "content", 1);
+        DdipLiveDelta delta = new DdipLiveDelta(DdipChangeType.COMPLETED, summary);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+
+        // when
+        relay.onDdipChanged(DdipChangedEvent.of(DdipChangeType.COMPLETED, summary));
+        verify(redisTemplate).convertAndSend(eq(DdipLiveFeedRelay.CHANNEL), message.capture());
+        relay.onMessage(message(message.getValue()), null);
+        relay.onMessage(message("other-node" + message.getValue().substring(message.getValue().indexOf('|'))), null);
+
+        // then
+        // 자기가 보낸 메시지는 무시하므로 로컬 1번, 다른 서버 메시지 1번
+        verify(liveFeedSubscriptions, times(2)).dispatch(delta);
+    }
+
+    @DisplayName("요약이 없는 지원 이벤트는 보내지 않음")
+    @Test
+    void skipAppliedTest() {
+        // when
+        relay.onDdipChanged(DdipChangedEvent.of(UUID.randomUUID(), DdipChangeType.APPLIED));
+
+        // then
+        verify(liveFeedSubscriptions, never()).dispatch(any());
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(DdipLiveFeedRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
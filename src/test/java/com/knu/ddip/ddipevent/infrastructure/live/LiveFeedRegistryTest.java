@@ -0,0 +1,137 @@
+package com.knu.ddip.ddipevent.infrastructure.live;
+
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2LatLng;
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.dto.DdipLiveDelta;
+import com.knu.ddip.ddipevent.application.event.DdipChangeType;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveFeedRegistryTest {
+
+    // 일청담
+    private static final double LAT = 35.8886597;
+    private static final double LNG = 128.612138;
+
+    private final S2CellId cell = S2CellId.fromLatLng(S2LatLng.fromDegrees(LAT, LNG)).parent(17);
+
+    private MeterRegistry meterRegistry;
+    private LiveFeedRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new LiveFeedRegistry(meterRegistry);
+    }
+
+    @DisplayName("구독한 셀 안의 변경만 전달")
+    @Test
+    void dispatchTest() throws InterruptedException {
+        // given
+        RecordingSink inside = new RecordingSink();
+        RecordingSink neighbor = new RecordingSink();
+        registry.register(List.of(cell), inside);
+        // 같은 레벨 13 부모 아래의 다른 셀
+        registry.register(List.of(cell.next()), neighbor);
+        DdipLiveDelta delta = delta(LAT, LNG);
+
+        // when
+        registry.dispatch(delta);
+        registry.dispatch(delta(LAT + 1, LNG));
+
+        // then
+        assertThat(inside.deltas.poll(5, TimeUnit.SECONDS)).isEqualTo(delta);
+        assertThat(inside.deltas.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(neighbor.deltas).isEmpty();
+    }
+
+    @DisplayName("버퍼가 가득 찬 느린 구독자는 끊고 다른 구독자는 계속 받음")
+    @Test
+    void dropSlowSubscriberTest() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(registry, "bufferSize", 2);
+        RecordingSink slow = new RecordingSink();
+        slow.gate = new CountDownLatch(1);
+        RecordingSink fast = new RecordingSink();
+        registry.register(List.of(cell), slow);
+        registry.register(List.of(cell), fast);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            registry.dispatch(delta(LAT, LNG));
+            // 빠른 구독자는 매번 비워짐
+            assertThat(fast.deltas.poll(5, TimeUnit.SECONDS)).isNotNull();
+        }
+        slow.gate.countDown();
+
+        // then
+        assertThat(slow.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.counter("ddip.live.dropped").count()).isEqualTo(1);
+        assertThat(registry.subscriberCount()).isEqualTo(1);
+    }
+
+    @DisplayName("구독을 취소하면 더 이상 전달하지 않고 연결을 닫음")
+    @Test
+    void cancelTest() throws InterruptedException {
+        // given
+        RecordingSink sink = new RecordingSink();
+        LiveFeedRegistry.Subscription subscription = registry.register(List.of(cell), sink);
+
+        // when
+        subscription.cancel();
+        registry.dispatch(delta(LAT, LNG));
+
+        // then
+        assertThat(sink.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(sink.deltas).isEmpty();
+        assertThat(registry.subscriberCount()).isZero();
+    }
+
+    private DdipLiveDelta delta(double latitude, double longitude) {
+        return new DdipLiveDelta(DdipChangeType.CREATED, new DdipEventSummary(UUID.randomUUID(), "title", 1000,
+                latitude, longitude, DdipStatus.OPEN, UUID.randomUUID(), Instant.now(), 0, "content", 1));
+    }
+
+    private static class RecordingSink implements LiveFeedSink {
+
+        private final BlockingQueue<DdipLiveDelta> deltas = new LinkedBlockingQueue<>();
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        @Override
+        public void send(DdipLiveDelta delta) {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            deltas.add(delta);
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
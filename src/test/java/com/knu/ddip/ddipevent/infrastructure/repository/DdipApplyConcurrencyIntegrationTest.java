@@ -0,0 +1,118 @@
+package com.knu.ddip.ddipevent.infrastructure.repository;
+
+import com.knu.ddip.config.IntegrationTestConfig;
+import com.knu.ddip.config.MySQLTestContainerConfig;
+import com.knu.ddip.config.RedisTestContainerConfig;
+import com.knu.ddip.config.TestEnvironmentConfig;
+import com.knu.ddip.ddipevent.domain.DdipEvent;
+import com.knu.ddip.ddipevent.domain.Interaction;
+import com.knu.ddip.user.infrastructure.repository.UserRepositoryImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 스레드마다 별도 트랜잭션으로 커밋되어야 하므로 @Transactional 없이 직접 정리
+@SpringBootTest
+@ExtendWith({RedisTestContainerConfig.class, MySQLTestContainerConfig.class, TestEnvironmentConfig.class})
+@Import({IntegrationTestConfig.class, UserRepositoryImpl.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DdipApplyConcurrencyIntegrationTest {
+
+    private static final int APPLICANT_COUNT = 2000;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    DdipEventRepositoryImpl ddipEventRepositoryImpl;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private UUID eventId;
+
+    @AfterEach
+    void tearDown() {
+        if (eventId == null) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM ddip_interaction WHERE ddip_event_id = ?", eventId.toString());
+        jdbcTemplate.update("DELETE FROM ddip_applicant WHERE ddip_event_id = ?", eventId.toString());
+        jdbcTemplate.update("DELETE FROM ddip_event WHERE id = ?", eventId.toString());
+    }
+
+    @DisplayName("한 띱에 동시에 몰린 지원은 중복 없이 하나도 빠짐없이 반영")
+    @Test
+    void concurrentApplyTest() throws Exception {
+        // given
+        eventId = ddipEventRepositoryImpl.save(
+                DdipEvent.create("융복합관", "융복합관", 100000, 35.8880089, 128.6114594, 1, UUID.randomUUID())).getId();
+
+        List<UUID> applicants = IntStream.range(0, APPLICANT_COUNT).mapToObj(i -> UUID.randomUUID()).toList();
+        // 모든 사용자가 두 번씩 지원 (중복 클릭)
+        List<UUID> requests = new ArrayList<>(applicants);
+        requests.addAll(applicants);
+        Collections.shuffle(requests);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (UUID applicantId : requests) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    if (ddipEventRepositoryImpl.addApplicant(eventId, applicantId, Interaction.apply(applicantId))) {
+                        accepted.incrementAndGet();
+                    } else {
+                        rejected.incrementAndGet();
+                    }
+                } catch (ConcurrencyFailureException e) {
+                    // 같은 키를 동시에 넣는 중복 요청끼리는 데드락 희생자로 롤백될 수 있음
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        // when
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(accepted.get()).isEqualTo(APPLICANT_COUNT);
+        assertThat(rejected.get()).isEqualTo(APPLICANT_COUNT);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT applicant_id) FROM ddip_applicant WHERE ddip_event_id = ?", Integer.class, eventId.toString()))
+                .isEqualTo(APPLICANT_COUNT);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ddip_applicant WHERE ddip_event_id = ?", Integer.class, eventId.toString()))
+                .isEqualTo(APPLICANT_COUNT);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ddip_interaction WHERE ddip_event_id = ? AND action_type = 'APPLY'", Integer.class, eventId.toString()))
+                .isEqualTo(APPLICANT_COUNT);
+    }
+}
@@ -4,23 +4,42 @@ import com.knu.ddip.config.IntegrationTestConfig;
 import com.knu.ddip.config.MySQLTestContainerConfig;
 import com.knu.ddip.config.RedisTestContainerConfig;
 import com.knu.ddip.config.TestEnvironmentConfig;
+import com.knu.ddip.ddipevent.application.dto.FeedCursor;
+import com.knu.ddip.ddipevent.application.dto.DdipEventFeedPageDto;
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummaryDto;
+import com.knu.ddip.ddipevent.application.dto.FeedEntry;
+import com.knu.ddip.ddipevent.application.dto.FeedQuery;
+import com.knu.ddip.ddipevent.application.dto.FeedRequestDto;
+import com.knu.ddip.ddipevent.application.dto.FeedSort;
+import com.knu.ddip.ddipevent.application.service.DdipService;
 import com.knu.ddip.ddipevent.domain.DdipEvent;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import com.knu.ddip.ddipevent.domain.Interaction;
 import com.knu.ddip.location.application.util.S2Converter;
 import com.knu.ddip.user.infrastructure.repository.UserRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import static com.knu.ddip.ddipevent.infrastructure.init.SpatialIndexInitializer.SPATIAL_INDEX_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+// 저장 후 커밋하지 않고 DB 피드 쿼리를 검증하므로 메모리 피드 인덱스는 끔
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true", "ddip.feed-index.enabled=false"})
 @Transactional
 @ExtendWith({RedisTestContainerConfig.class, MySQLTestContainerConfig.class, TestEnvironmentConfig.class})
 @Import({IntegrationTestConfig.class, UserRepositoryImpl.class})
@@ -33,9 +52,35 @@ class DdipEventRepositoryImplIntegrationTest {
     DdipEventRepositoryImpl ddipEventRepositoryImpl;
     @Autowired
     S2Converter s2Converter;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    DdipService ddipService;
+    @Autowired
+    InteractionRepositoryImpl interactionRepositoryImpl;
+    @Autowired
+    EntityManager entityManager;
+
+    @DisplayName("화면 영역 조회는 local_point spatial 인덱스를 사용")
+    @Test
+    void viewportQueryUsesSpatialIndexTest() {
+        // when
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("""
+                EXPLAIN SELECT * FROM ddip_event
+                WHERE MBRCovers(
+                        ST_SRID(ST_MakeEnvelope(POINT(128.6058911, 35.8853838), POINT(128.6140665, 35.8955185)), 4326),
+                        local_point)
+                ORDER BY ST_Distance_Sphere(ST_SRID(POINT(128.6121487, 35.8886499), 4326), local_point)
+                """);
+
+        // then
+        assertThat(plan).hasSize(1);
+        assertThat((String) plan.get(0).get("possible_keys")).contains(SPATIAL_INDEX_NAME);
+    }
 
+    @DisplayName("피드 keyset 조회는 커서 이후부터 이어서 조회")
     @Test
-    void findWithinBoundsTest() {
+    void findFeedPageTest() {
         // given
         List<DdipEvent> ddipEvents = List.of(
                 DdipEvent.create("대운동장", "대운동장", 1, 35.8880523, 128.6058911, 1, UUID.randomUUID()),
@@ -45,14 +90,95 @@ class DdipEventRepositoryImplIntegrationTest {
         for (DdipEvent ddipEvent : ddipEvents) {
             ddipEventRepositoryImpl.save(ddipEvent);
         }
+        FeedQuery firstPage = new FeedQuery(35.8853838, 128.6058911, 35.8955185, 128.6140665,
+                35.8886499, 128.6121487, DdipStatus.OPEN, FeedSort.DISTANCE, null, 2);
+
+        // when
+        List<FeedEntry> first = ddipEventRepositoryImpl.findFeedPage(firstPage);
+        FeedEntry last = first.get(first.size() - 1);
+        List<FeedEntry> second = ddipEventRepositoryImpl.findFeedPage(new FeedQuery(35.8853838, 128.6058911, 35.8955185, 128.6140665,
+                35.8886499, 128.6121487, DdipStatus.OPEN, FeedSort.DISTANCE, new FeedCursor(FeedSort.DISTANCE, last.sortKey(), last.id()), 2));
+
+        // then
+        assertThat(first).extracting(entry -> entry.summary().title())
+                .containsExactly("융복합관", "공대9호관");
+        assertThat(second).extracting(entry -> entry.summary().title())
+                .containsExactly("대운동장");
+    }
+
+    @DisplayName("피드 한 페이지는 지연 로딩 없이 쿼리 한 번으로 조회")
+    @Test
+    void getDdipEventFeedExecutesSingleStatementTest() {
+        // given
+        String longContent = "가".repeat(300);
+        DdipEvent applied = ddipEventRepositoryImpl.save(
+                DdipEvent.create("융복합관", longContent, 1, 35.8880089, 128.6114594, 1, UUID.randomUUID()));
+        ddipEventRepositoryImpl.save(applied.apply(UUID.randomUUID()).apply(UUID.randomUUID()));
+        ddipEventRepositoryImpl.save(DdipEvent.create("공대9호관", "공대9호관", 1, 35.8868876, 128.6082622, 1, UUID.randomUUID()));
+        ddipEventRepositoryImpl.save(DdipEvent.create("대운동장", "대운동장", 1, 35.8880523, 128.6058911, 1, UUID.randomUUID()));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        DdipEventFeedPageDto page = ddipService.getDdipEventFeed(new FeedRequestDto(35.8853838, 128.6058911, 35.8955185, 128.6140665,
+                "distance", 35.8886499, 128.6121487, null, null, 2));
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(page.events()).extracting(DdipEventSummaryDto::title)
+                .containsExactly("융복합관", "공대9호관");
+        assertThat(page.events().get(0).applicantCount()).isEqualTo(2);
+        assertThat(page.events().get(0).content()).isEqualTo("가".repeat(100));
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @DisplayName("지원 저장 쿼리 수는 기존 지원, 기록 수와 무관하게 일정")
+    @Test
+    void applyWritesConstantStatementsTest() {
+        // given
+        UUID few = saveAppliedDdipEvent(1);
+        UUID many = saveAppliedDdipEvent(30);
 
         // when
-        List<DdipEvent> sortDdipEvents = ddipEventRepositoryImpl.findWithinBounds(35.8853838, 128.6058911, 35.8955185, 128.6140665, "sort", 35.8886499, 128.6121487); // 일청담
+        long fewStatements = countStatementsOfApply(few);
+        long manyStatements = countStatementsOfApply(many);
 
         // then
-        assertThat(sortDdipEvents).hasSize(3)
-                .extracting(DdipEvent::getContent)
-                .containsExactly("융복합관", "공대9호관", "대운동장"); // 거리 가까운 순 정렬
+        assertThat(fewStatements).isEqualTo(3); // 버전 비교 update + 지원자 insert + 지원 기록 insert
+        assertThat(manyStatements).isEqualTo(fewStatements);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM ddip_applicant WHERE ddip_event_id = ?", Long.class, many.toString()))
+                .isEqualTo(31);
+        List<Interaction> history = interactionRepositoryImpl.findHistory(many, null, 100);
+        assertThat(history).hasSize(31);
+        assertThat(history).extracting(Interaction::getSeq).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    private UUID saveAppliedDdipEvent(int applicantCount) {
+        DdipEvent ddipEvent = ddipEventRepositoryImpl.save(
+                DdipEvent.create("융복합관", "융복합관", 1, 35.8880089, 128.6114594, 1, UUID.randomUUID()));
+        for (int i = 0; i < applicantCount; i++) {
+            ddipEvent.apply(UUID.randomUUID());
+        }
+        ddipEventRepositoryImpl.save(ddipEvent);
+        entityManager.flush();
+        entityManager.clear();
+        return ddipEvent.getId();
     }
 
-}
\ No newline at end of file
+    private long countStatementsOfApply(UUID ddipEventId) {
+        DdipEvent ddipEvent = ddipEventRepositoryImpl.findById(ddipEventId).orElseThrow();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ddipEventRepositoryImpl.save(ddipEvent.apply(UUID.randomUUID()));
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+}
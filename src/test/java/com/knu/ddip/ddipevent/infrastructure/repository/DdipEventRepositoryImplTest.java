@@ -1,22 +1,45 @@
 package com.knu.ddip.ddipevent.infrastructure.repository;
 
+import com.knu.ddip.ddipevent.application.dto.FeedCursor;
+import com.knu.ddip.ddipevent.application.dto.FeedEntry;
+import com.knu.ddip.ddipevent.application.dto.FeedQuery;
+import com.knu.ddip.ddipevent.application.dto.FeedSort;
+import com.knu.ddip.ddipevent.application.util.DistanceConverter;
 import com.knu.ddip.ddipevent.domain.DdipEvent;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import com.knu.ddip.ddipevent.domain.Interaction;
 import com.knu.ddip.ddipevent.infrastructure.DdipMapper;
 import com.knu.ddip.ddipevent.infrastructure.entity.DdipEventEntity;
+import com.knu.ddip.ddipevent.infrastructure.entity.InteractionEntity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class DdipEventRepositoryImplTest {
@@ -27,9 +50,20 @@ class DdipEventRepositoryImplTest {
     @Mock
     private DdipEventJpaRepository ddipEventJpaRepository;
 
+    @Mock
+    private PhotoJpaRepository photoJpaRepository;
+
+    @Mock
+    private InteractionJpaRepository interactionJpaRepository;
+
     @Mock
     private DdipMapper ddipMapper;
 
+    @Spy
+    private DistanceConverter distanceConverter;
+
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
     @DisplayName("띱 이벤트 저장 성공")
     @Test
     void givenDdipEvent_whenSave_thenDdipEventIsReturned() {
@@ -51,6 +85,89 @@ class DdipEventRepositoryImplTest {
         verify(ddipMapper).toDomain(ddipEventEntity);
     }
 
+    @DisplayName("기존 띱 저장 시 전체 그래프 대신 바뀐 부분만 반영")
+    @Test
+    void givenAppliedDdipEvent_whenSave_thenOnlyChangesAreWritten() {
+        // given
+        UUID id = UUID.randomUUID();
+        UUID applicantId = UUID.randomUUID();
+        DdipEvent ddipEvent = DdipEvent.builder()
+                .id(id)
+                .requesterId(UUID.randomUUID())
+                .status(DdipStatus.OPEN)
+                .applicants(new ArrayList<>())
+                .interactions(new ArrayList<>())
+                .version(0L)
+                .build();
+        ddipEvent.apply(applicantId);
+        Interaction applied = ddipEvent.getInteractions().get(0);
+        InteractionEntity appliedEntity = InteractionEntity.builder().id(applied.getInteractionId()).build();
+        given(ddipEventJpaRepository.increaseVersion(id, 0L)).willReturn(1);
+        given(ddipMapper.toInteractionEntity(applied, id)).willReturn(appliedEntity);
+
+        // when
+        DdipEvent savedDdipEvent = ddipEventRepository.save(ddipEvent);
+
+        // then
+        assertThat(savedDdipEvent).isSameAs(ddipEvent);
+        assertThat(savedDdipEvent.getChanges().isEmpty()).isTrue();
+        assertThat(savedDdipEvent.getVersion()).isEqualTo(1L);
+        verify(ddipEventJpaRepository).insertApplicant(id.toString(), applicantId.toString());
+        verify(interactionJpaRepository).save(appliedEntity);
+        verify(ddipEventJpaRepository, never()).updateState(any(), any(), any(), any());
+        verify(ddipEventJpaRepository, never()).save(any(DdipEventEntity.class));
+        verifyNoInteractions(photoJpaRepository);
+    }
+
+    @DisplayName("조회 이후 다른 요청이 먼저 상태를 바꿨으면 아무것도 쓰지 않고 충돌 예외")
+    @Test
+    void givenStaleVersion_whenSave_thenOptimisticLockingFailureExceptionIsThrown() {
+        // given
+        UUID id = UUID.randomUUID();
+        UUID requesterId = UUID.randomUUID();
+        DdipEvent ddipEvent = DdipEvent.builder()
+                .id(id)
+                .requesterId(requesterId)
+                .status(DdipStatus.OPEN)
+                .applicants(new ArrayList<>())
+                .interactions(new ArrayList<>())
+                .version(3L)
+                .build();
+        ddipEvent.cancel(requesterId);
+        given(ddipEventJpaRepository.updateState(id, DdipStatus.CANCELED, null, 3L)).willReturn(0);
+
+        // when // then
+        assertThatThrownBy(() -> ddipEventRepository.save(ddipEvent))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(ddipEvent.getVersion()).isEqualTo(3L);
+        verifyNoInteractions(interactionJpaRepository);
+    }
+
+    @DisplayName("지원자가 추가됐을 때만 지원 기록 저장")
+    @Test
+    void givenInsertResult_whenAddApplicant_thenInteractionIsSavedOnlyWhenInserted() {
+        // given
+        UUID id = UUID.randomUUID();
+        UUID applicantId = UUID.randomUUID();
+        UUID duplicateId = UUID.randomUUID();
+        Interaction applied = Interaction.apply(applicantId);
+        InteractionEntity appliedEntity = InteractionEntity.builder().id(applied.getInteractionId()).build();
+
+        given(ddipEventJpaRepository.insertApplicantIfOpen(id.toString(), applicantId.toString())).willReturn(1);
+        given(ddipEventJpaRepository.insertApplicantIfOpen(id.toString(), duplicateId.toString())).willReturn(0);
+        given(ddipMapper.toInteractionEntity(applied, id)).willReturn(appliedEntity);
+
+        // when
+        boolean added = ddipEventRepository.addApplicant(id, applicantId, applied);
+        boolean duplicated = ddipEventRepository.addApplicant(id, duplicateId, Interaction.apply(duplicateId));
+
+        // then
+        assertThat(added).isTrue();
+        assertThat(duplicated).isFalse();
+        verify(interactionJpaRepository).save(appliedEntity);
+        verify(ddipMapper).toInteractionEntity(any(), any());
+    }
+
     @DisplayName("ID로 띱 이벤트 조회 성공")
     @Test
     void givenId_whenFindById_thenOptionalOfDdipEventIsReturned() {
@@ -71,4 +188,83 @@ class DdipEventRepositoryImplTest {
         verify(ddipEventJpaRepository).findById(id);
         verify(ddipMapper).toDomain(ddipEventEntity);
     }
+
+    @DisplayName("추천순은 후보를 스트리밍하며 점수 상위 limit 개만 반환")
+    @Test
+    void givenBlendedSort_whenFindFeedPage_thenTopScoredSummariesAreReturned() {
+        // given
+        UUID near = UUID.randomUUID();
+        UUID far = UUID.randomUUID();
+        UUID newest = UUID.randomUUID();
+        List<Object[]> rows = List.of(
+                candidate(near, 35.5001, 128.5, 1_750_000_000L),
+                candidate(far, 35.51, 128.5, 1_750_000_000L),
+                candidate(newest, 35.5001, 128.5, 1_750_003_600L));
+
+        given(ddipEventJpaRepository.streamFeedCandidates(35.0, 128.0, 36.0, 129.0, "OPEN"))
+                .willAnswer(invocation -> rows.stream());
+        // IN 조회 결과는 순서를 보장하지 않으므로 역순으로 반환
+        given(ddipEventJpaRepository.findSummariesByIdIn(anyList()))
+                .willAnswer(invocation -> {
+                    List<String> ids = invocation.getArgument(0);
+                    return ids.reversed().stream().map(id -> summaryRow(id, null)).toList();
+                });
+
+        FeedQuery firstPage = new FeedQuery(35.0, 128.0, 36.0, 129.0, 35.5, 128.5,
+                DdipStatus.OPEN, FeedSort.BLENDED, null, 2);
+
+        // when
+        List<FeedEntry> first = ddipEventRepository.findFeedPage(firstPage);
+        FeedEntry last = first.get(first.size() - 1);
+        List<FeedEntry> second = ddipEventRepository.findFeedPage(new FeedQuery(35.0, 128.0, 36.0, 129.0, 35.5, 128.5,
+                DdipStatus.OPEN, FeedSort.BLENDED, new FeedCursor(FeedSort.BLENDED, last.sortKey(), last.id()), 2));
+
+        // then
+        assertThat(first).extracting(FeedEntry::id).containsExactly(newest, near);
+        assertThat(second).extracting(FeedEntry::id).containsExactly(far);
+    }
+
+    @DisplayName("피드 요약 조회 결과를 정렬 키와 함께 요약 모델로 변환")
+    @Test
+    void givenDistanceSort_whenFindFeedPage_thenSummaryRowsAreConverted() {
+        // given
+        UUID id = UUID.randomUUID();
+        given(ddipEventJpaRepository.findFeedPageByDistance(35.0, 128.0, 36.0, 129.0, 35.5, 128.5, "OPEN", null, null, 21))
+                .willReturn(List.of(summaryRow(id.toString(), 120.5)));
+
+        FeedQuery query = new FeedQuery(35.0, 128.0, 36.0, 129.0, 35.5, 128.5,
+                DdipStatus.OPEN, FeedSort.DISTANCE, null, 21);
+
+        // when
+        List<FeedEntry> entries = ddipEventRepository.findFeedPage(query);
+
+        // then
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).sortKey()).isEqualTo("120.5");
+        assertThat(entries.get(0).summary().id()).isEqualTo(id);
+        assertThat(entries.get(0).summary().status()).isEqualTo(DdipStatus.OPEN);
+        assertThat(entries.get(0).summary().applicantCount()).isEqualTo(3);
+        assertThat(entries.get(0).summary().createdAt()).isEqualTo(Instant.ofEpochSecond(1_750_000_000L));
+    }
+
+    private DdipEventSummaryView summaryRow(String id, Object sortKey) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("title", "title");
+        row.put("reward", 1000);
+        row.put("latitude", 35.5);
+        row.put("longitude", 128.5);
+        row.put("status", "OPEN");
+        row.put("requesterId", UUID.randomUUID().toString());
+        row.put("createdAt", Timestamp.from(Instant.ofEpochSecond(1_750_000_000L)));
+        row.put("applicantCount", 3L);
+        row.put("contentPreview", "content");
+        row.put("difficulty", 1);
+        row.put("sortKey", sortKey);
+        return projectionFactory.createProjection(DdipEventSummaryView.class, row);
+    }
+
+    private Object[] candidate(UUID id, double latitude, double longitude, long createdAtSeconds) {
+        return new Object[]{id.toString(), latitude, longitude, BigDecimal.valueOf(createdAtSeconds), 1000, 1};
+    }
 }
@@ -0,0 +1,73 @@
+package com.knu.ddip.ddipevent.infrastructure.repository;
+
+import com.knu.ddip.ddipevent.domain.Interaction;
+import com.knu.ddip.ddipevent.infrastructure.DdipMapper;
+import com.knu.ddip.ddipevent.infrastructure.entity.InteractionEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InteractionRepositoryImplTest {
+
+    @InjectMocks
+    private InteractionRepositoryImpl interactionRepository;
+
+    @Mock
+    private InteractionJpaRepository interactionJpaRepository;
+
+    @Spy
+    private DdipMapper ddipMapper;
+
+    @DisplayName("커서가 없으면 최신 기록부터 조회")
+    @Test
+    void givenNoCursor_whenFindHistory_thenLatestPageIsReturned() {
+        // given
+        UUID ddipEventId = UUID.randomUUID();
+        given(interactionJpaRepository.findByDdipEventIdOrderBySeqDesc(ddipEventId, Limit.of(2)))
+                .willReturn(List.of(entity(ddipEventId, 7L), entity(ddipEventId, 3L)));
+
+        // when
+        List<Interaction> history = interactionRepository.findHistory(ddipEventId, null, 2);
+
+        // then
+        assertThat(history).extracting(Interaction::getSeq).containsExactly(7L, 3L);
+        verify(interactionJpaRepository, never()).findByDdipEventIdAndSeqLessThanOrderBySeqDesc(ddipEventId, null, Limit.of(2));
+    }
+
+    @DisplayName("커서가 있으면 커서보다 앞선 기록만 조회")
+    @Test
+    void givenCursor_whenFindHistory_thenOlderPageIsReturned() {
+        // given
+        UUID ddipEventId = UUID.randomUUID();
+        given(interactionJpaRepository.findByDdipEventIdAndSeqLessThanOrderBySeqDesc(ddipEventId, 3L, Limit.of(2)))
+                .willReturn(List.of(entity(ddipEventId, 1L)));
+
+        // when
+        List<Interaction> history = interactionRepository.findHistory(ddipEventId, 3L, 2);
+
+        // then
+        assertThat(history).extracting(Interaction::getSeq).containsExactly(1L);
+    }
+
+    private InteractionEntity entity(UUID ddipEventId, long seq) {
+        return InteractionEntity.builder()
+                .seq(seq)
+                .id(UUID.randomUUID())
+                .ddipEventId(ddipEventId)
+                .build();
+    }
+}
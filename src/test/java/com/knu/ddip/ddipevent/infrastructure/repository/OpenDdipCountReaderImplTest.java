@@ -0,0 +1,70 @@
+package com.knu.ddip.ddipevent.infrastructure.repository;
+
+import com.google.common.geometry.S2CellId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class OpenDdipCountReaderImplTest {
+
+    @Mock
+    private DdipEventJpaRepository ddipEventJpaRepository;
+
+    @InjectMocks
+    private OpenDdipCountReaderImpl openDdipCountReader;
+
+    private final S2CellId cell = S2CellId.fromToken("3565e19b84");
+
+    @DisplayName("cell_id >> shift 결과를 상위 셀로 복원")
+    @Test
+    void toParentCellIdTest() {
+        for (int level : new int[]{13, 15, 17}) {
+            // given
+            long parentKey = cell.id() >>> OpenDdipCountReaderImpl.shiftOf(level);
+
+            // when
+            S2CellId parent = OpenDdipCountReaderImpl.toParentCellId(parentKey, level);
+
+            // then
+            assertThat(parent).isEqualTo(cell.parent(level));
+        }
+    }
+
+    @DisplayName("요청한 셀만 집계하고 OPEN 띱이 없는 셀은 0")
+    @Test
+    void countOpenDdipsByCellIdsTest() {
+        // given
+        S2CellId parent = cell.parent(15);
+        S2CellId emptyParent = parent.next();
+        S2CellId outsideParent = emptyParent.next();
+        int shift = OpenDdipCountReaderImpl.shiftOf(15);
+
+        given(ddipEventJpaRepository.countOpenByParentCell(eq(shift), anyLong(), anyLong())).willReturn(List.of(
+                new Object[]{BigInteger.valueOf(parent.id() >>> shift), 3L},
+                new Object[]{BigInteger.valueOf(outsideParent.id() >>> shift), 2L}
+        ));
+
+        // when
+        Map<String, Long> counts = openDdipCountReader.countOpenDdipsByCellIds(15,
+                List.of(parent.toToken(), emptyParent.toToken()));
+
+        // then
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of(
+                parent.toToken(), 3L,
+                emptyParent.toToken(), 0L
+        ));
+    }
+}
@@ -0,0 +1,104 @@
+package com.knu.ddip.location.application.service;
+
+import com.google.common.geometry.S2CellId;
+import com.knu.ddip.location.application.dto.CellHeatmapResponse;
+import com.knu.ddip.location.application.dto.CellOccupancyResponse;
+import com.knu.ddip.location.application.dto.CellSummaryResponse;
+import com.knu.ddip.location.application.dto.ViewportCells;
+import com.knu.ddip.location.application.dto.ViewportCellsResponse;
+import com.knu.ddip.location.application.dto.ViewportRequest;
+import com.knu.ddip.location.application.util.S2Converter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CellStatusServiceTest {
+
+    @Mock
+    private LocationReader locationReader;
+
+    @Mock
+    private LocationService locationService;
+
+    @Mock
+    private OpenDdipCountReader openDdipCountReader;
+
+    @Spy
+    private S2Converter s2Converter;
+
+    @InjectMocks
+    private CellStatusService cellStatusService;
+
+    @DisplayName("셀별 인원 수를 셀 id 순으로 정렬하고 0명인 셀은 제외")
+    @Test
+    void getHeatmapTest() {
+        // given
+        given(locationReader.findAllCellOccupancies()).willReturn(Map.of(
+                "3565e19bc4", 2,
+                "3565e19b84", 3,
+                "3565e170b4", 0
+        ));
+
+        // when
+        CellHeatmapResponse heatmap = cellStatusService.getHeatmap();
+
+        // then
+        assertThat(heatmap.totalUsersCount()).isEqualTo(5);
+        assertThat(heatmap.cells()).containsExactly(
+                CellOccupancyResponse.of("3565e19b84", 3),
+                CellOccupancyResponse.of("3565e19bc4", 2)
+        );
+    }
+
+    @Test
+    void getAllCurrentUsersCountTest() {
+        // given
+        given(locationReader.countOnlineUsers()).willReturn(7L);
+
+        // when
+        int count = cellStatusService.getAllCurrentUsersCount();
+
+        // then
+        assertThat(count).isEqualTo(7);
+    }
+
+    @DisplayName("레벨 17 인원 수를 화면 레벨의 상위 셀로 합산")
+    @Test
+    void getViewportCellsTest() {
+        // given
+        String parent = S2CellId.fromToken("3565e19b84").parent(15).toToken();
+        String otherParent = S2CellId.fromToken("3565e19b84").parent(15).next().toToken();
+
+        given(locationService.getViewportCells(anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                .willReturn(ViewportCells.of(15, List.of(parent, otherParent)));
+        given(locationReader.findAllCellOccupancies()).willReturn(Map.of(
+                "3565e19b84", 3,
+                "3565e19bc4", 2
+        ));
+        given(openDdipCountReader.countOpenDdipsByCellIds(15, List.of(parent, otherParent)))
+                .willReturn(Map.of(parent, 4L));
+
+        // when
+        ViewportCellsResponse response = cellStatusService.getViewportCells(
+                new ViewportRequest(35.88, 128.60, 35.895, 128.62));
+
+        // then
+        assertThat(response.level()).isEqualTo(15);
+        assertThat(response.cells()).containsExactly(
+                CellSummaryResponse.of(parent, 5, 4L),
+                CellSummaryResponse.of(otherParent, 0, 0L)
+        );
+    }
+}
@@ -5,9 +5,12 @@ import com.knu.ddip.config.MySQLTestContainerConfig;
 import com.knu.ddip.config.RedisTestContainerConfig;
 import com.knu.ddip.config.TestEnvironmentConfig;
 import com.knu.ddip.location.application.dto.UpdateMyLocationRequest;
+import com.knu.ddip.location.application.dto.ViewportCells;
+import com.knu.ddip.location.application.util.S2Constants;
 import com.knu.ddip.location.application.util.S2Converter;
 import com.knu.ddip.location.application.util.UuidBase64Utils;
 import com.knu.ddip.location.exception.LocationNotFoundException;
+import com.knu.ddip.location.infrastructure.entity.LocationEntity;
 import com.knu.ddip.location.infrastructure.repository.LocationJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -336,6 +339,26 @@ class LocationServiceTest {
         assertThat(redisTemplate.opsForZSet().score(cellIdExpiriesKey, encodedUserId)).isNotNull();
     }
 
+    @DisplayName("GeoJson 재적재 시 바뀐 셀만 추가/삭제")
+    @Test
+    void loadAndSaveGeoJsonFeaturesDiffTest() {
+        // given
+        List<String> cellIds = locationJpaRepository.findAll().stream()
+                .map(LocationEntity::getCellId)
+                .toList();
+        String removedCellId = cellIds.get(0);
+        locationJpaRepository.deleteById(removedCellId);
+        locationJpaRepository.save(LocationEntity.create("staleCellId"));
+
+        // when
+        locationService.loadAndSaveGeoJsonFeatures();
+
+        // then
+        assertThat(locationJpaRepository.findAll()).extracting(LocationEntity::getCellId)
+                .containsExactlyInAnyOrderElementsOf(cellIds);
+        assertThat(locationJpaRepository.existsById("staleCellId")).isFalse();
+    }
+
     @Test
     void getNeighborCellIdsToRetrieveNearDdipRequestTest() {
         // given
@@ -367,4 +390,38 @@ class LocationServiceTest {
         assertThat(neighborCellIds).hasSize(56);
     }
 
-}
\ No newline at end of file
+    @DisplayName("좁은 화면은 레벨 17 셀을 그대로 조회")
+    @Test
+    void getViewportCellsWithNarrowViewportTest() {
+        // given
+        double minLat = 35.8878766;
+        double minLng = 128.6089617;
+        double maxLat = 35.8895281;
+        double maxLng = 128.6112577;
+
+        // when
+        ViewportCells viewportCells = locationService.getViewportCells(minLat, minLng, maxLat, maxLng);
+
+        // then
+        assertThat(viewportCells.level()).isEqualTo(17);
+        assertThat(viewportCells.cellIds()).hasSize(21);
+    }
+
+    @DisplayName("넓은 화면은 상위 레벨 셀로 조회해서 셀 수가 일정 이하로 유지")
+    @Test
+    void getViewportCellsWithWideViewportTest() {
+        // given
+        double minLat = 35.0;
+        double minLng = 127.0;
+        double maxLat = 37.0;
+        double maxLng = 130.0;
+
+        // when
+        ViewportCells viewportCells = locationService.getViewportCells(minLat, minLng, maxLat, maxLng);
+
+        // then
+        assertThat(viewportCells.level()).isEqualTo(13);
+        assertThat(viewportCells.cellIds()).isNotEmpty()
+                .hasSizeLessThanOrEqualTo(S2Constants.MAX_VIEWPORT_CELLS);
+    }
+}
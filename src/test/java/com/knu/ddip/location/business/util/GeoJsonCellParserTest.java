@@ -0,0 +1,99 @@
+package com.knu.ddip.location.application.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.ddip.location.application.dto.GeoJsonCells;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.knu.ddip.location.application.service.LocationService.KNU_GEOJSON_FEATURE_FILENAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeoJsonCellParserTest {
+
+    private final GeoJsonCellParser parser = new GeoJsonCellParser(new ObjectMapper());
+
+    @DisplayName("feature의 properties.id만 정렬, 중복 제거해서 추출")
+    @Test
+    void parseTest() throws IOException {
+        // given
+        String geoJson = """
+                {"type":"FeatureCollection","features":[
+                  {"type":"Feature","geometry":{"type":"Polygon","coordinates":[[[128.6,35.8],[128.7,35.9]]]},
+                   "properties":{"id":"3565e19bc4","level":17,"extra":{"id":"nested"}}},
+                  {"type":"Feature","properties":{"level":17,"id":"3565e19b84"}},
+                  {"type":"Feature","properties":{"id":"3565e19bc4"}},
+                  {"type":"Feature","geometry":null}
+                ],"name":"knu"}
+                """;
+
+        // when
+        GeoJsonCells cells = parse(geoJson);
+
+        // then
+        assertThat(cells.cellIds()).containsExactly("3565e19b84", "3565e19bc4");
+        assertThat(cells.hash()).hasSize(64);
+    }
+
+    @DisplayName("셀 목록이 같으면 좌표, 순서, 포맷이 달라도 해시가 같음")
+    @Test
+    void hashTest() throws IOException {
+        // given
+        String geoJson = """
+                {"features":[{"properties":{"id":"3565e19b84"}},{"properties":{"id":"3565e19bc4"}}]}
+                """;
+        String reordered = """
+                {
+                  "type": "FeatureCollection",
+                  "features": [
+                    {"geometry": {"coordinates": [1, 2]}, "properties": {"id": "3565e19bc4"}},
+                    {"properties": {"id": "3565e19b84", "level": 17}}
+                  ]
+                }
+                """;
+        String changed = """
+                {"features":[{"properties":{"id":"3565e19b84"}},{"properties":{"id":"3565e170b4"}}]}
+                """;
+
+        // when
+        GeoJsonCells original = parse(geoJson);
+
+        // then
+        assertThat(parse(reordered).hash()).isEqualTo(original.hash());
+        assertThat(parse(changed).hash()).isNotEqualTo(original.hash());
+    }
+
+    @Test
+    void parseCampusGeoJsonTest() throws IOException {
+        // given
+        ClassPathResource resource = new ClassPathResource(KNU_GEOJSON_FEATURE_FILENAME);
+
+        // when
+        GeoJsonCells cells;
+        try (InputStream is = resource.getInputStream()) {
+            cells = parser.parse(is);
+        }
+
+        // then
+        assertThat(cells.cellIds()).isNotEmpty()
+                .doesNotHaveDuplicates()
+                .isSorted();
+    }
+
+    @Test
+    void invalidGeoJsonTest() {
+        // when // then
+        assertThatThrownBy(() -> parse("[1, 2, 3]"))
+                .isInstanceOf(IOException.class);
+    }
+
+    private GeoJsonCells parse(String geoJson) throws IOException {
+        return parser.parse(new ByteArrayInputStream(geoJson.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,140 @@
+package com.knu.ddip.location.infrastructure.ingest;
+
+import com.knu.ddip.location.infrastructure.presence.PresenceCodecs;
+import com.knu.ddip.location.infrastructure.presence.SaveUserLocationScript;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LocationIngestPipelineTest {
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private RedisConnection connection;
+
+    @Mock
+    private RedisScriptingCommands scriptingCommands;
+
+    private MeterRegistry meterRegistry;
+
+    private LocationIngestPipeline pipeline;
+
+    private final UUID userA = UUID.randomUUID();
+    private final UUID userB = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PresenceCodecs presenceCodecs = new PresenceCodecs();
+        ReflectionTestUtils.setField(presenceCodecs, "encoding", "string");
+        presenceCodecs.init();
+
+        pipeline = new LocationIngestPipeline(connectionFactory, meterRegistry, new SaveUserLocationScript(), presenceCodecs);
+        ReflectionTestUtils.setField(pipeline, "mode", "sync");
+        ReflectionTestUtils.setField(pipeline, "maxLatencyMs", 50L);
+        ReflectionTestUtils.setField(pipeline, "maxBatchSize", 500);
+        ReflectionTestUtils.setField(pipeline, "maxPending", 10000);
+        pipeline.init();
+    }
+
+    @DisplayName("같은 유저의 위치 갱신은 마지막 값 하나로 합쳐짐")
+    @Test
+    void coalesceTest() {
+        // when
+        pipeline.submit("cellA", false, userA);
+        pipeline.submit("cellB", false, userA);
+        pipeline.submit("cellA", false, userB);
+
+        // then
+        assertThat(pipeline.pendingCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("location.ingest.accepted").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("location.ingest.coalesced").count()).isEqualTo(1);
+    }
+
+    @DisplayName("대기열이 가득 차면 새로운 유저의 갱신은 버림")
+    @Test
+    void dropWhenFullTest() {
+        // given
+        ReflectionTestUtils.setField(pipeline, "maxPending", 1);
+
+        // when
+        pipeline.submit("cellA", false, userA);
+        pipeline.submit("cellA", false, userB);
+        pipeline.submit("cellB", false, userA);
+
+        // then
+        assertThat(pipeline.pendingCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("location.ingest.dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("location.ingest.coalesced").count()).isEqualTo(1);
+    }
+
+    @DisplayName("flush 시 유저별 EVALSHA를 파이프라인으로 전송")
+    @Test
+    void flushTest() {
+        // given
+        given(connectionFactory.getConnection()).willReturn(connection);
+        given(connection.scriptingCommands()).willReturn(scriptingCommands);
+
+        pipeline.submit("cellA", false, userA);
+        pipeline.submit("cellB", false, userA);
+        pipeline.submit("cellA", true, userB);
+
+        // when
+        pipeline.flush();
+
+        // then
+        assertThat(pipeline.pendingCount()).isZero();
+        assertThat(meterRegistry.counter("location.ingest.flushed").count()).isEqualTo(2);
+        verify(scriptingCommands).scriptLoad(any(byte[].class));
+        verify(connection).openPipeline();
+        verify(scriptingCommands, times(2)).evalSha(any(byte[].class), eq(ReturnType.STATUS), eq(6), any(byte[][].class));
+        verify(connection).closePipeline();
+    }
+
+    @DisplayName("Redis 스크립트 캐시가 비워졌으면 다시 적재 후 재시도")
+    @Test
+    void reloadScriptOnNoScriptTest() {
+        // given
+        given(connectionFactory.getConnection()).willReturn(connection);
+        given(connection.scriptingCommands()).willReturn(scriptingCommands);
+        RedisPipelineException noScript = new RedisPipelineException("pipeline failed",
+                List.of(new RedisSystemException("NOSCRIPT No matching script.", null)));
+        willThrow(noScript).willReturn(List.of()).given(connection).closePipeline();
+
+        pipeline.submit("cellA", false, userA);
+
+        // when
+        pipeline.flush();
+
+        // then
+        verify(scriptingCommands, times(2)).scriptLoad(any(byte[].class));
+        verify(scriptingCommands, times(2)).evalSha(any(byte[].class), eq(ReturnType.STATUS), eq(6), any(byte[][].class));
+        assertThat(meterRegistry.counter("location.ingest.flushed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("location.ingest.dropped").count()).isZero();
+    }
+}
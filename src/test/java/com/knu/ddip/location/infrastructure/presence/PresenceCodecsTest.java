@@ -0,0 +1,147 @@
+package com.knu.ddip.location.infrastructure.presence;
+
+import com.google.common.geometry.S2CellId;
+import com.knu.ddip.location.application.util.LocationKeyFactory;
+import com.knu.ddip.location.application.util.UuidBase64Utils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PresenceCodecsTest {
+
+    private static final String CELL_ID = "3565e19b84";
+
+    @DisplayName("바이너리 인코딩은 8바이트 S2 id key와 16바이트 UUID member를 사용")
+    @Test
+    void binaryCodecTest() {
+        // given
+        PresenceCodec codec = PresenceCodecs.BINARY;
+        UUID userId = UUID.randomUUID();
+
+        // when
+        byte[] usersKey = codec.cellUsersKey(CELL_ID);
+        byte[] expiriesKey = codec.cellExpiriesKey(CELL_ID);
+        byte[] member = codec.member(userId);
+
+        // then
+        assertThat(usersKey).hasSize(3 + 8 + 2);
+        assertThat(ByteBuffer.wrap(usersKey, 3, 8).getLong()).isEqualTo(S2CellId.fromToken(CELL_ID).id());
+        assertThat(codec.usersKeyOf(expiriesKey)).isEqualTo(usersKey);
+        assertThat(member).hasSize(16);
+        assertThat(codec.decodeMember(member)).isEqualTo(userId);
+    }
+
+    @DisplayName("lua 스크립트가 prefix + 셀 값 + suffix로 만든 key는 users key와 같음")
+    @Test
+    void usersKeyFromCellValueTest() {
+        for (PresenceCodec codec : new PresenceCodec[]{PresenceCodecs.STRING, PresenceCodecs.BINARY}) {
+            // given
+            byte[] prefix = codec.usersKeyPrefix();
+            byte[] value = codec.cellValue(CELL_ID);
+            byte[] suffix = codec.usersKeySuffix();
+
+            // when
+            byte[] key = ByteBuffer.allocate(prefix.length + value.length + suffix.length)
+                    .put(prefix).put(value).put(suffix)
+                    .array();
+
+            // then
+            assertThat(key).isEqualTo(codec.cellUsersKey(CELL_ID));
+        }
+    }
+
+    @DisplayName("문자열 인코딩은 기존 key 형식을 유지하고 member를 바로 UUID로 디코딩")
+    @Test
+    void stringCodecTest() {
+        // given
+        PresenceCodec codec = PresenceCodecs.STRING;
+        UUID userId = UUID.randomUUID();
+        String encodedUserId = UuidBase64Utils.uuidToBase64String(userId);
+
+        // when // then
+        assertThat(new String(codec.cellUsersKey(CELL_ID), StandardCharsets.UTF_8))
+                .isEqualTo(LocationKeyFactory.createCellIdUsersKey(CELL_ID));
+        assertThat(new String(codec.userKey(userId), StandardCharsets.UTF_8))
+                .isEqualTo(LocationKeyFactory.createUserIdKey(encodedUserId));
+        assertThat(new String(codec.usersKeyOf(codec.cellExpiriesKey(CELL_ID)), StandardCharsets.UTF_8))
+                .isEqualTo(LocationKeyFactory.createCellIdUsersKey(CELL_ID));
+        assertThat(codec.decodeMember(encodedUserId.getBytes(StandardCharsets.UTF_8))).isEqualTo(userId);
+    }
+
+    @DisplayName("dual 인코딩은 바이너리로 쓰고 두 형식을 모두 읽음")
+    @Test
+    void dualEncodingTest() {
+        // given
+        PresenceCodecs presenceCodecs = presenceCodecs("dual");
+        UUID userId = UUID.randomUUID();
+
+        // when
+        SaveUserLocationCommand command =
+                presenceCodecs.saveUserLocationCommand(CELL_ID, false, userId, 3600L, 1000L);
+
+        // then
+        assertThat(presenceCodecs.writer()).isSameAs(PresenceCodecs.BINARY);
+        assertThat(presenceCodecs.readers()).containsExactly(PresenceCodecs.BINARY, PresenceCodecs.STRING);
+        assertThat(command.numKeys()).isEqualTo(9);
+        assertThat(command.keysAndArgs().length).isEqualTo(9 + 10);
+        assertThat(command.keysAndArgs()[6]).isEqualTo(PresenceCodecs.STRING.userKey(userId));
+    }
+
+    @Test
+    void stringEncodingCommandTest() {
+        // given
+        PresenceCodecs presenceCodecs = presenceCodecs("string");
+
+        // when
+        SaveUserLocationCommand command =
+                presenceCodecs.saveUserLocationCommand(CELL_ID, true, UUID.randomUUID(), 3600L, 1000L);
+
+        // then
+        assertThat(presenceCodecs.readers()).containsExactly(PresenceCodecs.STRING);
+        assertThat(command.numKeys()).isEqualTo(6);
+        assertThat(new String(command.keysAndArgs()[3], StandardCharsets.UTF_8))
+                .startsWith("cell:active:");
+        assertThat(new String(command.keysAndArgs()[6], StandardCharsets.UTF_8)).isEqualTo(CELL_ID);
+        assertThat(new String(command.keysAndArgs()[10], StandardCharsets.UTF_8)).isEqualTo("1");
+    }
+
+    @DisplayName("expiry key에서 추출한 셀 값은 원래 셀 토큰으로 복원됨")
+    @Test
+    void cellValueOfExpiriesKeyTest() {
+        for (PresenceCodec codec : new PresenceCodec[]{PresenceCodecs.STRING, PresenceCodecs.BINARY}) {
+            // when
+            byte[] cellValue = codec.cellValueOf(codec.cellExpiriesKey(CELL_ID));
+
+            // then
+            assertThat(cellValue).isEqualTo(codec.cellValue(CELL_ID));
+            assertThat(codec.decodeCellValue(cellValue)).isEqualTo(CELL_ID);
+        }
+    }
+
+    @DisplayName("같은 셀의 expiry key는 항상 같은 활성 셀 shard에 들어감")
+    @Test
+    void activeCellShardTest() {
+        // given
+        byte[] expiriesKey = PresenceCodecs.BINARY.cellExpiriesKey(CELL_ID);
+
+        // when
+        int shard = PresenceCodecs.shardOf(expiriesKey);
+
+        // then
+        assertThat(shard).isBetween(0, PresenceCodecs.ACTIVE_CELL_SHARDS - 1);
+        assertThat(PresenceCodecs.shardOf(PresenceCodecs.BINARY.cellExpiriesKey(CELL_ID))).isEqualTo(shard);
+    }
+
+    private PresenceCodecs presenceCodecs(String encoding) {
+        PresenceCodecs presenceCodecs = new PresenceCodecs();
+        ReflectionTestUtils.setField(presenceCodecs, "encoding", encoding);
+        presenceCodecs.init();
+        return presenceCodecs;
+    }
+}
@@ -0,0 +1,135 @@
+package com.knu.ddip.location.infrastructure.registry;
+
+import com.google.common.geometry.S2Cell;
+import com.google.common.geometry.S2CellId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CampusCellRegistryTest {
+
+    @Test
+    void containsTest() {
+        // given
+        CampusCellRegistry registry = new CampusCellRegistry();
+
+        // when
+        registry.replaceAll(List.of("3565e19b84", "3565e19bc4", "3565e19b84"));
+
+        // then
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.contains("3565e19b84")).isTrue();
+        assertThat(registry.contains("3565e19bc4")).isTrue();
+        assertThat(registry.contains("3565e170b4")).isFalse();
+        assertThat(registry.contains(S2CellId.fromToken("3565e19b84").id())).isTrue();
+    }
+
+    @DisplayName("잘못된 토큰은 무시하고 포함되지 않은 것으로 판단")
+    @Test
+    void invalidTokenTest() {
+        // given
+        CampusCellRegistry registry = new CampusCellRegistry();
+
+        // when
+        registry.replaceAll(List.of("invalidCellId", "", "3565e19b84"));
+
+        // then
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.contains("invalidCellId")).isFalse();
+        assertThat(registry.contains((String) null)).isFalse();
+    }
+
+    @DisplayName("재적재 시 이전 셀 목록을 통째로 교체")
+    @Test
+    void replaceAllTest() {
+        // given
+        CampusCellRegistry registry = new CampusCellRegistry();
+        registry.replaceAll(List.of("3565e19b84"));
+
+        // when
+        registry.replaceAll(List.of("3565e19bc4"));
+
+        // then
+        assertThat(registry.contains("3565e19b84")).isFalse();
+        assertThat(registry.contains("3565e19bc4")).isTrue();
+    }
+
+    @Test
+    void toCellIdMatchesS2TokenTest() {
+        // given
+        List<String> tokens = List.of("3565e19b84", "3565e170b4", "1", "89c25a31", "b112966aaaaaaaab");
+
+        // when // then
+        for (String token : tokens) {
+            assertThat(CampusCellRegistry.toCellId(token)).isEqualTo(S2CellId.fromToken(token).id());
+        }
+    }
+
+    @DisplayName("상위 레벨 셀은 경북대 셀을 포함할 때만 포함된 것으로 판단")
+    @Test
+    void containsAtLevelTest() {
+        // given
+        S2CellId cell = S2CellId.fromToken("3565e19b84");
+        CampusCellRegistry registry = new CampusCellRegistry();
+
+        // when
+        registry.replaceAll(List.of("3565e19b84"));
+
+        // then
+        assertThat(registry.containsAtLevel(cell.id())).isTrue();
+        assertThat(registry.containsAtLevel(cell.parent(15).id())).isTrue();
+        assertThat(registry.containsAtLevel(cell.parent(13).id())).isTrue();
+        assertThat(registry.containsAtLevel(cell.parent(13).next().id())).isFalse();
+        // 집계하지 않는 레벨
+        assertThat(registry.containsAtLevel(cell.parent(14).id())).isFalse();
+    }
+
+    @Test
+    void boundsTest() {
+        // given
+        CampusCellRegistry registry = new CampusCellRegistry();
+
+        // when
+        registry.replaceAll(List.of("3565e19b84", "3565e19bc4"));
+
+        // then
+        assertThat(registry.bounds().contains(new S2Cell(S2CellId.fromToken("3565e19b84")).getRectBound())).isTrue();
+        assertThat(registry.bounds().contains(new S2Cell(S2CellId.fromToken("3565e19bc4")).getRectBound())).isTrue();
+    }
+
+    @DisplayName("id 구간 조회는 자식 셀을 모두 펼쳐서 필터링한 결과와 동일")
+    @Test
+    void forEachTokenInRangeTest() {
+        // given
+        S2CellId parent = S2CellId.fromToken("3565e19b84").parent(15);
+        List<String> tokens = new ArrayList<>();
+        for (S2CellId it = parent.childBegin(17); !it.equals(parent.childEnd(17)); it = it.next().next()) {
+            tokens.add(it.toToken());
+        }
+        // 구간 밖의 셀
+        tokens.add(parent.next().childBegin(17).toToken());
+        tokens.add(parent.prev().childBegin(17).toToken());
+
+        CampusCellRegistry registry = new CampusCellRegistry();
+        registry.replaceAll(tokens);
+
+        List<String> expected = new ArrayList<>();
+        for (S2CellId it = parent.childBegin(17); !it.equals(parent.childEnd(17)); it = it.next()) {
+            if (registry.contains(it.toToken())) {
+                expected.add(it.toToken());
+            }
+        }
+
+        // when
+        List<String> result = new ArrayList<>();
+        registry.forEachTokenInRange(parent.rangeMin().id(), parent.rangeMax().id(), result::add);
+
+        // then
+        assertThat(registry.countInRange(parent.rangeMin().id(), parent.rangeMax().id())).isEqualTo(8);
+        assertThat(result).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,124 @@
+package com.knu.ddip.location.infrastructure.registry;
+
+import com.google.common.geometry.S2CellId;
+import com.google.common.geometry.S2LatLng;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CellAdjacencyTableTest {
+
+    private static final int LEVEL = 17;
+
+    // 일청담
+    private final S2CellId center = S2CellId.fromLatLng(S2LatLng.fromDegrees(35.8886597, 128.612138)).parent(LEVEL);
+
+    @DisplayName("반경 1 이웃은 S2 getAllNeighbors 결과와 동일")
+    @Test
+    void radiusOneNeighborsTest() {
+        // given
+        List<S2CellId> neighbors = new ArrayList<>();
+        center.getAllNeighbors(LEVEL, neighbors);
+
+        List<String> tokens = new ArrayList<>();
+        tokens.add(center.toToken());
+        neighbors.forEach(neighbor -> tokens.add(neighbor.toToken()));
+
+        CampusCellRegistry registry = new CampusCellRegistry();
+        registry.replaceAll(tokens);
+
+        // when
+        List<String> result = new ArrayList<>();
+        registry.forEachNeighborToken(center.toToken(), 1, result::add);
+
+        // then
+        assertThat(registry.neighborCount(center.toToken(), 1)).isEqualTo(8);
+        assertThat(result).containsExactlyInAnyOrderElementsOf(tokens.subList(1, tokens.size()));
+    }
+
+    @DisplayName("영역 밖 이웃 셀은 테이블에서 제외")
+    @Test
+    void filterOutsideNeighborsTest() {
+        // given
+        List<S2CellId> neighbors = new ArrayList<>();
+        center.getAllNeighbors(LEVEL, neighbors);
+
+        CampusCellRegistry registry = new CampusCellRegistry();
+        registry.replaceAll(List.of(center.toToken(), neighbors.get(0).toToken(), neighbors.get(1).toToken()));
+
+        // when
+        List<String> result = new ArrayList<>();
+        registry.forEachNeighborToken(center.toToken(), 1, result::add);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(neighbors.get(0).toToken(), neighbors.get(1).toToken());
+    }
+
+    @DisplayName("반경 k 이웃은 (2k+1)^2 - 1 개의 셀")
+    @Test
+    void kRingNeighborsTest() {
+        // given
+        List<String> tokens = new ArrayList<>();
+        // 중심 기준 7x7 영역 전체를 등록
+        List<S2CellId> area = collectArea(center, 3);
+        area.forEach(cell -> tokens.add(cell.toToken()));
+
+        CampusCellRegistry registry = new CampusCellRegistry();
+        registry.replaceAll(tokens);
+
+        // when // then
+        assertThat(registry.neighborCount(center.toToken(), 1)).isEqualTo(8);
+        assertThat(registry.neighborCount(center.toToken(), 2)).isEqualTo(24);
+        assertThat(registry.neighborCount(center.toToken(), 3)).isEqualTo(48);
+    }
+
+    @Test
+    void unsupportedRadiusTest() {
+        // given
+        CampusCellRegistry registry = new CampusCellRegistry();
+        registry.replaceAll(List.of(center.toToken()));
+
+        // when // then
+        assertThatThrownBy(() -> registry.neighborCount(center.toToken(), 4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void unknownCellTest() {
+        // given
+        CampusCellRegistry registry = new CampusCellRegistry();
+        registry.replaceAll(List.of(center.toToken()));
+
+        // when
+        List<String> result = new ArrayList<>();
+        registry.forEachNeighborToken("3565e19b84", 1, result::add);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    private List<S2CellId> collectArea(S2CellId cell, int radius) {
+        List<S2CellId> area = new ArrayList<>(List.of(cell));
+        List<S2CellId> frontier = List.of(cell);
+        for (int r = 0; r < radius; r++) {
+            List<S2CellId> next = new ArrayList<>();
+            for (S2CellId f : frontier) {
+                List<S2CellId> neighbors = new ArrayList<>();
+                f.getAllNeighbors(LEVEL, neighbors);
+                for (S2CellId neighbor : neighbors) {
+                    if (!area.contains(neighbor)) {
+                        area.add(neighbor);
+                        next.add(neighbor);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return area;
+    }
+}
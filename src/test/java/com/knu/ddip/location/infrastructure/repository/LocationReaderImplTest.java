@@ -7,6 +7,7 @@ import com.knu.ddip.config.TestEnvironmentConfig;
 import com.knu.ddip.location.exception.LocationNotFoundException;
 import com.knu.ddip.location.infrastructure.entity.LocationEntity;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -48,8 +49,7 @@ class LocationReaderImplTest {
     @Test
     void validateLocationByValidCellIdTest() {
         // given
-        String validCellId = "validCellId";
-        locationJpaRepository.save(LocationEntity.create(validCellId));
+        String validCellId = "3565e19b84";
 
         // when // then
         assertDoesNotThrow(() -> locationReader.validateLocationByCellId(validCellId));
@@ -70,16 +70,17 @@ class LocationReaderImplTest {
     void findAllLocationsByCellIdInTest() {
         // given
         List<String> cellIds = List.of(
-                "findAllLocationsByCellIdInTest1",
-                "findAllLocationsByCellIdInTest2"
+                "3565e19b84",
+                "3565e19bc4"
+        );
+        List<String> requestCellIds = List.of(
+                "3565e19b84",
+                "3565e19bc4",
+                "findAllLocationsByCellIdInTest"
         );
-        List<LocationEntity> locations = cellIds.stream()
-                .map(LocationEntity::create)
-                .collect(Collectors.toList());
-        locationJpaRepository.saveAll(locations);
 
         // when
-        List<String> findCellIds = locationReader.findAllLocationsByCellIdIn(cellIds);
+        List<String> findCellIds = locationReader.findAllLocationsByCellIdIn(requestCellIds);
 
         // then
         assertThat(findCellIds).hasSize(2)
@@ -99,25 +100,68 @@ class LocationReaderImplTest {
                 .collect(Collectors.toList());
         locationJpaRepository.saveAll(locations);
 
-        List<String> userIds = List.of(
-                UUID.randomUUID().toString(),
-                UUID.randomUUID().toString()
+        List<UUID> userIds = List.of(
+                UUID.randomUUID(),
+                UUID.randomUUID()
         );
 
         for (int i = 0; i < 2; i++) {
             locationWriter.saveUserIdByCellIdAtomic(cellIds.get(i), false, userIds.get(i));
         }
         // 포함되지 않는 셀, 유저 데이터
-        locationWriter.saveUserIdByCellIdAtomic("notIncludedCellId", true, UUID.randomUUID().toString());
+        locationWriter.saveUserIdByCellIdAtomic("notIncludedCellId", true, UUID.randomUUID());
 
         // when
-        List<String> findCellIds = locationReader.findUserIdsByCellIds(cellIds);
+        List<UUID> findUserIds = locationReader.findUserIdsByCellIds(cellIds);
 
         // then
-        assertThat(findCellIds).hasSize(2)
+        assertThat(findUserIds).hasSize(2)
                 .containsAll(userIds);
     }
 
+    @DisplayName("위치 저장 스크립트가 셀별 인원 수와 전체 인원 수를 갱신")
+    @Test
+    void occupancyCountersTest() {
+        // given
+        String cellId = "3565e19b84";
+        String otherCellId = "3565e19bc4";
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+
+        locationWriter.saveUserIdByCellIdAtomic(cellId, false, userId);
+        locationWriter.saveUserIdByCellIdAtomic(cellId, false, otherUserId);
+        // 같은 셀 재저장은 중복 집계되지 않음
+        locationWriter.saveUserIdByCellIdAtomic(cellId, false, otherUserId);
+
+        // when
+        locationWriter.saveUserIdByCellIdAtomic(otherCellId, false, otherUserId);
+
+        // then
+        assertThat(locationReader.countUsersByCellId(cellId)).isEqualTo(1);
+        assertThat(locationReader.countUsersByCellId(otherCellId)).isEqualTo(1);
+        assertThat(locationReader.countOnlineUsers()).isEqualTo(2);
+        assertThat(locationReader.findAllCellOccupancies())
+                .containsEntry(cellId, 1)
+                .containsEntry(otherCellId, 1);
+    }
+
+    @DisplayName("만료 정리 시 셀 인원 수도 함께 감소")
+    @Test
+    void occupancyCountersAfterSweepTest() {
+        // given
+        String cellId = "3565e19b84";
+        locationWriter.saveUserIdByCellIdAtomic(cellId, false, UUID.randomUUID());
+
+        // when
+        long afterTtl = System.currentTimeMillis() + (LocationWriterImpl.TTL_SECONDS + 1) * 1000L;
+        locationWriter.cleanupExpiredUserLocations(afterTtl);
+
+        // then
+        assertThat(locationReader.countUsersByCellId(cellId)).isZero();
+        assertThat(locationReader.countOnlineUsers()).isZero();
+        assertThat(locationReader.findAllCellOccupancies()).doesNotContainKey(cellId);
+    }
+
     @Test
     void isCellIdNotInTargetAreaWithValidCellIdTest() {
         // given
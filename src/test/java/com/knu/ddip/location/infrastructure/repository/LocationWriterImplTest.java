@@ -4,6 +4,7 @@ import com.knu.ddip.config.IntegrationTestConfig;
 import com.knu.ddip.config.MySQLTestContainerConfig;
 import com.knu.ddip.config.RedisTestContainerConfig;
 import com.knu.ddip.config.TestEnvironmentConfig;
+import com.knu.ddip.location.application.util.UuidBase64Utils;
 import com.knu.ddip.location.infrastructure.entity.LocationEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static com.knu.ddip.location.application.util.LocationKeyFactory.*;
@@ -60,7 +62,8 @@ class LocationWriterImplTest {
     @Test
     void saveUserIdByCellIdAtomicTest() {
         // given
-        String userId = "saveUserIdByCellIdTest";
+        UUID userId = UUID.randomUUID();
+        String encodedUserId = UuidBase64Utils.uuidToBase64String(userId);
         String cellId = "saveUserIdByCellIdTest";
 
         String cellIdUsersKey = createCellIdUsersKey(cellId);
@@ -70,8 +73,8 @@ class LocationWriterImplTest {
         locationWriter.saveUserIdByCellIdAtomic(cellId, false, userId);
 
         // then
-        assertThat(redisTemplate.opsForSet().isMember(cellIdUsersKey, cellId)).isTrue();
-        assertThat(redisTemplate.opsForZSet().score(cellIdExpiriesKey, cellId)).isNotNull();
+        assertThat(redisTemplate.opsForSet().isMember(cellIdUsersKey, encodedUserId)).isTrue();
+        assertThat(redisTemplate.opsForZSet().score(cellIdExpiriesKey, encodedUserId)).isNotNull();
     }
 
     @Test
@@ -109,6 +112,9 @@ class LocationWriterImplTest {
         redisTemplate.opsForSet().add(cellUsersKey, userId2);
         redisTemplate.opsForZSet().add(cellExpiryKey, userId2, (double) expireAt2);
 
+        // 활성 셀 목록 도입 이전에 저장된 key
+        locationWriter.registerActiveCells();
+
         // when
         locationWriter.cleanupExpiredUserLocations(now);
 
@@ -116,4 +122,25 @@ class LocationWriterImplTest {
         assertThat(redisTemplate.opsForSet().isMember(cellUsersKey, userId)).isFalse();
         assertThat(redisTemplate.opsForZSet().score(cellExpiryKey, userId)).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void sweepExpiredUserLocationsTest() {
+        // given
+        UUID userId = UUID.randomUUID();
+        String encodedUserId = UuidBase64Utils.uuidToBase64String(userId);
+        String cellId = "sweepExpiredUserLocationsTest";
+
+        String cellIdUsersKey = createCellIdUsersKey(cellId);
+        String cellIdExpiriesKey = createCellIdExpiriesKey(cellId);
+
+        locationWriter.saveUserIdByCellIdAtomic(cellId, false, userId);
+
+        // when
+        long afterTtl = System.currentTimeMillis() + (LocationWriterImpl.TTL_SECONDS + 1) * 1000L;
+        locationWriter.cleanupExpiredUserLocations(afterTtl);
+
+        // then
+        assertThat(redisTemplate.opsForSet().isMember(cellIdUsersKey, encodedUserId)).isFalse();
+        assertThat(redisTemplate.opsForZSet().score(cellIdExpiriesKey, encodedUserId)).isNull();
+    }
+}
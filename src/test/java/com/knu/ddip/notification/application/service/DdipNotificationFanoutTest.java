@@ -0,0 +1,165 @@
+package com.knu.ddip.notification.application.service;
+
+import com.knu.ddip.ddipevent.application.dto.DdipEventSummary;
+import com.knu.ddip.ddipevent.application.event.DdipChangeType;
+import com.knu.ddip.ddipevent.application.event.DdipChangedEvent;
+import com.knu.ddip.ddipevent.domain.DdipStatus;
+import com.knu.ddip.location.application.service.LocationService;
+import com.knu.ddip.location.exception.LocationNotFoundException;
+import com.knu.ddip.notification.infrastructure.sender.InMemoryNotificationSender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DdipNotificationFanoutTest {
+
+    @Mock
+    private LocationService locationService;
+
+    private final InMemoryNotificationSender sender = new InMemoryNotificationSender();
+    private MeterRegistry meterRegistry;
+    private DdipNotificationFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        fanout = new DdipNotificationFanout(locationService, sender, meterRegistry);
+        ReflectionTestUtils.setField(fanout, "batchSize", 100);
+        ReflectionTestUtils.setField(fanout, "backoffMs", 1L);
+        fanout.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanout.shutdown();
+    }
+
+    @DisplayName("수신자를 배치 크기로 나눠 모두 한 번씩 전송")
+    @Test
+    void batchTest() throws InterruptedException {
+        // given
+        DdipEventSummary summary = summary();
+        List<UUID> recipients = recipients(250);
+        given(locationService.getNeighborRecipientUserIds(summary.requesterId(), summary.latitude(), summary.longitude()))
+                .willReturn(recipients);
+
+        // when
+        fanout.onDdipChanged(DdipChangedEvent.created(summary));
+
+        // then
+        assertThat(sender.awaitBatches(3, 5000)).isTrue();
+        // 수신자 수 메트릭은 전송이 끝난 뒤에 기록됨
+        waitUntil(() -> meterRegistry.counter("notification.recipients.sent").count() == 250);
+        assertThat(sender.sentBatches()).extracting(List::size).containsExactlyInAnyOrder(100, 100, 50);
+        assertThat(sender.sentBatches().stream().flatMap(List::stream).toList()).containsExactlyInAnyOrderElementsOf(recipients);
+        assertThat(meterRegistry.counter("notification.recipients.sent").count()).isEqualTo(250);
+    }
+
+    @DisplayName("전송 실패한 배치는 최대 횟수까지 재시도하고, 넘으면 그 배치만 버림")
+    @Test
+    void retryTest() throws InterruptedException {
+        // given
+        ReflectionTestUtils.setField(fanout, "batchSize", 1000);
+        DdipEventSummary first = summary();
+        DdipEventSummary second = summary();
+        given(locationService.getNeighborRecipientUserIds(any(), anyDouble(), anyDouble())).willReturn(recipients(10));
+
+        // when
+        sender.failNext(2);
+        fanout.fanOut(first);
+        assertThat(sender.awaitBatches(1, 5000)).isTrue();
+
+        sender.failNext(3);
+        fanout.fanOut(second);
+        waitUntil(() -> meterRegistry.counter("notification.batch.failed").count() == 1);
+
+        // then
+        assertThat(sender.attempts()).isEqualTo(6);
+        assertThat(meterRegistry.counter("notification.batch.sent").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notification.batch.retry").count()).isEqualTo(4);
+    }
+
+    @DisplayName("전송이 밀려 있어도 생성 쪽 호출은 바로 반환하고, 밀린 팬아웃이 한도를 넘으면 버림")
+    @Test
+    void backpressureTest() throws InterruptedException {
+        // given
+        fanout.shutdown();
+        ReflectionTestUtils.setField(fanout, "maxPending", 2);
+        // 배치 하나가 막혀 있는 동안 받아들인 팬아웃이 모두 대기 중으로 남도록
+        ReflectionTestUtils.setField(fanout, "maxInFlightBatches", 1);
+        fanout.init();
+        CountDownLatch gate = sender.hold();
+        given(locationService.getNeighborRecipientUserIds(any(), anyDouble(), anyDouble())).willReturn(recipients(1000));
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            fanout.onDdipChanged(DdipChangedEvent.created(summary()));
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(elapsedMs).isLessThan(1000);
+        assertThat(meterRegistry.counter("notification.fanout.rejected").count()).isEqualTo(3);
+
+        gate.countDown();
+        assertThat(sender.awaitBatches(20, 5000)).isTrue();
+    }
+
+    @DisplayName("생성 외 이벤트와 경북대 밖 띱은 알림을 보내지 않음")
+    @Test
+    void skipTest() throws InterruptedException {
+        // given
+        DdipEventSummary outside = summary();
+        given(locationService.getNeighborRecipientUserIds(any(), anyDouble(), anyDouble()))
+                .willThrow(new LocationNotFoundException("위치를 찾을 수 없습니다."));
+
+        // when
+        fanout.onDdipChanged(DdipChangedEvent.of(UUID.randomUUID(), DdipChangeType.APPLIED));
+        fanout.fanOut(outside);
+
+        // then
+        assertThat(meterRegistry.counter("notification.fanout.skipped").count()).isEqualTo(1);
+        assertThat(sender.attempts()).isZero();
+        verify(locationService, times(1)).getNeighborRecipientUserIds(any(), anyDouble(), anyDouble());
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private List<UUID> recipients(int count) {
+        return new ArrayList<>(IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList());
+    }
+
+    private DdipEventSummary summary() {
+        return new DdipEventSummary(UUID.randomUUID(), "title", 1000, 35.8886597, 128.612138, DdipStatus.OPEN,
+                UUID.randomUUID(), Instant.now(), 0, "content", 1);
+    }
+}
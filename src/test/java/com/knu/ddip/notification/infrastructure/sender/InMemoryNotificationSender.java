@@ -0,0 +1,66 @@
+package com.knu.ddip.notification.infrastructure.sender;
+
+import com.knu.ddip.notification.application.dto.DdipNotification;
+import com.knu.ddip.notification.application.service.NotificationSender;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 테스트용 전송 채널, 보낸 배치를 메모리에 쌓고 실패와 지연을 흉내냄
+public class InMemoryNotificationSender implements NotificationSender {
+
+    private final Queue<List<UUID>> sentBatches = new ConcurrentLinkedQueue<>();
+    private final Semaphore sent = new Semaphore(0);
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final AtomicInteger attempts = new AtomicInteger();
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    @Override
+    public void send(List<UUID> recipientIds, DdipNotification notification) {
+        attempts.incrementAndGet();
+        try {
+            gate.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        if (failuresLeft.getAndUpdate(left -> left > 0 ? left - 1 : left) > 0) {
+            throw new IllegalStateException("전송 실패");
+        }
+        sentBatches.add(recipientIds);
+        sent.release();
+    }
+
+    // 다음 n번의 전송을 실패시킴
+    public void failNext(int n) {
+        failuresLeft.set(n);
+    }
+
+    // 반환된 latch를 countDown 하기 전까지 전송을 멈춤
+    public CountDownLatch hold() {
+        gate = new CountDownLatch(1);
+        return gate;
+    }
+
+    public boolean awaitBatches(int count, long timeoutMs) throws InterruptedException {
+        if (!sent.tryAcquire(count, timeoutMs, TimeUnit.MILLISECONDS)) {
+            return false;
+        }
+        sent.release(count);
+        return true;
+    }
+
+    public List<List<UUID>> sentBatches() {
+        return List.copyOf(sentBatches);
+    }
+
+    public int attempts() {
+        return attempts.get();
+    }
+}